@@ -0,0 +1,81 @@
+package com.example.lastproject.aop;
+
+import com.example.lastproject.common.annotation.RetryOnConflict;
+import com.example.lastproject.common.enums.ErrorCode;
+import com.example.lastproject.common.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+@Slf4j
+public class RetryOnConflictAop {
+
+    /*
+    낙관적 락 충돌 재시도
+    - @Transactional 보다 바깥에서 실행되어야 매 시도가 새 트랜잭션에서 엔티티를 다시 읽음
+      (트랜잭션 어드바이스는 LOWEST_PRECEDENCE 이므로 그보다 한 단계 앞에 둠)
+    - 이미 바깥 트랜잭션 안에서 호출되었다면 그 트랜잭션이 롤백 전용이 되므로 재시도하지 않고 그대로 던짐
+    - 재시도는 지수 백오프 + 무작위 대기로 같은 파티를 수정하는 요청끼리 다시 부딪히지 않게 함
+    - 충돌 / 재시도 / 포기 횟수를 메서드별로 기록해 노드를 늘렸을 때 충돌률을 확인
+     */
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        int maxAttempts = Math.max(1, retryOnConflict.maxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Object result = joinPoint.proceed();
+                if (attempt > 1) {
+                    counter("recovered", method).increment();
+                }
+                return result;
+            } catch (OptimisticLockingFailureException e) {
+                counter("conflict", method).increment();
+                if (attempt >= maxAttempts) {
+                    counter("exhausted", method).increment();
+                    log.warn("Optimistic lock conflict on {} after {} attempts", method, attempt);
+                    throw new CustomException(ErrorCode.PARTY_UPDATE_CONFLICT);
+                }
+                log.debug("Optimistic lock conflict on {} (attempt {}), retrying", method, attempt);
+                backoff(retryOnConflict.backoffMs(), attempt);
+            }
+        }
+    }
+
+    private Counter counter(String result, String method) {
+        return meterRegistry.counter("party.optimistic_lock", "result", result, "method", method);
+    }
+
+    private void backoff(long backoffMs, int attempt) {
+        long delay = backoffMs << (attempt - 1);
+        try {
+            Thread.sleep(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.PARTY_UPDATE_CONFLICT);
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.example.lastproject.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌 시 새 트랜잭션으로 다시 실행
+ * 여러 번 실행해도 결과가 같은(멱등한) 서비스 메서드에만 사용
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    // 처음 실행을 포함한 최대 실행 횟수
+    int maxAttempts() default 3;
+
+    // 재시도 전 기본 대기 시간 (재시도마다 두 배, 무작위로 분산)
+    long backoffMs() default 20;
+
+}
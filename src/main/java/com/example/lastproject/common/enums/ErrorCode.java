@@ -51,10 +51,14 @@ public enum ErrorCode {
     INVALID_ITEM_COUNT(HttpStatus.BAD_REQUEST, "개수를 입력해야 합니다."),
     NOT_PARTY_LEADER(HttpStatus.BAD_REQUEST, "이 작업은 파티장만 수행할 수 있습니다."),
     PARTY_NOT_DONE(HttpStatus.BAD_REQUEST, "장보기 완료가 되지 않았습니다."),
+    PARTY_FULL(HttpStatus.CONFLICT, "파티 인원이 모두 찼습니다."),
+    PARTY_UPDATE_CONFLICT(HttpStatus.CONFLICT, "다른 요청과 동시에 변경되었습니다. 다시 시도해 주세요."),
 
     // PartyMember ErrorCode
     PARTY_MEMBER_NOT_FOUND(HttpStatus.NOT_FOUND, "파티 멤버를 찾을 수 없습니다."),
     ALREADY_PARTY_MEMBER(HttpStatus.BAD_REQUEST, "같은 파티에 중복으로 참가 신청할 수 없습니다."),
+    INVALID_INVITE_STATUS(HttpStatus.BAD_REQUEST, "대기 상태는 직접 지정할 수 없습니다."),
+    PARTY_LEADER_CANNOT_LEAVE(HttpStatus.BAD_REQUEST, "파티장은 파티를 나갈 수 없습니다. 파티를 취소해 주세요."),
 
     // Market ErrorCode
     MARKET_NOT_FOUND(HttpStatus.NOT_FOUND, "마켓 정보를 찾을 수 없습니다."),
@@ -76,6 +80,7 @@ public enum ErrorCode {
     // Chat ErrorCode
     CHATROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."),
     CHATROOM_RESIST_DUPLICATION(HttpStatus.BAD_REQUEST, "이미 존재하는 채팅방입니다"),
+    CHATROOM_ACCESS_DENIED(HttpStatus.FORBIDDEN, "파티에 참여한 사용자만 채팅할 수 있습니다."),
 
     // OpenApi ErrorCode
     API_CONNECTION_ERROR(HttpStatus.BAD_REQUEST, "API 요청이 잘못되었습니다."),
@@ -0,0 +1,55 @@
+package com.example.lastproject.common.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AfterCommit {
+
+    /*
+    현재 트랜잭션의 결과에 맞춰 작업을 실행
+    - 캐시 / Redis / 메시지처럼 DB 와 함께 롤백되지 않는 작업은 커밋이 확정된 뒤에 실행해야 함
+    - 트랜잭션 밖에서 호출하면 이미 반영된 것으로 보고 바로 실행 (롤백 작업은 실행하지 않음)
+    - 커밋 이후 작업은 트랜잭션 자원을 쓸 수 없으므로, DB 작업이 필요하면 새 트랜잭션(REQUIRES_NEW)을 열어야 함
+     */
+
+    /**
+     * 커밋 이후에 실행, 트랜잭션이 없으면 바로 실행
+     *
+     * @param action 실행할 작업
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 롤백된 경우에만 실행, 트랜잭션이 없으면 실행하지 않음
+     *
+     * @param action 실행할 작업
+     */
+    public static void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+}
@@ -1,10 +1,12 @@
 package com.example.lastproject.config;
 
+import com.example.lastproject.domain.notification.codec.SmileGenericRedisSerializer;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.hibernate5.jakarta.Hibernate5JakartaModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -16,9 +18,14 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @Configuration
 public class RedisConfig {
 
+    // 해시에 저장하는 캐시 값 형식 (smile: 바이너리, json: 기존 JSON)
+    @Value("${redis.cache.format:smile}")
+    private String cacheFormat;
+
     /**
      * 어플리케이션에서 사용할 redisTemplate 설정
      * ChatMessage의 필드인 LocalDatetime타입 createdAt의 매핑을 위한 설정 포함
+     * 해시 값(캐시)은 redis.cache.format 에 따라 Smile 로 저장하고, 채팅 pub/sub 메시지는 구독 측이 문자열로 읽으므로 JSON 유지
      */
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
@@ -38,7 +45,7 @@ public class RedisConfig {
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(serializer);
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
-        redisTemplate.setHashValueSerializer(serializer);
+        redisTemplate.setHashValueSerializer(new SmileGenericRedisSerializer(objectMapper, "smile".equalsIgnoreCase(cacheFormat)));
 
         return redisTemplate;
     }
@@ -2,6 +2,7 @@ package com.example.lastproject.config;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -24,8 +25,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
     private TaskScheduler taskScheduler;
 
+    // @Scheduled 용 taskScheduler 와 구분하기 위해 메시지 브로커 전용 스케줄러를 이름으로 주입
     @Autowired
-    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler taskScheduler) {
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
         this.taskScheduler = taskScheduler;
     }
 
@@ -9,6 +9,7 @@ import com.example.lastproject.domain.chat.entity.ChatMessage;
 import com.example.lastproject.domain.chat.entity.ChatRoom;
 import com.example.lastproject.domain.chat.repository.ChatMessageRepository;
 import com.example.lastproject.domain.chat.repository.ChatRoomRepository;
+import com.example.lastproject.domain.partymember.service.PartyMembershipCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,12 +25,14 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     private final ChatRoomRepository chatRoomRepository;
     private final RedisPublisher redisPublisher;
     private final RedisMessageListener redisMessageListener;
+    private final PartyMembershipCache partyMembershipCache;
 
     /**
      * 입력한 채팅메세지를 DB에 저장 후 반환하는 메서드
      *
      * @param chatRoomId         : 채팅방 Id
      * @param chatMessageRequest : 채팅타입, 내용, 보낸사람
+     * @throws CustomException CHATROOM_ACCESS_DENIED: 파티에 승인된 사용자가 아닌 경우
      */
     @Transactional
     public void sendMessage(Long chatRoomId, ChatMessageRequest chatMessageRequest, AuthUser authUser) {
@@ -39,6 +42,11 @@ public class ChatMessageServiceImpl implements ChatMessageService {
                 () -> new CustomException(ErrorCode.CHATROOM_NOT_FOUND)
         );
 
+        // 승인된 파티원만 메세지를 보낼 수 있음 (메세지마다 DB 를 조회하지 않도록 파티 멤버 캐시로 확인)
+        if (!partyMembershipCache.isAccepted(chatRoom.getParty().getId(), authUser.getUserId())) {
+            throw new CustomException(ErrorCode.CHATROOM_ACCESS_DENIED);
+        }
+
         // AuthUser의 email을 ChatMessageRequest의 sender로 설정
         chatMessageRequest.changeSender(authUser.getEmail());
 
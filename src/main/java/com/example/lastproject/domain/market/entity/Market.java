@@ -0,0 +1,48 @@
+package com.example.lastproject.domain.market.entity;
+
+import com.example.lastproject.common.Timestamped;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "Market",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_market_name_address", columnNames = {"market_name", "market_address"})},
+        indexes = {
+                @Index(name = "idx_market_location", columnList = "latitude, longitude")})
+@Getter
+@NoArgsConstructor
+public class Market extends Timestamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "market_name", nullable = false)
+    private String marketName;
+
+    @Column(name = "market_address", nullable = false)
+    private String marketAddress;
+
+    @Column(name = "latitude", nullable = false)
+    private BigDecimal latitude;
+
+    @Column(name = "longitude", nullable = false)
+    private BigDecimal longitude;
+
+    public Market(String marketName, String marketAddress, BigDecimal latitude, BigDecimal longitude) {
+        this.marketName = normalize(marketName);
+        this.marketAddress = normalize(marketAddress);
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    // 같은 마켓을 공백만 다르게 입력해도 한 행으로 모이도록 앞뒤 / 연속 공백을 정리
+    public static String normalize(String value) {
+        return value.trim().replaceAll("\\s+", " ");
+    }
+
+}
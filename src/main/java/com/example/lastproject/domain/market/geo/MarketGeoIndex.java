@@ -0,0 +1,152 @@
+package com.example.lastproject.domain.market.geo;
+
+import com.example.lastproject.common.util.AfterCommit;
+import com.example.lastproject.domain.market.entity.Market;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MarketGeoIndex {
+
+    /*
+    진행 중인(OPEN / JOINED) 파티가 있는 마켓 위치의 Redis GEO 인덱스
+    - 같은 마켓의 파티는 하나의 후보로 모이므로 인덱스 크기는 파티 수가 아니라 마켓 수
+    - 파티 생성은 커밋 이후 마켓을 추가 (GEOADD 는 같은 마켓을 덮어씀)
+    - 진행 중인 파티가 모두 끝난 마켓은 조회한 쪽에서 DB 로 확인한 뒤 지우고, 추가를 놓친 마켓은 주기적인 재구축으로 채움
+    - 추가할 때 Redis 서버 시각을 함께 기록하고, DB 확인을 시작한 시각 이후에 추가된 마켓은 지우지 않음
+      (확인 이후 커밋된 파티 생성의 GEOADD 를 오래된 확인 결과로 되돌리지 않도록)
+     */
+
+    private static final String KEY = "market:geo";
+    private static final String ADDED_KEY = "market:geo:added";
+
+    // 위치를 넣고, 넣은 시각(ms)을 기록
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            for i = 1, #ARGV, 3 do
+                redis.call('GEOADD', KEYS[1], ARGV[i + 1], ARGV[i + 2], ARGV[i])
+                redis.call('HSET', KEYS[2], ARGV[i], now)
+            end
+            return #ARGV / 3
+            """, Long.class);
+
+    // 확인 시각 이전에 추가된 마켓만 지움
+    private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            local since = tonumber(ARGV[1])
+            local removed = 0
+            for i = 2, #ARGV do
+                local added = tonumber(redis.call('HGET', KEYS[2], ARGV[i]))
+                if not added or added < since then
+                    removed = removed + redis.call('ZREM', KEYS[1], ARGV[i])
+                    redis.call('HDEL', KEYS[2], ARGV[i])
+                end
+            end
+            return removed
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 커밋 이후 마켓 위치를 인덱스에 추가
+     *
+     * @param market 파티가 생성된 마켓
+     */
+    public void addAfterCommit(Market market) {
+        List<Market> markets = List.of(market);
+        AfterCommit.run(() -> add(markets));
+    }
+
+    public void add(List<Market> markets) {
+        if (markets.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(markets.size() * 3);
+        for (Market market : markets) {
+            args.add(String.valueOf(market.getId()));
+            args.add(market.getLongitude().toPlainString());
+            args.add(market.getLatitude().toPlainString());
+        }
+        try {
+            redisTemplate.execute(ADD_SCRIPT, List.of(KEY, ADDED_KEY), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("Failed to add {} markets to geo index", markets.size(), e);
+        }
+    }
+
+    /**
+     * 진행 중인 파티가 없는 마켓을 인덱스에서 제거
+     *
+     * @param marketIds 제거할 마켓 ID
+     * @param checkedAt DB 확인을 시작한 Redis 서버 시각 (ms), 이후에 다시 추가된 마켓은 남김
+     */
+    public void remove(Collection<Long> marketIds, long checkedAt) {
+        List<String> args = new ArrayList<>(marketIds.size() + 1);
+        args.add(String.valueOf(checkedAt));
+        marketIds.forEach(marketId -> args.add(String.valueOf(marketId)));
+        try {
+            redisTemplate.execute(REMOVE_SCRIPT, List.of(KEY, ADDED_KEY), args.toArray());
+        } catch (DataAccessException e) {
+            // 남은 항목은 다음 조회에서 다시 확인한 뒤 지움
+            log.warn("Failed to remove markets {} from geo index", marketIds, e);
+        }
+    }
+
+    /**
+     * Redis 서버 시각 (ms), 추가 / 제거 시각을 서버 간 시계 차이 없이 비교하기 위해 사용
+     *
+     * @return 현재 시각, Redis 장애 시 null
+     */
+    public Long now() {
+        try {
+            return redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+        } catch (DataAccessException e) {
+            log.warn("Market geo index unavailable", e);
+            return null;
+        }
+    }
+
+    /**
+     * 기준 위치 반경 안의 마켓을 가까운 순서로 조회
+     *
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm  반경 (km)
+     * @param limit     최대 개수
+     * @return 마켓 ID 와 거리(km), Redis 장애 시 null
+     */
+    public GeoResults<RedisGeoCommands.GeoLocation<String>> search(BigDecimal latitude, BigDecimal longitude,
+                                                                   double radiusKm, int limit) {
+        Circle circle = new Circle(new Point(longitude.doubleValue(), latitude.doubleValue()),
+                new Distance(radiusKm, Metrics.KILOMETERS));
+        RedisGeoCommands.GeoRadiusCommandArgs args = RedisGeoCommands.GeoRadiusCommandArgs.newGeoRadiusArgs()
+                .includeDistance()
+                .sortAscending()
+                .limit(limit);
+        try {
+            return redisTemplate.opsForGeo().radius(KEY, circle, args);
+        } catch (DataAccessException e) {
+            log.warn("Market geo index unavailable", e);
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.example.lastproject.domain.market.geo;
+
+import com.example.lastproject.domain.market.entity.Market;
+import com.example.lastproject.domain.market.repository.MarketRepository;
+import com.example.lastproject.domain.market.service.MarketService;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.penalty.service.LettuceLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MarketGeoIndexScheduler {
+
+    /*
+    서버 시작 시 / 주기적으로 마켓 공간 인덱스를 다시 채우는 작업
+    - 먼저 마켓이 없는 기존 파티에 마켓을 채우고 (page 마다 커밋)
+      page 가 실패하면 그 page 만 한 건씩 다시 처리하여, 문제가 있는 행 하나 때문에 매번 전체가 실패하지 않게 함
+    - 진행 중인 파티가 있는 마켓을 id keyset 으로 page 단위 조회하여 인덱스에 넣음 (GEOADD 는 같은 마켓을 덮어씀)
+    - 여러 서버 중 분산 락을 잡은 한 서버만 실행
+     */
+
+    private static final String LOCK_KEY = "market:geo:lock";
+    private static final List<PartyStatus> ACTIVE_STATUSES = List.of(PartyStatus.OPEN, PartyStatus.JOINED);
+
+    private final MarketRepository marketRepository;
+    private final MarketService marketService;
+    private final MarketGeoIndex marketGeoIndex;
+    private final LettuceLockService lettuceLockService;
+
+    @Value("${market.geo.rebuild-enabled:true}")
+    private boolean enabled;
+
+    @Value("${market.geo.rebuild-page-size:1000}")
+    private int pageSize;
+
+    @Value("${market.geo.lock-timeout-seconds:600}")
+    private long lockTimeoutSeconds;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${market.geo.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        String lockToken = lettuceLockService.tryLock(LOCK_KEY, lockTimeoutSeconds);
+        if (lockToken == null) {
+            return;
+        }
+
+        try {
+            assignMissingMarkets();
+
+            int total = 0;
+            Long lastId = 0L;
+            List<Market> markets;
+            do {
+                markets = marketRepository.findActiveMarkets(ACTIVE_STATUSES, lastId, PageRequest.of(0, pageSize));
+                marketGeoIndex.add(markets);
+                total += markets.size();
+                if (!markets.isEmpty()) {
+                    lastId = markets.get(markets.size() - 1).getId();
+                }
+            } while (markets.size() == pageSize);
+            log.info("Rebuilt market geo index with {} active markets", total);
+        } finally {
+            // 재구축이 락 유지 시간보다 길어져 만료되었으면 다른 서버의 락이므로 지우지 않음
+            try {
+                if (!lettuceLockService.releaseLock(LOCK_KEY, lockToken)) {
+                    log.warn("Market geo index lock expired before release");
+                }
+            } catch (DataAccessException e) {
+                log.warn("Failed to release market geo index lock", e);
+            }
+        }
+    }
+
+    private void assignMissingMarkets() {
+        // 건너뛴 파티는 계속 마켓이 없으므로 id keyset 으로 다음 page 를 조회
+        Long lastPartyId = 0L;
+        List<Long> partyIds;
+        do {
+            partyIds = marketService.findPartyIdsWithoutMarket(lastPartyId, pageSize);
+            if (partyIds.isEmpty()) {
+                return;
+            }
+            try {
+                marketService.assignMissingMarkets(partyIds);
+            } catch (RuntimeException e) {
+                log.warn("Failed to assign markets to parties {}..{}, retrying one by one",
+                        partyIds.get(0), partyIds.get(partyIds.size() - 1), e);
+                partyIds.forEach(this::assignMissingMarket);
+            }
+            lastPartyId = partyIds.get(partyIds.size() - 1);
+        } while (partyIds.size() == pageSize);
+    }
+
+    private void assignMissingMarket(Long partyId) {
+        try {
+            marketService.assignMissingMarkets(List.of(partyId));
+        } catch (RuntimeException e) {
+            log.warn("Failed to assign a market to party {}", partyId, e);
+        }
+    }
+
+}
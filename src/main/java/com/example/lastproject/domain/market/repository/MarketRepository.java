@@ -0,0 +1,45 @@
+package com.example.lastproject.domain.market.repository;
+
+import com.example.lastproject.domain.market.entity.Market;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MarketRepository extends JpaRepository<Market, Long> {
+
+    Optional<Market> findByMarketNameAndMarketAddress(String marketName, String marketAddress);
+
+    // 없을 때만 등록, 이미 있으면 유니크 키 충돌 없이 아무것도 바꾸지 않음
+    @Modifying
+    @Query(value = "insert into market (market_name, market_address, latitude, longitude, created_at, modified_at) " +
+            "values (:marketName, :marketAddress, :latitude, :longitude, now(), now()) " +
+            "on duplicate key update id = id", nativeQuery = true)
+    int insertIfAbsent(@Param("marketName") String marketName,
+                       @Param("marketAddress") String marketAddress,
+                       @Param("latitude") BigDecimal latitude,
+                       @Param("longitude") BigDecimal longitude);
+
+    // 잠금 읽기라 트랜잭션 스냅샷 이후에 다른 트랜잭션이 커밋한 행도 읽음
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select m from Market m where m.marketName = :marketName and m.marketAddress = :marketAddress")
+    Optional<Market> findForShare(@Param("marketName") String marketName,
+                                  @Param("marketAddress") String marketAddress);
+
+    // 진행 중인 파티가 있는 마켓을 id keyset 으로 조회 (party 의 (market_id, party_status) 인덱스 사용)
+    @Query("select m from Market m where m.id > :lastId and exists (" +
+            "select 1 from Party p where p.market = m and p.partyStatus in :statuses) order by m.id")
+    List<Market> findActiveMarkets(@Param("statuses") Collection<PartyStatus> statuses,
+                                   @Param("lastId") Long lastId,
+                                   Pageable pageable);
+
+}
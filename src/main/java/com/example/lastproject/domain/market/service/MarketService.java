@@ -0,0 +1,114 @@
+package com.example.lastproject.domain.market.service;
+
+import com.example.lastproject.common.enums.ErrorCode;
+import com.example.lastproject.common.exception.CustomException;
+import com.example.lastproject.domain.market.entity.Market;
+import com.example.lastproject.domain.market.repository.MarketRepository;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MarketService {
+
+    /*
+    파티가 열리는 마켓 관리
+    - 마켓 이름 + 주소(공백 정리)마다 한 행만 두고, 같은 마켓의 파티는 모두 이 행을 참조
+    - 처음 등록되는 마켓은 호출한 트랜잭션 안에서 INSERT ... ON DUPLICATE KEY 로 저장 (요청당 커넥션 하나)
+      동시에 같은 마켓을 등록해도 유니크 키 충돌은 예외 없이 무시되므로 호출한 트랜잭션이 롤백되지 않고,
+      이어지는 잠금 읽기(for share)는 스냅샷이 아닌 최신 커밋 행을 읽으므로 다른 트랜잭션이 저장한 행도 찾음
+    - 마켓이 없는 기존 파티는 공간 인덱스 재구축 작업에서 page 단위로 채움
+      좌표 / 이름이 비어 마켓을 만들 수 없는 파티는 건너뛰고 기록만 남김
+     */
+
+    private final MarketRepository marketRepository;
+    private final PartyRepository partyRepository;
+
+    /**
+     * 마켓 이름 + 주소로 마켓을 찾고, 없으면 등록
+     *
+     * @param marketName    마켓 이름
+     * @param marketAddress 마켓 주소
+     * @param latitude      위도 (처음 등록할 때만 사용)
+     * @param longitude     경도 (처음 등록할 때만 사용)
+     * @return 마켓
+     * @throws CustomException MARKET_NOT_FOUND: "마켓 정보를 찾을 수 없습니다."
+     */
+    @Transactional
+    public Market findOrCreate(String marketName, String marketAddress, BigDecimal latitude, BigDecimal longitude) {
+        String name = Market.normalize(marketName);
+        String address = Market.normalize(marketAddress);
+        return marketRepository.findByMarketNameAndMarketAddress(name, address)
+                .orElseGet(() -> create(name, address, latitude, longitude));
+    }
+
+    /**
+     * 마켓이 없는 파티 id 한 page 를 조회
+     *
+     * @param lastPartyId 이전 page 의 마지막 파티 id (첫 page 는 0)
+     * @param size        page 크기
+     * @return 파티 id 목록 (id 순)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findPartyIdsWithoutMarket(Long lastPartyId, int size) {
+        return partyRepository.findIdsByMarketIsNull(lastPartyId, PageRequest.of(0, size));
+    }
+
+    /**
+     * 마켓이 없는 파티들에 마켓을 채움
+     *
+     * @param partyIds 파티 id 목록
+     * @return 마켓을 채운 파티 수
+     */
+    @Transactional
+    public int assignMissingMarkets(List<Long> partyIds) {
+        List<Party> parties = partyRepository.findAllById(partyIds);
+
+        // 같은 page 안에서 같은 마켓은 한 번만 조회
+        Map<String, Market> markets = new HashMap<>();
+        int assigned = 0;
+        for (Party party : parties) {
+            if (party.getMarket() != null) {
+                continue;
+            }
+            if (!hasMarketInfo(party)) {
+                log.warn("Skipped assigning a market to party {}: missing market name, address or coordinates", party.getId());
+                continue;
+            }
+            String key = Market.normalize(party.getMarketName()) + "\n" + Market.normalize(party.getMarketAddress());
+            Market market = markets.computeIfAbsent(key, ignored -> findOrCreate(
+                    party.getMarketName(), party.getMarketAddress(), party.getLatitude(), party.getLongitude()));
+            party.assignMarket(market);
+            assigned++;
+        }
+        if (assigned > 0) {
+            log.info("Assigned markets to {} parties ({} markets)", assigned, markets.size());
+        }
+        return assigned;
+    }
+
+    // market 테이블의 not null 컬럼을 채울 수 있는 파티인지
+    private boolean hasMarketInfo(Party party) {
+        return party.getMarketName() != null && !party.getMarketName().isBlank()
+                && party.getMarketAddress() != null && !party.getMarketAddress().isBlank()
+                && party.getLatitude() != null && party.getLongitude() != null;
+    }
+
+    private Market create(String name, String address, BigDecimal latitude, BigDecimal longitude) {
+        marketRepository.insertIfAbsent(name, address, latitude, longitude);
+        return marketRepository.findForShare(name, address)
+                .orElseThrow(() -> new CustomException(ErrorCode.MARKET_NOT_FOUND));
+    }
+
+}
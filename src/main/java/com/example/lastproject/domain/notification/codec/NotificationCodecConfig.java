@@ -0,0 +1,36 @@
+package com.example.lastproject.domain.notification.codec;
+
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@Configuration
+public class NotificationCodecConfig {
+
+    // 알림 관련 Redis 값 저장 형식 (smile: 바이너리, json: 기존 JSON)
+    @Value("${notification.redis.format:smile}")
+    private String redisFormat;
+
+    /**
+     * 알림 이벤트를 저장하는 redisTemplate
+     * 공용 redisTemplate 과 달리 값마다 클래스 이름을 넣지 않고 Smile 로 저장
+     */
+    @Bean
+    public RedisTemplate<String, NotificationEvent> notificationEventRedisTemplate(RedisConnectionFactory connectionFactory) {
+        SmileRedisSerializer<NotificationEvent> serializer =
+                new SmileRedisSerializer<>(NotificationEvent.class, "smile".equalsIgnoreCase(redisFormat));
+
+        RedisTemplate<String, NotificationEvent> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(serializer);
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(serializer);
+        return redisTemplate;
+    }
+
+}
@@ -0,0 +1,220 @@
+package com.example.lastproject.domain.notification.codec;
+
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.entity.NotificationType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+public final class NotificationEventCodec {
+
+    /*
+    NotificationEvent 전용 바이너리 코덱
+    [MAGIC][VERSION][필드 존재 비트마스크][값...] 순서로 기록하고, 값이 null 인 필드는 아예 쓰지 않음
+    - 숫자는 zigzag varint, 문자열은 길이(varint) + UTF-8, BigDecimal 은 scale + 정수부(varint)
+    - 필드 이름과 클래스 이름을 쓰지 않으므로 JSON 보다 훨씬 작음
+    - 필드를 추가 / 변경하면 VERSION 을 올리고 decode 에서 이전 버전도 읽을 수 있게 유지해야 함
+     */
+
+    public static final byte MAGIC = 0x4E; // 'N'
+    public static final byte VERSION = 2;
+
+    private static final int TYPE = 1;
+    private static final int PARTY_ID = 1 << 1;
+    private static final int ITEM_ID = 1 << 2;
+    private static final int CATEGORY = 1 << 3;
+    private static final int MARKET_NAME = 1 << 4;
+    private static final int MARKET_ADDRESS = 1 << 5;
+    private static final int LATITUDE = 1 << 6;
+    private static final int LONGITUDE = 1 << 7;
+    private static final int CHAT_ROOM_ID = 1 << 8;
+    private static final int ACTOR_ID = 1 << 9;
+    private static final int OCCURRED_AT = 1 << 10;
+    // VERSION 2 부터
+    private static final int TARGET_USER_ID = 1 << 11;
+
+    private NotificationEventCodec() {
+    }
+
+    /**
+     * 이벤트를 바이너리로 인코딩
+     *
+     * @throws IllegalArgumentException long 범위를 넘는 좌표처럼 이 형식으로 표현할 수 없는 값이 있는 경우
+     */
+    public static byte[] encode(NotificationEvent event) {
+        int mask = 0;
+        mask |= event.getType() != null ? TYPE : 0;
+        mask |= event.getPartyId() != null ? PARTY_ID : 0;
+        mask |= event.getItemId() != null ? ITEM_ID : 0;
+        mask |= event.getCategory() != null ? CATEGORY : 0;
+        mask |= event.getMarketName() != null ? MARKET_NAME : 0;
+        mask |= event.getMarketAddress() != null ? MARKET_ADDRESS : 0;
+        mask |= event.getLatitude() != null ? LATITUDE : 0;
+        mask |= event.getLongitude() != null ? LONGITUDE : 0;
+        mask |= event.getChatRoomId() != null ? CHAT_ROOM_ID : 0;
+        mask |= event.getActorId() != null ? ACTOR_ID : 0;
+        mask |= event.getOccurredAt() != null ? OCCURRED_AT : 0;
+        mask |= event.getTargetUserId() != null ? TARGET_USER_ID : 0;
+
+        Writer writer = new Writer(128);
+        writer.writeByte(MAGIC);
+        writer.writeByte(VERSION);
+        writer.writeVarLong(mask);
+
+        if ((mask & TYPE) != 0) writer.writeString(event.getType().name());
+        if ((mask & PARTY_ID) != 0) writer.writeLong(event.getPartyId());
+        if ((mask & ITEM_ID) != 0) writer.writeLong(event.getItemId());
+        if ((mask & CATEGORY) != 0) writer.writeString(event.getCategory());
+        if ((mask & MARKET_NAME) != 0) writer.writeString(event.getMarketName());
+        if ((mask & MARKET_ADDRESS) != 0) writer.writeString(event.getMarketAddress());
+        if ((mask & LATITUDE) != 0) writer.writeDecimal(event.getLatitude());
+        if ((mask & LONGITUDE) != 0) writer.writeDecimal(event.getLongitude());
+        if ((mask & CHAT_ROOM_ID) != 0) writer.writeLong(event.getChatRoomId());
+        if ((mask & ACTOR_ID) != 0) writer.writeLong(event.getActorId());
+        if ((mask & OCCURRED_AT) != 0) {
+            writer.writeLong(event.getOccurredAt().toEpochSecond(ZoneOffset.UTC));
+            writer.writeVarLong(event.getOccurredAt().getNano());
+        }
+        if ((mask & TARGET_USER_ID) != 0) writer.writeLong(event.getTargetUserId());
+        return writer.toByteArray();
+    }
+
+    /**
+     * 바이너리를 이벤트로 디코딩
+     *
+     * @throws IllegalArgumentException 형식이 맞지 않거나 지원하지 않는 버전인 경우
+     */
+    public static NotificationEvent decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.get() != MAGIC) {
+                throw new IllegalArgumentException("Not a notification event payload");
+            }
+            byte version = buffer.get();
+            // VERSION 1 은 TARGET_USER_ID 비트가 없을 뿐 나머지 형식은 같음
+            if (version < 1 || version > VERSION) {
+                throw new IllegalArgumentException("Unsupported notification event version: " + version);
+            }
+
+            int mask = (int) readVarLong(buffer);
+            NotificationEvent.NotificationEventBuilder builder = NotificationEvent.builder();
+            if ((mask & TYPE) != 0) builder.type(NotificationType.valueOf(readString(buffer)));
+            if ((mask & PARTY_ID) != 0) builder.partyId(readLong(buffer));
+            if ((mask & ITEM_ID) != 0) builder.itemId(readLong(buffer));
+            if ((mask & CATEGORY) != 0) builder.category(readString(buffer));
+            if ((mask & MARKET_NAME) != 0) builder.marketName(readString(buffer));
+            if ((mask & MARKET_ADDRESS) != 0) builder.marketAddress(readString(buffer));
+            if ((mask & LATITUDE) != 0) builder.latitude(readDecimal(buffer));
+            if ((mask & LONGITUDE) != 0) builder.longitude(readDecimal(buffer));
+            if ((mask & CHAT_ROOM_ID) != 0) builder.chatRoomId(readLong(buffer));
+            if ((mask & ACTOR_ID) != 0) builder.actorId(readLong(buffer));
+            if ((mask & OCCURRED_AT) != 0) {
+                long epochSecond = readLong(buffer);
+                int nano = (int) readVarLong(buffer);
+                builder.occurredAt(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+            }
+            if ((mask & TARGET_USER_ID) != 0) builder.targetUserId(readLong(buffer));
+            return builder.build();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated notification event payload", e);
+        }
+    }
+
+    private static long readLong(ByteBuffer buffer) {
+        long zigzag = readVarLong(buffer);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = (int) readVarLong(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer buffer) {
+        int scale = (int) readLong(buffer);
+        return BigDecimal.valueOf(readLong(buffer), scale);
+    }
+
+    /**
+     * 크기를 미리 알 수 없는 출력을 위한 단순 버퍼 (ByteArrayOutputStream 의 동기화 비용 없이 사용)
+     */
+    private static final class Writer {
+
+        private byte[] bytes;
+        private int position;
+
+        private Writer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        private void ensure(int additional) {
+            if (position + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + additional));
+            }
+        }
+
+        private void writeByte(byte value) {
+            ensure(1);
+            bytes[position++] = value;
+        }
+
+        private void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[position++] = (byte) value;
+        }
+
+        private void writeLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        private void writeString(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(encoded.length);
+            ensure(encoded.length);
+            System.arraycopy(encoded, 0, bytes, position, encoded.length);
+            position += encoded.length;
+        }
+
+        private void writeDecimal(BigDecimal value) {
+            BigInteger unscaled = value.unscaledValue();
+            if (unscaled.bitLength() > 63) {
+                throw new IllegalArgumentException("Decimal value out of range: " + value);
+            }
+            writeLong(value.scale());
+            writeLong(unscaled.longValue());
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, position);
+        }
+
+    }
+
+}
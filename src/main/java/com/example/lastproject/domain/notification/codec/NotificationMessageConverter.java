@@ -0,0 +1,76 @@
+package com.example.lastproject.domain.notification.codec;
+
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+@Slf4j
+public class NotificationMessageConverter implements MessageConverter {
+
+    /*
+    알림 메시지 변환기
+    - 발행: binaryEnabled 이면 NotificationEvent 를 바이너리 코덱으로, 그 외 값은 JSON 으로 변환
+    - 수신: content-type 을 보고 바이너리 또는 JSON 으로 변환 (배포 중 섞여 있는 JSON 메시지도 그대로 처리)
+     */
+
+    public static final String CONTENT_TYPE = "application/x-notification-event";
+
+    private final ContentTypeDelegatingMessageConverter delegate;
+    private final boolean binaryEnabled;
+
+    public NotificationMessageConverter(MessageConverter jsonConverter, boolean binaryEnabled) {
+        this.delegate = new ContentTypeDelegatingMessageConverter(jsonConverter);
+        this.delegate.addDelegate(CONTENT_TYPE, new BinaryConverter());
+        this.binaryEnabled = binaryEnabled;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        if (binaryEnabled && object instanceof NotificationEvent) {
+            try {
+                messageProperties.setContentType(CONTENT_TYPE);
+                return delegate.toMessage(object, messageProperties);
+            } catch (MessageConversionException e) {
+                // 바이너리로 표현할 수 없는 값이면 JSON 으로 전송
+                log.warn("Falling back to JSON for notification event: {}", e.getMessage());
+                messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+            }
+        }
+        return delegate.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        return delegate.fromMessage(message);
+    }
+
+    private static class BinaryConverter implements MessageConverter {
+
+        @Override
+        public Message toMessage(Object object, MessageProperties messageProperties) {
+            try {
+                byte[] body = NotificationEventCodec.encode((NotificationEvent) object);
+                messageProperties.setContentType(CONTENT_TYPE);
+                messageProperties.setContentLength(body.length);
+                return new Message(body, messageProperties);
+            } catch (IllegalArgumentException e) {
+                throw new MessageConversionException("Failed to encode notification event", e);
+            }
+        }
+
+        @Override
+        public Object fromMessage(Message message) {
+            try {
+                return NotificationEventCodec.decode(message.getBody());
+            } catch (IllegalArgumentException e) {
+                throw new MessageConversionException("Failed to decode notification event", e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.example.lastproject.domain.notification.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+public class SmileGenericRedisSerializer implements RedisSerializer<Object> {
+
+    /*
+    공용 redisTemplate 의 캐시 값 직렬화기
+    - 저장: compact 가 true 면 Smile(바이너리 JSON), false 면 기존 JSON 으로 저장 (ObjectMapper 설정은 같음)
+    - 조회: 저장 형식과 관계없이 Smile 헤더로 형식을 구분하므로, 형식을 바꾸는 중에도 이미 저장된 값을 그대로 읽음
+     */
+
+    private final boolean compact;
+    private final GenericJackson2JsonRedisSerializer json;
+    private final GenericJackson2JsonRedisSerializer smile;
+
+    /**
+     * @param objectMapper JSON 형식에 쓰는 ObjectMapper (Smile 형식은 같은 설정을 복사하여 사용)
+     * @param compact      Smile 로 저장할지 여부
+     */
+    public SmileGenericRedisSerializer(ObjectMapper objectMapper, boolean compact) {
+        this.compact = compact;
+        this.json = new GenericJackson2JsonRedisSerializer(objectMapper);
+        this.smile = new GenericJackson2JsonRedisSerializer(objectMapper.copyWith(new SmileFactory()));
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        return compact ? smile.serialize(value) : json.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return SmileRedisSerializer.isSmile(bytes) ? smile.deserialize(bytes) : json.deserialize(bytes);
+    }
+
+}
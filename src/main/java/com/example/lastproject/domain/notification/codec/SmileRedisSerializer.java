@@ -0,0 +1,76 @@
+package com.example.lastproject.domain.notification.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+public class SmileRedisSerializer<T> implements RedisSerializer<T> {
+
+    /*
+    값의 타입이 정해진 Redis 값 전용 직렬화기
+    - 저장: Smile(바이너리 JSON)로 저장하고 클래스 이름을 넣지 않음 (compact 가 false 면 JSON)
+    - 조회: Smile 헤더(':)\n')가 있으면 Smile, 없으면 JSON 으로 읽어 기존 JSON 값도 그대로 읽을 수 있음
+     */
+
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+    private final Class<T> type;
+    private final boolean compact;
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper jsonMapper;
+
+    public SmileRedisSerializer(Class<T> type, boolean compact) {
+        this.type = type;
+        this.compact = compact;
+        this.smileMapper = configure(new ObjectMapper(new SmileFactory()));
+        this.jsonMapper = configure(new ObjectMapper());
+    }
+
+    private static ObjectMapper configure(ObjectMapper objectMapper) {
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return objectMapper;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            return compact ? smileMapper.writeValueAsBytes(value) : jsonMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write " + type.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return isSmile(bytes) ? smileMapper.readValue(bytes, type) : jsonMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read " + type.getSimpleName(), e);
+        }
+    }
+
+    public static boolean isSmile(byte[] bytes) {
+        if (bytes.length < SMILE_HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < SMILE_HEADER.length; i++) {
+            if (bytes[i] != SMILE_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
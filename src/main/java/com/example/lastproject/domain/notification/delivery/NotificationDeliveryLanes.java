@@ -0,0 +1,149 @@
+package com.example.lastproject.domain.notification.delivery;
+
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDeliveryLanes {
+
+    /*
+    알림 종류별 전송 레인
+    - 종류마다 크기가 제한된 큐와 전용 스레드를 두어, 대량 브로드캐스트(PARTY_CREATE)가 밀려도
+      채팅방 생성(CHAT_CREATE) 알림은 자기 레인에서 바로 전송됨
+    - 전체 스레드 수를 가중치 비율로 나눠 레인마다 배정 (최소 1개)
+    - 레인 큐가 가득 차면 전송을 건너뛰고 rejected 지표만 남김
+      (호출한 메시지 리스너 스레드가 직접 전송하면 같은 큐의 다음 메시지가 모두 밀리므로)
+      전송은 저장 이후의 실시간 푸시일 뿐이라, 건너뛴 알림도 알림 목록 조회로 확인할 수 있음
+     */
+
+    private final MeterRegistry meterRegistry;
+
+    // 전체 전송 스레드 수
+    @Value("${notification.lanes.threads:8}")
+    private int totalThreads;
+
+    // 레인별 대기 가능한 전송 작업 수
+    @Value("${notification.lanes.queue-capacity:1000}")
+    private int queueCapacity;
+
+    // 레인 가중치 (지정하지 않은 종류는 1)
+    @Value("#{${notification.lanes.weights:{CHAT_CREATE:4,PARTY_CANCEL:2,PARTY_CREATE:1}}}")
+    private Map<String, Integer> weights;
+
+    private final Map<NotificationType, Lane> lanes = new EnumMap<>(NotificationType.class);
+
+    @PostConstruct
+    public void init() {
+        int weightSum = 0;
+        for (NotificationType type : NotificationType.values()) {
+            weightSum += getWeight(type);
+        }
+
+        for (NotificationType type : NotificationType.values()) {
+            int threads = Math.max(1, Math.round((float) totalThreads * getWeight(type) / weightSum));
+            lanes.put(type, new Lane(type, threads));
+            log.info("Notification delivery lane {}: {} threads, queue capacity {}", type, threads, queueCapacity);
+        }
+    }
+
+    /**
+     * 알림 종류에 맞는 레인에서 전송 작업 실행
+     *
+     * @param type 알림 종류
+     * @param task 전송 작업
+     */
+    public void submit(NotificationType type, Runnable task) {
+        Lane lane = lanes.get(type);
+        long enqueuedAt = System.nanoTime();
+        lane.executor.execute(() -> {
+            lane.queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("Failed to deliver {} notifications", type, e);
+            } finally {
+                lane.latency.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private int getWeight(NotificationType type) {
+        return Math.max(1, weights.getOrDefault(type.name(), 1));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Lane lane : lanes.values()) {
+            lane.executor.shutdown();
+        }
+        for (Lane lane : lanes.values()) {
+            if (!lane.executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Notification delivery lane {} stopped with {} pending tasks", lane.type, lane.executor.getQueue().size());
+                lane.executor.shutdownNow();
+            }
+        }
+    }
+
+    private class Lane {
+
+        private final NotificationType type;
+        private final ThreadPoolExecutor executor;
+        // 레인에 들어온 시점부터 전송 완료까지
+        private final Timer latency;
+        // 레인 큐에서 대기한 시간
+        private final Timer queueWait;
+        // 레인 큐가 가득 차 전송하지 못한 작업 수
+        private final Counter rejected;
+
+        private Lane(NotificationType type, int threads) {
+            this.type = type;
+            AtomicInteger sequence = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "notification-lane-" + type.name().toLowerCase() + "-" + sequence.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (runnable, pool) -> reject());
+
+            String lane = type.name();
+            this.latency = Timer.builder("notification.delivery.latency")
+                    .tag("lane", lane)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.queueWait = Timer.builder("notification.delivery.queue.wait")
+                    .tag("lane", lane)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.rejected = meterRegistry.counter("notification.delivery.rejected", "lane", lane);
+            meterRegistry.gauge("notification.delivery.queue.size", Tags.of("lane", lane),
+                    executor, pool -> pool.getQueue().size());
+        }
+
+        private void reject() {
+            rejected.increment();
+            log.warn("Notification delivery lane {} is full, skipping real-time delivery", type);
+        }
+
+    }
+
+}
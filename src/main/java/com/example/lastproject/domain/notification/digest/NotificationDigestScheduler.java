@@ -0,0 +1,64 @@
+package com.example.lastproject.domain.notification.digest;
+
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.entity.Notification;
+import com.example.lastproject.domain.notification.rabbitmq.consumer.NotificationEventConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDigestScheduler {
+
+    /*
+    창이 닫힌 요약 대상을 주기적으로 가져가 요약 알림 한 건으로 저장 / 전송
+    - 처리 기한이 지난 항목(저장 실패 / 노드 장애)을 먼저 다시 가져가 처리
+    - 저장에 실패한 항목은 processing 목록에 남겨 기한이 지난 뒤 다시 처리
+     */
+
+    private final NotificationDigestService notificationDigestService;
+    private final NotificationEventConsumer notificationEventConsumer;
+
+    // 한 번의 실행에서 처리할 최대 요약 수
+    @Value("${notification.digest.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Scheduled(fixedDelayString = "${notification.digest.flush-interval-ms:1000}")
+    public void flush() {
+        try {
+            for (String member : notificationDigestService.findStale(flushBatchSize)) {
+                process(member, notificationDigestService.reclaim(member));
+            }
+            for (String member : notificationDigestService.findDue(flushBatchSize)) {
+                process(member, notificationDigestService.claim(member));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to flush notification digests", e);
+        }
+    }
+
+    private void process(String member, List<NotificationEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Notification> notifications;
+        try {
+            notifications = notificationEventConsumer.persistDigest(
+                    NotificationDigestService.getUserId(member), NotificationDigestService.getType(member), events);
+        } catch (RuntimeException e) {
+            // processing 목록에 남아 처리 기한이 지나면 다시 가져감
+            log.warn("Failed to persist notification digest {}, will retry after lease", member, e);
+            return;
+        }
+        notificationDigestService.complete(member);
+        notificationEventConsumer.deliver(notifications);
+    }
+
+}
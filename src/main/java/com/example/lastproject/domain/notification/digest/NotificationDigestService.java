@@ -0,0 +1,274 @@
+package com.example.lastproject.domain.notification.digest;
+
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDigestService {
+
+    /*
+    같은 사용자 / 같은 알림 종류의 알림을 일정 시간 동안 모아 하나의 요약 알림으로 만드는 서비스
+    - 창(window)의 첫 알림은 바로 보내고 창을 연다
+    - 창이 열려 있는 동안 들어온 알림은 Redis 목록에 쌓고, 창이 닫히는 시각을 due ZSET 에 기록
+    - 스케줄러가 due 가 지난 항목을 가져가 요약 알림 한 건으로 저장 / 전송
+      가져갈 때 pending 목록을 사용자별 processing 목록으로 옮기고(LMOVE), processing ZSET 에 처리 기한(lease)을 기록
+      저장이 끝난 뒤에 complete 로 processing 목록을 지움
+    - 저장 중 예외가 나거나 노드가 죽어 기한이 지난 processing 목록은 다른 노드가 다시 가져가 처리 (re-drive)
+      processing 목록이 남아 있는 동안 새로 닫힌 창은 그 처리가 끝날 때까지 미룸 (같은 알림을 두 번 보내지 않도록)
+    모든 상태가 Redis 에 있으므로 노드가 재시작되어도 쌓인 알림은 다른 노드 또는 재시작한 노드가 처리함
+     */
+
+    static final String DUE_KEY = "notification:digest:due";
+    private static final String OPEN_KEY_PREFIX = "notification:digest:open:";
+    private static final String PENDING_KEY_PREFIX = "notification:digest:pending:";
+    static final String PROCESSING_KEY = "notification:digest:processing";
+    private static final String PROCESSING_KEY_PREFIX = "notification:digest:processing:";
+
+    // KEYS: [due, 사용자마다 (open, pending)], ARGV: [window(ms), pending ttl(ms), 이벤트, 사용자마다 due 멤버]
+    // 결과: 사용자마다 1(바로 전송) / 0(요약 대기)
+    private static final DefaultRedisScript<List> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            local pendingTtl = tonumber(ARGV[2])
+            local result = {}
+            local n = 0
+            for i = 2, #KEYS, 2 do
+                n = n + 1
+                if redis.call('SET', KEYS[i], '1', 'PX', window, 'NX') then
+                    result[n] = 1
+                else
+                    local ttl = redis.call('PTTL', KEYS[i])
+                    if ttl < 0 then
+                        ttl = 0
+                    end
+                    redis.call('RPUSH', KEYS[i + 1], ARGV[3])
+                    redis.call('PEXPIRE', KEYS[i + 1], pendingTtl)
+                    redis.call('ZADD', KEYS[1], 'NX', now + ttl, ARGV[3 + n])
+                    result[n] = 0
+                end
+            end
+            return result
+            """, List.class);
+
+    // KEYS: [due, pending, processing 목록, processing ZSET], ARGV: [due 멤버, lease(ms), pending ttl(ms)]
+    // 다른 노드가 먼저 가져갔거나 이전 처리가 끝나지 않은 항목이면 빈 목록
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local leasedUntil = tonumber(redis.call('ZSCORE', KEYS[4], ARGV[1]))
+            if leasedUntil then
+                redis.call('ZADD', KEYS[1], 'XX', math.max(leasedUntil, now), ARGV[1])
+                return {}
+            end
+            if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+                return {}
+            end
+            while redis.call('LMOVE', KEYS[2], KEYS[3], 'LEFT', 'RIGHT') do
+            end
+            local items = redis.call('LRANGE', KEYS[3], 0, -1)
+            if #items > 0 then
+                redis.call('PEXPIRE', KEYS[3], ARGV[3])
+                redis.call('ZADD', KEYS[4], now + tonumber(ARGV[2]), ARGV[1])
+            end
+            return items
+            """, List.class);
+
+    // KEYS: [processing 목록, processing ZSET], ARGV: [due 멤버, lease(ms)]
+    // 기한이 지난 처리만 다시 가져감 (기한을 새로 잡아 다른 노드와 겹치지 않음)
+    private static final DefaultRedisScript<List> RECLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local leasedUntil = tonumber(redis.call('ZSCORE', KEYS[2], ARGV[1]))
+            if not leasedUntil or leasedUntil > now then
+                return {}
+            end
+            local items = redis.call('LRANGE', KEYS[1], 0, -1)
+            if #items == 0 then
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                return {}
+            end
+            redis.call('ZADD', KEYS[2], now + tonumber(ARGV[2]), ARGV[1])
+            return items
+            """, List.class);
+
+    private final RedisTemplate<String, NotificationEvent> notificationEventRedisTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.digest.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.digest.window-ms:300000}")
+    private long windowMs;
+
+    // 스케줄러가 멈춰 있어도 쌓인 알림을 보관하는 최대 시간
+    @Value("${notification.digest.pending-ttl-ms:86400000}")
+    private long pendingTtlMs;
+
+    // 요약 대상 알림 종류 (즉시성이 중요한 채팅 알림은 제외)
+    @Value("${notification.digest.types:PARTY_CREATE,PARTY_CANCEL}")
+    private Set<NotificationType> digestTypes;
+
+    // 가져간 요약을 저장해야 하는 기한, 지나면 다른 노드가 다시 가져감
+    @Value("${notification.digest.processing-lease-ms:60000}")
+    private long processingLeaseMs;
+
+    private Counter coalescedCounter;
+
+    @PostConstruct
+    public void init() {
+        coalescedCounter = meterRegistry.counter("notification.digest.coalesced");
+    }
+
+    /**
+     * 이벤트를 바로 받을 수신자만 골라내고, 나머지는 요약 대기 목록에 추가
+     *
+     * @param receiverIds 수신자 ID 목록
+     * @param event       알림 이벤트
+     * @return 바로 알림을 보낼 수신자 ID
+     */
+    public Set<Long> admit(Collection<Long> receiverIds, NotificationEvent event) {
+        Set<Long> immediate = new LinkedHashSet<>(receiverIds);
+        if (!enabled || !digestTypes.contains(event.getType()) || receiverIds.isEmpty()) {
+            return immediate;
+        }
+
+        List<Long> candidates = new ArrayList<>(receiverIds);
+        List<String> keys = new ArrayList<>(candidates.size() * 2 + 1);
+        List<Object> args = new ArrayList<>(candidates.size() + 3);
+        keys.add(DUE_KEY);
+        args.add(bytes(String.valueOf(windowMs)));
+        args.add(bytes(String.valueOf(pendingTtlMs)));
+        args.add(eventSerializer().serialize(event));
+        for (Long receiverId : candidates) {
+            String member = member(receiverId, event.getType());
+            keys.add(OPEN_KEY_PREFIX + member);
+            keys.add(PENDING_KEY_PREFIX + member);
+            args.add(bytes(member));
+        }
+
+        List<Long> verdicts;
+        try {
+            verdicts = execute(ADMIT_SCRIPT, keys, args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("Notification digest unavailable, delivering {} notifications immediately", candidates.size(), e);
+            return immediate;
+        }
+
+        for (int i = 0; i < candidates.size(); i++) {
+            if (verdicts.get(i) == 0) {
+                immediate.remove(candidates.get(i));
+                coalescedCounter.increment();
+            }
+        }
+        return immediate;
+    }
+
+    /**
+     * 창이 닫힌 요약 대상 목록 (사용자 ID:알림 종류)
+     *
+     * @param limit 최대 개수
+     */
+    public Set<String> findDue(int limit) {
+        Set<String> due = redisTemplate.opsForZSet().rangeByScore(DUE_KEY, 0, System.currentTimeMillis(), 0, limit);
+        return due == null ? Set.of() : due;
+    }
+
+    /**
+     * 처리 기한이 지난 요약 대상 목록 (가져간 노드가 저장하지 못한 항목)
+     *
+     * @param limit 최대 개수
+     */
+    public Set<String> findStale(int limit) {
+        Set<String> stale = redisTemplate.opsForZSet().rangeByScore(PROCESSING_KEY, 0, System.currentTimeMillis(), 0, limit);
+        return stale == null ? Set.of() : stale;
+    }
+
+    /**
+     * 요약 대상 항목을 가져감
+     * 여러 노드가 동시에 실행해도 한 노드만 항목을 가져가고, 저장이 끝나면 complete 를 호출해야 함
+     *
+     * @param member 사용자 ID:알림 종류
+     * @return 쌓여 있던 이벤트 목록 (다른 노드가 가져갔으면 빈 목록)
+     */
+    public List<NotificationEvent> claim(String member) {
+        List<NotificationEvent> events = execute(CLAIM_SCRIPT,
+                List.of(DUE_KEY, PENDING_KEY_PREFIX + member, PROCESSING_KEY_PREFIX + member, PROCESSING_KEY),
+                bytes(member), bytes(String.valueOf(processingLeaseMs)), bytes(String.valueOf(pendingTtlMs)));
+        return events == null ? List.of() : events;
+    }
+
+    /**
+     * 처리 기한이 지난 항목을 다시 가져감
+     *
+     * @param member 사용자 ID:알림 종류
+     * @return 저장하지 못했던 이벤트 목록 (다른 노드가 먼저 가져갔으면 빈 목록)
+     */
+    public List<NotificationEvent> reclaim(String member) {
+        List<NotificationEvent> events = execute(RECLAIM_SCRIPT,
+                List.of(PROCESSING_KEY_PREFIX + member, PROCESSING_KEY),
+                bytes(member), bytes(String.valueOf(processingLeaseMs)));
+        return events == null ? List.of() : events;
+    }
+
+    /**
+     * 가져간 항목의 요약 알림 저장이 끝나면 processing 목록을 지움
+     *
+     * @param member 사용자 ID:알림 종류
+     */
+    public void complete(String member) {
+        redisTemplate.delete(PROCESSING_KEY_PREFIX + member);
+        redisTemplate.opsForZSet().remove(PROCESSING_KEY, member);
+    }
+
+    public static Long getUserId(String member) {
+        return Long.valueOf(member.substring(0, member.indexOf(':')));
+    }
+
+    public static NotificationType getType(String member) {
+        return NotificationType.valueOf(member.substring(member.indexOf(':') + 1));
+    }
+
+    private String member(Long receiverId, NotificationType type) {
+        return receiverId + ":" + type.name();
+    }
+
+    // 인자는 직접 직렬화한 바이트로 넘기고, 결과 중 바이트 값만 이벤트로 역직렬화
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <T> T execute(DefaultRedisScript<List> script, List<String> keys, Object... args) {
+        return (T) notificationEventRedisTemplate.execute(script, RedisSerializer.byteArray(),
+                (RedisSerializer) eventSerializer(), keys, args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<NotificationEvent> eventSerializer() {
+        return (RedisSerializer<NotificationEvent>) notificationEventRedisTemplate.getValueSerializer();
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.example.lastproject.domain.notification.dto;
+
+import com.example.lastproject.domain.chat.dto.ChatRoomResponse;
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import com.example.lastproject.domain.party.dto.response.PartyResponse;
+import com.example.lastproject.domain.party.entity.Party;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationEvent {
+
+    /*
+    RabbitMQ 로 전달되는 알림 이벤트 본문
+    컨슈머가 수신자를 찾고 알림을 만들 수 있도록 필요한 값만 구조화해서 담음
+     */
+
+    private NotificationType type;
+    private Long partyId;
+    private Long itemId;
+    private String category;
+    private String marketName;
+    private String marketAddress;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private Long chatRoomId;
+    private Long actorId; // 이벤트를 발생시킨 사용자 (알림 대상에서 제외)
+    private Long targetUserId; // 특정 사용자 한 명에게만 보내는 알림의 수신자
+    private LocalDateTime occurredAt;
+
+    public static NotificationEvent of(NotificationType type, PartyResponse partyResponse, Long actorId) {
+        return NotificationEvent.builder()
+                .type(type)
+                .partyId(partyResponse.getId())
+                .itemId(partyResponse.getItemId())
+                .category(partyResponse.getCategory())
+                .marketName(partyResponse.getMarketName())
+                .marketAddress(partyResponse.getMarketAddress())
+                .latitude(partyResponse.getLatitude())
+                .longitude(partyResponse.getLongitude())
+                .actorId(actorId)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static NotificationEvent chatCreated(Party party, ChatRoomResponse chatRoomResponse, Long actorId) {
+        return NotificationEvent.builder()
+                .type(NotificationType.CHAT_CREATE)
+                .partyId(party.getId())
+                .itemId(party.getItem().getId())
+                .category(party.getItem().getCategory())
+                .marketName(party.getMarketName())
+                .marketAddress(party.getMarketAddress())
+                .latitude(party.getLatitude())
+                .longitude(party.getLongitude())
+                .chatRoomId(chatRoomResponse.getId())
+                .actorId(actorId)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static NotificationEvent partyReminder(Party party) {
+        return NotificationEvent.builder()
+                .type(NotificationType.PARTY_REMINDER)
+                .partyId(party.getId())
+                .itemId(party.getItem().getId())
+                .category(party.getItem().getCategory())
+                .marketName(party.getMarketName())
+                .marketAddress(party.getMarketAddress())
+                .latitude(party.getLatitude())
+                .longitude(party.getLongitude())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static NotificationEvent waitlistPromoted(Party party, Long userId) {
+        return NotificationEvent.builder()
+                .type(NotificationType.WAITLIST_PROMOTED)
+                .partyId(party.getId())
+                .itemId(party.getItem().getId())
+                .category(party.getItem().getCategory())
+                .marketName(party.getMarketName())
+                .marketAddress(party.getMarketAddress())
+                .latitude(party.getLatitude())
+                .longitude(party.getLongitude())
+                .targetUserId(userId)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+}
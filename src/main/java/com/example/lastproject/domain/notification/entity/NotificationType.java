@@ -4,6 +4,8 @@ public enum NotificationType {
 
     PARTY_CREATE,
     PARTY_CANCEL,
-    CHAT_CREATE
+    CHAT_CREATE,
+    PARTY_REMINDER,
+    WAITLIST_PROMOTED
 
 }
@@ -0,0 +1,130 @@
+package com.example.lastproject.domain.notification.rabbitmq.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeclaredTopologyRegistry implements ConnectionListener {
+
+    /*
+    createQueueWithDLX 가 호출될 때마다 브로커에 큐 존재 여부를 묻지 않도록
+    이미 선언한 큐(바인딩, DLQ 포함)를 메모리에 기록해두는 레지스트리
+    연결이 새로 맺어지면(복구 포함) 브로커 상태를 신뢰할 수 없으므로 기록을 비우고 다시 선언하게 함
+    유휴 큐 정리도 선언과 같은 진행 중 작업 맵을 사용해, 정리 중에 들어온 요청은 정리가 끝난 뒤 다시 선언함
+     */
+
+    private final ConnectionFactory connectionFactory;
+
+    // 선언이 끝난 큐 이름 (큐 + 바인딩 + DLQ 가 모두 선언된 상태)
+    private final Set<String> declaredQueues = ConcurrentHashMap.newKeySet();
+
+    // 큐별로 진행 중인 선언 / 정리 작업 (동시에 들어온 첫 요청들이 한 번만 선언하도록 함)
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        connectionFactory.addConnectionListener(this);
+    }
+
+    /**
+     * 이미 선언된 큐인지 확인 (선언 / 정리 작업이 진행 중이면 선언되지 않은 것으로 봄)
+     *
+     * @param queueName 큐 이름
+     * @return 선언 여부
+     */
+    public boolean isDeclared(String queueName) {
+        return declaredQueues.contains(queueName) && !inFlight.containsKey(queueName);
+    }
+
+    /**
+     * 큐 선언을 한 번만 수행
+     * 같은 큐에 대해 동시에 요청이 들어오면 먼저 들어온 요청만 선언하고, 나머지는 그 결과를 기다림
+     *
+     * @param queueName   큐 이름
+     * @param declaration 실제 브로커 선언 작업
+     */
+    public void declareOnce(String queueName, Runnable declaration) {
+        while (!isDeclared(queueName)) {
+            CompletableFuture<Void> mine = new CompletableFuture<>();
+            CompletableFuture<Void> running = inFlight.putIfAbsent(queueName, mine);
+            if (running != null) {
+                // 다른 스레드가 선언 / 정리 중이면 완료될 때까지 대기한 뒤 다시 확인
+                running.join();
+                continue;
+            }
+
+            try {
+                if (!declaredQueues.contains(queueName)) {
+                    declaration.run();
+                    declaredQueues.add(queueName);
+                }
+                mine.complete(null);
+            } catch (RuntimeException e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(queueName, mine);
+            }
+        }
+    }
+
+    /**
+     * 큐 정리를 선언과 겹치지 않게 수행
+     * 리스너 / 큐 정리가 끝난 뒤에 기록에서 제거하고, 그 사이에 들어온 선언 요청은 정리가 끝날 때까지 대기
+     *
+     * @param queueName 큐 이름
+     * @param removal   실제 정리 작업
+     * @return 정리 여부 (선언이 진행 중이면 곧 사용될 큐이므로 정리하지 않음)
+     */
+    public boolean removeOnce(String queueName, Runnable removal) {
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(queueName, mine) != null) {
+            return false;
+        }
+
+        try {
+            removal.run();
+        } finally {
+            declaredQueues.remove(queueName);
+            mine.complete(null);
+            inFlight.remove(queueName, mine);
+        }
+        return true;
+    }
+
+    /**
+     * 선언된 큐 목록 (읽기 전용)
+     */
+    public Set<String> getDeclaredQueues() {
+        return Set.copyOf(declaredQueues);
+    }
+
+    /**
+     * 연결이 새로 생성되면(최초 연결 또는 복구) 기록을 비워 다음 요청에서 다시 선언되도록 함
+     */
+    @Override
+    public void onCreate(Connection connection) {
+        if (!declaredQueues.isEmpty()) {
+            log.info("RabbitMQ connection (re)created, invalidating {} declared queues", declaredQueues.size());
+            declaredQueues.clear();
+        }
+    }
+
+    @Override
+    public void onClose(Connection connection) {
+        declaredQueues.clear();
+    }
+
+}
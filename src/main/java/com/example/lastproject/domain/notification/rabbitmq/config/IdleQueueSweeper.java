@@ -0,0 +1,87 @@
+package com.example.lastproject.domain.notification.rabbitmq.config;
+
+import com.example.lastproject.domain.notification.rabbitmq.consumer.listener.DynamicNotificationListenerConfigurer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdleQueueSweeper {
+
+    /*
+    오랫동안 메시지가 없는 지역 큐의 리스너와 큐를 정리하는 컴포넌트
+    - idle-threshold 동안 등록 / 수신이 없던 큐의 리스너를 제거하고, 큐와 DLQ 가 비어 있으면 삭제
+    - 비어 있지 않아 삭제하지 못한 큐는 컨슈머가 사라졌으므로 x-expires 에 의해 브로커가 정리
+    - 정리가 끝난 뒤 레지스트리에서도 제거하므로 같은 지역에 새 파티가 생기면 다시 선언되고 리스너도 다시 등록됨
+      (정리는 선언과 같은 single-flight 항목으로 수행해, 정리 중에 들어온 발행 요청은 정리가 끝난 뒤 다시 선언)
+    - 정리된 큐의 DLQ 에 남은 메시지는 DeadLetterRedeliveryScheduler 가 Redis 에 기록된 큐 목록으로 계속 재전달
+     */
+
+    private final DynamicNotificationListenerConfigurer dynamicRabbitMQListener;
+    private final DeclaredTopologyRegistry topologyRegistry;
+    private final RabbitMqProducerConfig rabbitMqProducerConfig;
+    private final AmqpAdmin amqpAdmin;
+    private final MeterRegistry meterRegistry;
+
+    // 이 시간 동안 활동이 없으면 정리 대상 (기본 1일)
+    @Value("${rabbitmq.queue.idle-threshold-ms:86400000}")
+    private long idleThresholdMs;
+
+    private Counter sweptCounter;
+
+    @PostConstruct
+    public void init() {
+        sweptCounter = meterRegistry.counter("notification.queue.swept");
+        meterRegistry.gauge("notification.listener.active", dynamicRabbitMQListener,
+                listener -> listener.getListenerQueues().size());
+    }
+
+    @Scheduled(fixedDelayString = "${rabbitmq.queue.sweep-interval-ms:600000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        for (String queueName : dynamicRabbitMQListener.getListenerQueues()) {
+            if (rabbitMqProducerConfig.isShardQueue(queueName)) {
+                continue;
+            }
+            Long lastActivity = dynamicRabbitMQListener.getLastActivity(queueName);
+            if (lastActivity == null || now - lastActivity < idleThresholdMs) {
+                continue;
+            }
+            removeIdleQueue(queueName);
+        }
+    }
+
+    private void removeIdleQueue(String queueName) {
+        // 리스너와 큐를 먼저 정리하고, 레지스트리 기록은 마지막에 제거
+        boolean removed = topologyRegistry.removeOnce(queueName, () -> {
+            dynamicRabbitMQListener.removeListener(queueName);
+            deleteIfEmpty(queueName);
+            deleteIfEmpty(queueName + ".dlq");
+        });
+        if (!removed) {
+            log.debug("Queue '{}' is being declared, skipping sweep", queueName);
+            return;
+        }
+        sweptCounter.increment();
+        log.info("Removed idle notification queue '{}'", queueName);
+    }
+
+    private void deleteIfEmpty(String queueName) {
+        try {
+            // 사용 중이거나 메시지가 남아있으면 브로커가 삭제를 거부함
+            amqpAdmin.deleteQueue(queueName, true, true);
+        } catch (AmqpException e) {
+            log.info("Queue '{}' is not empty or still in use, leaving it to x-expires", queueName);
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.example.lastproject.domain.notification.rabbitmq.config;
 
+import com.example.lastproject.domain.notification.codec.NotificationMessageConverter;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,12 +31,18 @@ public class RabbitMqConsumerConfig {
     @Value("${spring.rabbitmq.port}")
     private int port;
 
+    // 알림 이벤트 발행 형식 (binary: NotificationEventCodec, json: Jackson)
+    @Value("${rabbitmq.payload.format:binary}")
+    private String payloadFormat;
+
     @Bean
     public ConnectionFactory connectionFactory() {
         CachingConnectionFactory connectionFactory = new CachingConnectionFactory(host);
         connectionFactory.setPort(port);
         connectionFactory.setUsername(username);
         connectionFactory.setPassword(password);
+        // 발행한 메시지마다 브로커 확인(ack/nack)을 CorrelationData 로 받음
+        connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.CORRELATED);
         log.info("Connecting to RabbitMQ at {}:{} with user {}", host, port, username);
         return connectionFactory;
     }
@@ -50,6 +57,9 @@ public class RabbitMqConsumerConfig {
 
     @Bean
     public MessageConverter messageConverter() {
-        return  new Jackson2JsonMessageConverter();
+        // 알림 이벤트 DTO 로 역직렬화할 수 있도록 dto 패키지를 신뢰 목록에 추가
+        Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter("com.example.lastproject.domain.notification.dto");
+        // 수신은 content-type 에 따라 바이너리 / JSON 모두 처리, 발행 형식만 설정으로 선택
+        return new NotificationMessageConverter(jsonConverter, "binary".equalsIgnoreCase(payloadFormat));
     }
 }
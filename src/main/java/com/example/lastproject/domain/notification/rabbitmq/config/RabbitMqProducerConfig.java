@@ -1,6 +1,8 @@
 package com.example.lastproject.domain.notification.rabbitmq.config;
 
 import com.example.lastproject.domain.notification.rabbitmq.consumer.listener.DynamicNotificationListenerConfigurer;
+import com.example.lastproject.domain.notification.rabbitmq.redelivery.DeadLetterSourceRegistry;
+import com.example.lastproject.domain.notification.rabbitmq.routing.NotificationRegion;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,7 +19,11 @@ import java.util.Objects;
 @Slf4j
 public class RabbitMqProducerConfig {
 
+    private static final String SHARD_QUEUE_PREFIX = "notification.shard.";
+
     private final DynamicNotificationListenerConfigurer dynamicRabbitMQListener;
+    private final DeclaredTopologyRegistry topologyRegistry;
+    private final DeadLetterSourceRegistry deadLetterSourceRegistry;
 
     @Value("${rabbitmq.exchange.name}")
     private String exchangeName;
@@ -25,6 +31,21 @@ public class RabbitMqProducerConfig {
     @Value("${rabbitmq.dead-letter-exchange.name}")
     private String partyDlx;
 
+    // 라우팅 방식 (direct: 지역(주소)별 큐, topic: 고정된 샤드 큐 + 와일드카드 바인딩)
+    @Value("${rabbitmq.routing.mode:direct}")
+    private String routingMode;
+
+    @Value("${rabbitmq.topic-exchange.name:party.topic.exchange}")
+    private String topicExchangeName;
+
+    // 샤드 큐 개수 (운영 중 변경 시 기존 샤드 큐의 바인딩을 정리해야 함)
+    @Value("${rabbitmq.topic.shard-count:4}")
+    private int shardCount;
+
+    // 지역 큐와 DLQ 가 컨슈머 없이 이 시간 동안 사용되지 않으면 브로커가 삭제 (기본 7일)
+    @Value("${rabbitmq.queue.expires-ms:604800000}")
+    private int queueExpiresMs;
+
     private final AmqpAdmin amqpAdmin;
 
     @Bean
@@ -32,6 +53,11 @@ public class RabbitMqProducerConfig {
         return new DirectExchange(exchangeName);
     }
 
+    @Bean
+    public TopicExchange topicExchange() {
+        return new TopicExchange(topicExchangeName);
+    }
+
     // DLX 교환기 설정
     @Bean
     public DirectExchange dlxExchange() {
@@ -40,23 +66,126 @@ public class RabbitMqProducerConfig {
         return dlxExchange;
     }
 
+    public boolean isTopicMode() {
+        return "topic".equalsIgnoreCase(routingMode);
+    }
+
+    // 현재 라우팅 방식에서 메시지를 보낼 교환기
+    public String getActiveExchangeName() {
+        return isTopicMode() ? topicExchangeName : exchangeName;
+    }
+
+    /**
+     * 이벤트의 라우팅 키를 결정하고, 해당 키로 보낸 메시지를 받을 큐를 보장
+     *
+     * @param eventType     이벤트 타입 (예: "party.create")
+     * @param marketAddress 마켓 주소
+     * @return 메시지를 보낼 라우팅 키
+     */
+    public String prepareRoute(String eventType, String marketAddress) {
+        if (isTopicMode()) {
+            createShardQueues();
+            return NotificationRegion.from(marketAddress).toRoutingKey(eventType);
+        }
+
+        // 공백 제거 후 점으로 변환
+        String region = marketAddress.trim().replace(" ", ".");
+        createQueueWithDLX(eventType, region);
+        return eventType + "." + region;
+    }
+
+    /**
+     * 토픽 모드의 샤드 큐 생성
+     * 마켓이 몇 개든 큐 개수는 shardCount 로 고정되고, 각 샤드는 배정된 시/도의 이벤트를 와일드카드로 받음
+     */
+    public void createShardQueues() {
+        for (int shard = 0; shard < shardCount; shard++) {
+            String queueName = getShardQueueName(shard);
+            if (topologyRegistry.isDeclared(queueName)) {
+                continue;
+            }
+            int targetShard = shard;
+            topologyRegistry.declareOnce(queueName, () -> declareShardQueue(queueName, targetShard));
+        }
+    }
+
+    /**
+     * 이름으로 알림 큐를 보장 (DLQ 재전달 전에 원래 큐가 정리되었거나 다른 서버에서 선언된 경우)
+     *
+     * @param queueName 샤드 큐 또는 지역 큐 이름
+     */
+    public void ensureQueue(String queueName) {
+        if (isShardQueue(queueName)) {
+            createShardQueues();
+            return;
+        }
+        if (!topologyRegistry.isDeclared(queueName)) {
+            topologyRegistry.declareOnce(queueName, () -> declareQueueWithDLX(queueName));
+        }
+    }
+
+    public String getShardQueueName(int shard) {
+        return SHARD_QUEUE_PREFIX + shard;
+    }
+
+    // 샤드 큐는 개수가 고정되어 있으므로 만료 / 정리 대상이 아님
+    public boolean isShardQueue(String queueName) {
+        return queueName.startsWith(SHARD_QUEUE_PREFIX);
+    }
+
+    private void declareShardQueue(String queueName, int shard) {
+        String dlxQueueName = queueName + ".dlq";
+        declareDeadLetterQueue(QueueBuilder.durable(dlxQueueName).build());
+
+        Queue queue = QueueBuilder.durable(queueName)
+                .withArgument("x-dead-letter-exchange", partyDlx)
+                .withArgument("x-dead-letter-routing-key", dlxQueueName)
+                .build();
+        amqpAdmin.declareQueue(queue);
+
+        // 이 샤드에 배정된 시/도의 모든 이벤트 타입, 모든 시/군/구를 바인딩 (예: *.*.서울.*)
+        for (String sido : NotificationRegion.SIDO_LIST) {
+            if (NotificationRegion.shardOf(sido, shardCount) == shard) {
+                Binding binding = BindingBuilder.bind(queue)
+                        .to(topicExchange())
+                        .with("*.*." + sido + ".*");
+                amqpAdmin.declareBinding(binding);
+            }
+        }
+
+        dynamicRabbitMQListener.registerListener(queueName);
+        deadLetterSourceRegistry.register(queueName);
+        log.info("Created shard queue: {}, DLQ: {}", queueName, dlxQueueName);
+    }
+
     public void createQueueWithDLX(String eventType, String region) {
         String queueName = eventType + "." + region.trim().replace(" ", ".");
+
+        // 이미 선언한 큐라면 브로커 호출 없이 바로 반환
+        if (topologyRegistry.isDeclared(queueName)) {
+            return;
+        }
+
+        // 같은 지역의 첫 요청이 동시에 들어와도 선언은 한 번만 수행
+        topologyRegistry.declareOnce(queueName, () -> declareQueueWithDLX(queueName));
+    }
+
+    private void declareQueueWithDLX(String queueName) {
         String dlxQueueName = queueName + ".dlq";
         String routingKey = queueName;
 
         // DLQ 큐 생성
+        // 지역 큐와 DLQ 는 오래 사용되지 않으면 브로커가 스스로 삭제하도록 x-expires 설정
+        // (이미 만들어진 큐는 인자를 바꿔 재선언할 수 없으므로 존재하지 않을 때만 선언)
         if (!isQueueExist(dlxQueueName)) {
-            Queue dlq = QueueBuilder.durable(dlxQueueName).build();
-            amqpAdmin.declareQueue(dlq);
-            Binding dlqBinding = BindingBuilder.bind(dlq).to(new DirectExchange(partyDlx)).with(dlxQueueName);
-            amqpAdmin.declareBinding(dlqBinding); // DLQ 바인딩
+            declareDeadLetterQueue(QueueBuilder.durable(dlxQueueName).expires(queueExpiresMs).build());
         }
 
         // 기존 큐 생성 (DLX 설정 포함)
         Queue queue = QueueBuilder.durable(queueName)
                 .withArgument("x-dead-letter-exchange", partyDlx) // DLX 설정
                 .withArgument("x-dead-letter-routing-key", dlxQueueName) // DLQ 라우팅 키
+                .expires(queueExpiresMs)
                 .build();
 
         // 기본 큐가 없으면 생성
@@ -67,13 +196,21 @@ public class RabbitMqProducerConfig {
                     .to(directExchange())
                     .with(routingKey);
             amqpAdmin.declareBinding(queueBinding); // 큐와 교환기 바인딩
-            dynamicRabbitMQListener.registerListener(queueName);
-            // 큐 생성 후 이벤트 발행
         }
 
+        // 리스너는 이미 등록되어 있으면 내부에서 건너뜀 (재연결 후 재선언 시에도 안전)
+        dynamicRabbitMQListener.registerListener(queueName);
+        deadLetterSourceRegistry.register(queueName);
+
         log.info("Created queue: {}, DLQ: {}", queueName, dlxQueueName);
     }
 
+    private void declareDeadLetterQueue(Queue dlq) {
+        amqpAdmin.declareQueue(dlq);
+        Binding dlqBinding = BindingBuilder.bind(dlq).to(new DirectExchange(partyDlx)).with(dlq.getName());
+        amqpAdmin.declareBinding(dlqBinding); // DLQ 바인딩
+    }
+
     // 큐 존재 여부 확인
     private boolean isQueueExist(String queueName) {
         return !Objects.isNull(amqpAdmin.getQueueProperties(queueName));
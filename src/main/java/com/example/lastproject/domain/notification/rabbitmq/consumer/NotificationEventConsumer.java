@@ -0,0 +1,219 @@
+package com.example.lastproject.domain.notification.rabbitmq.consumer;
+
+import com.example.lastproject.domain.notification.delivery.NotificationDeliveryLanes;
+import com.example.lastproject.domain.notification.digest.NotificationDigestService;
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.entity.Notification;
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import com.example.lastproject.domain.notification.service.NotificationService;
+import com.example.lastproject.domain.notification.service.NotificationThrottleService;
+import com.example.lastproject.domain.party.repository.PartyQueryRepositoryImpl;
+import com.example.lastproject.domain.partymember.entity.PartyMember;
+import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
+import com.example.lastproject.domain.partymember.repository.PartyMemberRepository;
+import com.example.lastproject.domain.user.dto.NearbyBookmarkUserDto;
+import com.example.lastproject.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationEventConsumer {
+
+    /*
+    지역 큐에서 받은 NotificationEvent 를 실제 사용자 알림으로 바꾸는 컨슈머
+    1. 이벤트 종류에 따라 알림을 받을 사용자 조회
+    2. 알림을 만들어 배치로 저장 (저장이 끝난 뒤에 메시지를 ack)
+    3. 저장된 알림을 SSE 로 전송
+     */
+
+    private final PartyQueryRepositoryImpl partyQueryRepository;
+    private final PartyMemberRepository partyMemberRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final NotificationThrottleService notificationThrottleService;
+    private final NotificationDigestService notificationDigestService;
+    private final NotificationDeliveryLanes notificationDeliveryLanes;
+
+    @Value("${client.basic-url}")
+    private String clientBasicUrl;
+
+    /**
+     * 이벤트를 받을 사용자를 찾아 알림을 저장
+     *
+     * @param event 수신한 알림 이벤트
+     * @return 저장된 알림 목록
+     */
+    public List<Notification> persist(NotificationEvent event) {
+        Set<Long> receiverIds = resolveReceivers(event);
+        receiverIds.remove(event.getActorId());
+
+        if (receiverIds.isEmpty()) {
+            log.info("No receivers for {} event of party {}", event.getType(), event.getPartyId());
+            return List.of();
+        }
+
+        // 창이 열려 있는 수신자의 알림은 요약 알림으로 모아서 나중에 보냄
+        receiverIds = notificationDigestService.admit(receiverIds, event);
+        if (receiverIds.isEmpty()) {
+            log.info("All receivers of {} event for party {} were deferred to digest", event.getType(), event.getPartyId());
+            return List.of();
+        }
+
+        String content = buildContent(event);
+        String url = buildUrl(event);
+
+        // 같은 알림의 중복 발송과 사용자별 과도한 발송을 저장 전에 걸러냄
+        receiverIds = notificationThrottleService.filterAllowed(receiverIds, event.getType(), content);
+        if (receiverIds.isEmpty()) {
+            log.info("All receivers of {} event for party {} were throttled", event.getType(), event.getPartyId());
+            return List.of();
+        }
+
+        List<Notification> notifications = new ArrayList<>(receiverIds.size());
+        for (Long receiverId : receiverIds) {
+            notifications.add(Notification.builder()
+                    .notificationType(event.getType())
+                    .content(content)
+                    .url(url)
+                    .receiver(userRepository.getReferenceById(receiverId))
+                    .isRead(false)
+                    .build());
+        }
+
+        return save(notifications, receiverIds, event.getType(), content);
+    }
+
+    /**
+     * 요약 대기 목록에 모인 이벤트를 알림 한 건으로 저장
+     *
+     * @param receiverId 수신자 ID
+     * @param type       알림 종류
+     * @param events     모인 이벤트 목록
+     * @return 저장된 알림 목록 (발송량 제한에 걸리면 빈 목록)
+     */
+    public List<Notification> persistDigest(Long receiverId, NotificationType type, List<NotificationEvent> events) {
+        String content = events.size() == 1 ? buildContent(events.get(0)) : buildDigestContent(type, events);
+        String url = events.size() == 1 ? buildUrl(events.get(0)) : clientBasicUrl + "/parties";
+
+        if (!notificationThrottleService.tryAcquire(receiverId, type, content)) {
+            return List.of();
+        }
+
+        Notification notification = Notification.builder()
+                .notificationType(type)
+                .content(content)
+                .url(url)
+                .receiver(userRepository.getReferenceById(receiverId))
+                .isRead(false)
+                .build();
+        return save(List.of(notification), List.of(receiverId), type, content);
+    }
+
+    // 저장에 실패하면 발송량 판정을 되돌려, 재전송된 메시지가 중복으로 걸러지지 않게 함
+    private List<Notification> save(List<Notification> notifications, Collection<Long> receiverIds,
+                                    NotificationType type, String content) {
+        try {
+            return notificationService.saveNotifications(notifications);
+        } catch (RuntimeException e) {
+            notificationThrottleService.release(receiverIds, type, content);
+            throw e;
+        }
+    }
+
+    /**
+     * 저장된 알림을 알림 종류별 전송 레인에서 SSE 로 전송
+     */
+    public void deliver(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        Map<NotificationType, List<Notification>> byType = new EnumMap<>(NotificationType.class);
+        for (Notification notification : notifications) {
+            byType.computeIfAbsent(notification.getNotificationType(), type -> new ArrayList<>()).add(notification);
+        }
+        byType.forEach((type, group) ->
+                notificationDeliveryLanes.submit(type, () -> notificationService.sendNotifications(group)));
+    }
+
+    private Set<Long> resolveReceivers(NotificationEvent event) {
+        Set<Long> receiverIds = new LinkedHashSet<>();
+
+        // 파티 생성 / 취소 : 파티 지역 10km 이내에서 해당 품목을 찜한 사용자
+        if (event.getType() == NotificationType.PARTY_CREATE || event.getType() == NotificationType.PARTY_CANCEL) {
+            List<NearbyBookmarkUserDto> nearbyUsers = partyQueryRepository.getUserIdWithDistanceNearbyParty(
+                    event.getLatitude(), event.getLongitude(), event.getItemId());
+            for (NearbyBookmarkUserDto nearbyUser : nearbyUsers) {
+                receiverIds.add(nearbyUser.getUserId());
+            }
+        }
+
+        // 파티 취소 : 참가 신청한 파티원 / 채팅 생성, 시작 전 알림 : 승인된 파티원
+        boolean acceptedOnly = event.getType() == NotificationType.CHAT_CREATE || event.getType() == NotificationType.PARTY_REMINDER;
+        if (event.getType() == NotificationType.PARTY_CANCEL || acceptedOnly) {
+            for (PartyMember member : partyMemberRepository.findByPartyId(event.getPartyId())) {
+                if (acceptedOnly && member.getInviteStatus() != PartyMemberInviteStatus.ACCEPTED) {
+                    continue;
+                }
+                if (member.getInviteStatus() != PartyMemberInviteStatus.REJECTED) {
+                    receiverIds.add(member.getUser().getId());
+                }
+            }
+        }
+
+        // 대기열 승인 : 승인된 사용자 본인
+        if (event.getType() == NotificationType.WAITLIST_PROMOTED && event.getTargetUserId() != null) {
+            receiverIds.add(event.getTargetUserId());
+        }
+
+        return receiverIds;
+    }
+
+    private String buildContent(NotificationEvent event) {
+        String format = switch (event.getType()) {
+            case PARTY_CREATE -> "%s %s %s 품목의 파티가 생성되었습니다.";
+            case PARTY_CANCEL -> "%s %s %s 품목의 파티가 취소되었습니다.";
+            case CHAT_CREATE -> "%s %s %s 품목의 채팅방이 생성되었습니다.";
+            case PARTY_REMINDER -> "%s %s %s 품목의 파티가 곧 시작됩니다.";
+            case WAITLIST_PROMOTED -> "%s %s %s 품목의 파티에 자리가 나서 참가가 승인되었습니다.";
+        };
+        return String.format(format, event.getMarketAddress(), event.getMarketName(), event.getCategory());
+    }
+
+    // 예: "근처에 양파 품목의 새 파티 5개가 생성되었습니다."
+    private String buildDigestContent(NotificationType type, List<NotificationEvent> events) {
+        Set<String> categories = new LinkedHashSet<>();
+        for (NotificationEvent event : events) {
+            categories.add(event.getCategory());
+        }
+        String category = categories.iterator().next();
+        if (categories.size() > 1) {
+            category += " 외 " + (categories.size() - 1) + "개";
+        }
+
+        String format = type == NotificationType.PARTY_CANCEL
+                ? "근처 %s 품목의 파티 %d개가 취소되었습니다."
+                : "근처에 %s 품목의 새 파티 %d개가 생성되었습니다.";
+        return String.format(format, category, events.size());
+    }
+
+    private String buildUrl(NotificationEvent event) {
+        return switch (event.getType()) {
+            case PARTY_CREATE, PARTY_REMINDER, WAITLIST_PROMOTED -> String.format("%s/parties/%d", clientBasicUrl, event.getPartyId());
+            case PARTY_CANCEL -> clientBasicUrl + "/parties";
+            case CHAT_CREATE -> clientBasicUrl + "/chat/history/" + event.getChatRoomId();
+        };
+    }
+
+}
@@ -1,16 +1,27 @@
 package com.example.lastproject.domain.notification.rabbitmq.consumer.listener;
 
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.entity.Notification;
+import com.example.lastproject.domain.notification.rabbitmq.consumer.NotificationEventConsumer;
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @Component
 @RequiredArgsConstructor
@@ -18,8 +29,25 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DynamicNotificationListenerConfigurer {
 
     private final ConnectionFactory connectionFactory; // RabbitMQ 연결 정보
+    private final MessageConverter messageConverter;
+    private final NotificationEventConsumer notificationEventConsumer;
 
     private final Map<String, SimpleMessageListenerContainer> listeners = new ConcurrentHashMap<>(); // 동적 리스너 관리
+    private final Map<String, Long> lastActivity = new ConcurrentHashMap<>(); // 큐별 마지막 등록 / 수신 시각
+    private final Map<String, Integer> consumerCounts = new ConcurrentHashMap<>(); // 큐별 현재 컨슈머 수
+    private final Map<String, LongAdder> busyNanos = new ConcurrentHashMap<>(); // 큐별 메시지 처리에 쓴 누적 시간
+
+    // 컨슈머 하나가 ack 전에 미리 받아둘 수 있는 메시지 수
+    @Value("${rabbitmq.listener.prefetch:50}")
+    private int prefetch;
+
+    // 큐당 시작 컨슈머 수 (오토스케일러의 하한)
+    @Value("${rabbitmq.listener.concurrency:1}")
+    private int concurrency;
+
+    // manual: 알림 저장 직후 ack, auto: 리스너 처리가 모두 끝난 뒤 컨테이너가 ack
+    @Value("${rabbitmq.listener.acknowledge-mode:manual}")
+    private AcknowledgeMode acknowledgeMode;
 
     /**
      * 동적 리스너 등록
@@ -34,8 +62,13 @@ public class DynamicNotificationListenerConfigurer {
         SimpleMessageListenerContainer container = new SimpleMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         container.setQueueNames(queueName);
-        container.setMessageListener(message -> handleMessage(queueName, message));
-        container.setAcknowledgeMode(AcknowledgeMode.AUTO); // 메시지 자동 확인
+        container.setMessageListener((ChannelAwareMessageListener) (message, channel) -> handleMessage(queueName, message, channel));
+        container.setAcknowledgeMode(acknowledgeMode);
+        container.setPrefetchCount(prefetch);
+        // 컨슈머 수는 ListenerAutoscaler 가 큐 적재량과 사용률을 보고 조절하므로 컨테이너 자체 스케일링은 사용하지 않음
+        container.setConcurrentConsumers(concurrency);
+        container.setMaxConcurrentConsumers(concurrency);
+        container.setDefaultRequeueRejected(false); // 처리 실패 메시지는 DLQ 로 이동
         try {
             container.start();
         } catch (Exception e) {
@@ -44,6 +77,9 @@ public class DynamicNotificationListenerConfigurer {
         }
 
         listeners.put(queueName, container); // 리스너 저장
+        lastActivity.put(queueName, System.currentTimeMillis());
+        consumerCounts.put(queueName, concurrency);
+        busyNanos.put(queueName, new LongAdder());
         log.info("Listener for queue '{}' has been registered.", queueName);
     }
 
@@ -52,6 +88,9 @@ public class DynamicNotificationListenerConfigurer {
      */
     public void removeListener(String queueName) {
         SimpleMessageListenerContainer container = listeners.remove(queueName);
+        lastActivity.remove(queueName);
+        consumerCounts.remove(queueName);
+        busyNanos.remove(queueName);
         if (container != null) {
             container.stop();
             log.info("Listener for queue '{}' has been removed.", queueName);
@@ -60,25 +99,115 @@ public class DynamicNotificationListenerConfigurer {
         }
     }
 
+    /**
+     * 리스너가 등록된 큐 목록 (읽기 전용)
+     */
+    public Set<String> getListenerQueues() {
+        return Set.copyOf(listeners.keySet());
+    }
+
+    /**
+     * 큐의 마지막 활동 시각 (리스너 등록 또는 메시지 수신)
+     *
+     * @param queueName 큐 이름
+     * @return 마지막 활동 시각(epoch millis), 리스너가 없으면 null
+     */
+    public Long getLastActivity(String queueName) {
+        return lastActivity.get(queueName);
+    }
+
+    /**
+     * 큐의 현재 컨슈머 수
+     */
+    public int getConsumerCount(String queueName) {
+        return consumerCounts.getOrDefault(queueName, 0);
+    }
+
+    /**
+     * 큐의 메시지 처리에 쓴 누적 시간 (사용률 계산용)
+     */
+    public long getBusyNanos(String queueName) {
+        LongAdder busy = busyNanos.get(queueName);
+        return busy == null ? 0 : busy.sum();
+    }
+
+    /**
+     * 큐의 컨슈머 수 변경
+     * 컨테이너는 동시 컨슈머 수가 최대 컨슈머 수를 넘을 수 없으므로 늘릴 때와 줄일 때 순서를 다르게 적용
+     *
+     * @param queueName 큐 이름
+     * @param consumers 변경할 컨슈머 수
+     */
+    public void resize(String queueName, int consumers) {
+        SimpleMessageListenerContainer container = listeners.get(queueName);
+        if (container == null) {
+            return;
+        }
+        int current = getConsumerCount(queueName);
+        if (consumers > current) {
+            container.setMaxConcurrentConsumers(consumers);
+            container.setConcurrentConsumers(consumers);
+        } else if (consumers < current) {
+            container.setConcurrentConsumers(consumers);
+            container.setMaxConcurrentConsumers(consumers);
+        }
+        consumerCounts.put(queueName, consumers);
+    }
+
     /**
      * 메시지 처리
+     * 알림 저장이 끝난 뒤에 ack 하고, 실패하면 재시도 없이 DLQ 로 보냄
      */
-    private void handleMessage(String queueName, Message message) {
+    private void handleMessage(String queueName, Message message, Channel channel) throws IOException {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        lastActivity.put(queueName, System.currentTimeMillis());
+        long startedAt = System.nanoTime();
         try {
-            String body = new String(message.getBody(), StandardCharsets.UTF_8);
-            log.info("Received message from queue '{}': {}", queueName, body);
+            Object payload = messageConverter.fromMessage(message);
 
-            // 메시지 로직 (예: 알림 전송)
-            processMessage(body);
+            if (!(payload instanceof NotificationEvent event)) {
+                // 구조화되기 전 형식(문자열)의 메시지는 처리할 수 없으므로 로그만 남기고 버림
+                log.warn("Skipping unsupported message from queue '{}': {}", queueName, payload);
+                ack(channel, deliveryTag);
+                return;
+            }
+
+            log.debug("Received {} event from queue '{}'", event.getType(), queueName);
+            List<Notification> notifications = notificationEventConsumer.persist(event);
+            ack(channel, deliveryTag);
+            deliver(queueName, notifications);
 
         } catch (Exception e) {
             log.error("Failed to process message from queue '{}'", queueName, e);
+            if (acknowledgeMode == AcknowledgeMode.MANUAL) {
+                channel.basicNack(deliveryTag, false, false);
+            } else {
+                throw new AmqpRejectAndDontRequeueException("Failed to process notification event", e);
+            }
+        } finally {
+            LongAdder busy = busyNanos.get(queueName);
+            if (busy != null) {
+                busy.add(System.nanoTime() - startedAt);
+            }
+        }
+    }
+
+    /**
+     * 저장된 알림 전송
+     * 이미 ack 한 메시지이므로 전송 실패는 nack 하지 않고 로그만 남김 (저장된 알림은 목록 조회로 확인 가능)
+     */
+    private void deliver(String queueName, List<Notification> notifications) {
+        try {
+            notificationEventConsumer.deliver(notifications);
+        } catch (RuntimeException e) {
+            log.error("Failed to deliver {} notifications from queue '{}'", notifications.size(), queueName, e);
         }
     }
 
-    private void processMessage(String message) {
-        // 메시지 처리 로직 (예: 데이터 저장, 외부 알림 등)
-        log.info("Processing message: {}", message);
+    private void ack(Channel channel, long deliveryTag) throws IOException {
+        if (acknowledgeMode == AcknowledgeMode.MANUAL) {
+            channel.basicAck(deliveryTag, false);
+        }
     }
 
 }
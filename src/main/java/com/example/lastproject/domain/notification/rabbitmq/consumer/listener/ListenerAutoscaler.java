@@ -0,0 +1,188 @@
+package com.example.lastproject.domain.notification.rabbitmq.consumer.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ListenerAutoscaler {
+
+    /*
+    알림 큐별 컨슈머 수를 큐 적재량과 컨슈머 사용률에 맞춰 조절하는 컴포넌트
+    - 적재량이 scale-up-depth 이상이거나 사용률이 high-utilization 이상이면 컨슈머를 늘림
+    - 큐가 비어 있고 사용률이 low-utilization 이하인 상태가 scale-down-samples 번 이어지면 컨슈머를 줄임
+    - 한 번에 늘리는 수는 적재량에 비례하되, 항상 [min, max] 범위 안에서만 조절
+     */
+
+    private final DynamicNotificationListenerConfigurer dynamicRabbitMQListener;
+    private final AmqpAdmin amqpAdmin;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rabbitmq.autoscale.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rabbitmq.listener.concurrency:1}")
+    private int minConsumers;
+
+    @Value("${rabbitmq.listener.max-concurrency:4}")
+    private int maxConsumers;
+
+    // 컨슈머 하나가 감당할 적재량 기준
+    @Value("${rabbitmq.autoscale.scale-up-depth:100}")
+    private int scaleUpDepth;
+
+    @Value("${rabbitmq.autoscale.high-utilization:0.8}")
+    private double highUtilization;
+
+    @Value("${rabbitmq.autoscale.low-utilization:0.2}")
+    private double lowUtilization;
+
+    @Value("${rabbitmq.autoscale.scale-down-samples:3}")
+    private int scaleDownSamples;
+
+    private final Map<String, QueueSample> samples = new ConcurrentHashMap<>();
+
+    private Counter scaleUpCounter;
+    private Counter scaleDownCounter;
+
+    @PostConstruct
+    public void init() {
+        scaleUpCounter = meterRegistry.counter("notification.autoscale.decisions", "direction", "up");
+        scaleDownCounter = meterRegistry.counter("notification.autoscale.decisions", "direction", "down");
+        meterRegistry.gauge("notification.consumers.total", dynamicRabbitMQListener, this::totalConsumers);
+        meterRegistry.gauge("notification.queue.depth.total", samples,
+                sampleMap -> sampleMap.values().stream().mapToLong(sample -> sample.depth).sum());
+    }
+
+    @Scheduled(fixedDelayString = "${rabbitmq.autoscale.interval-ms:5000}")
+    public void autoscale() {
+        if (!enabled) {
+            return;
+        }
+
+        Set<String> queueNames = dynamicRabbitMQListener.getListenerQueues();
+        samples.keySet().retainAll(queueNames);
+
+        long now = System.nanoTime();
+        for (String queueName : queueNames) {
+            try {
+                scale(queueName, now);
+            } catch (AmqpException e) {
+                log.warn("Failed to sample queue '{}' for autoscaling", queueName, e);
+            }
+        }
+    }
+
+    private void scale(String queueName, long now) {
+        QueueInformation info = amqpAdmin.getQueueInfo(queueName);
+        if (info == null) {
+            return;
+        }
+
+        int consumers = dynamicRabbitMQListener.getConsumerCount(queueName);
+        long busyNanos = dynamicRabbitMQListener.getBusyNanos(queueName);
+
+        QueueSample sample = samples.get(queueName);
+        if (sample == null) {
+            // 첫 샘플은 사용률 계산 기준점으로만 사용
+            samples.put(queueName, new QueueSample(now, busyNanos, info.getMessageCount()));
+            return;
+        }
+
+        double utilization = sample.utilization(now, busyNanos, consumers);
+        sample.update(now, busyNanos, info.getMessageCount());
+
+        int target = decide(consumers, sample.depth, utilization, sample);
+        if (target == consumers) {
+            return;
+        }
+
+        dynamicRabbitMQListener.resize(queueName, target);
+        if (target > consumers) {
+            scaleUpCounter.increment();
+        } else {
+            scaleDownCounter.increment();
+        }
+        log.info("Autoscaled queue '{}' consumers {} -> {} (depth={}, utilization={})",
+                queueName, consumers, target, sample.depth, String.format("%.2f", utilization));
+    }
+
+    /**
+     * 다음 컨슈머 수 결정
+     *
+     * @return 변경할 컨슈머 수 (변경이 없으면 현재 값)
+     */
+    int decide(int consumers, long depth, double utilization, QueueSample sample) {
+        if (depth >= scaleUpDepth || utilization >= highUtilization) {
+            sample.idleSamples = 0;
+            // 적재량이 클수록 한 번에 더 많이 늘림
+            int step = (int) Math.max(1, depth / Math.max(1, scaleUpDepth));
+            return Math.min(maxConsumers, consumers + step);
+        }
+
+        if (depth == 0 && utilization <= lowUtilization) {
+            sample.idleSamples++;
+            if (sample.idleSamples >= scaleDownSamples && consumers > minConsumers) {
+                sample.idleSamples = 0;
+                return consumers - 1;
+            }
+            return consumers;
+        }
+
+        sample.idleSamples = 0;
+        return consumers;
+    }
+
+    private int totalConsumers(DynamicNotificationListenerConfigurer listener) {
+        int total = 0;
+        for (String queueName : listener.getListenerQueues()) {
+            total += listener.getConsumerCount(queueName);
+        }
+        return total;
+    }
+
+    static class QueueSample {
+
+        private long sampledAt;
+        private long busyNanos;
+        private long depth;
+        private int idleSamples;
+
+        QueueSample(long sampledAt, long busyNanos, long depth) {
+            this.sampledAt = sampledAt;
+            this.busyNanos = busyNanos;
+            this.depth = depth;
+        }
+
+        // 직전 샘플 이후 컨슈머들이 메시지 처리에 쓴 시간의 비율
+        double utilization(long now, long currentBusyNanos, int consumers) {
+            long elapsed = now - sampledAt;
+            if (elapsed <= 0 || consumers <= 0) {
+                return 0;
+            }
+            return Math.min(1.0, (double) (currentBusyNanos - busyNanos) / ((double) elapsed * consumers));
+        }
+
+        void update(long now, long currentBusyNanos, long currentDepth) {
+            this.sampledAt = now;
+            this.busyNanos = currentBusyNanos;
+            this.depth = currentDepth;
+        }
+
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.example.lastproject.domain.notification.rabbitmq.producer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationEventPublisher {
+
+    /*
+    알림 이벤트 발행 전용 컴포넌트
+    - 이벤트를 버퍼에 모았다가 batch-size 개 또는 linger-ms 가 지나면 한 채널에서 연속으로 발행
+    - 메시지마다 CorrelationData 를 붙여 브로커 확인(publisher confirm)을 기다리고,
+      nack / 타임아웃 / 전송 오류가 난 메시지만 max-attempts 까지 재전송
+    - 대량 취소 같은 버스트에서도 웹 요청 스레드는 버퍼에 넣기만 하고 바로 반환
+     */
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rabbitmq.publisher.batch-size:100}")
+    private int batchSize;
+
+    @Value("${rabbitmq.publisher.linger-ms:5}")
+    private long lingerMs;
+
+    @Value("${rabbitmq.publisher.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${rabbitmq.publisher.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Value("${rabbitmq.publisher.max-attempts:3}")
+    private int maxAttempts;
+
+    private BlockingQueue<PendingMessage> buffer;
+    private ExecutorService flusher;
+    private volatile boolean running;
+
+    // 버퍼에 들어온 시점부터 브로커 확인까지 걸린 시간
+    private Timer publishLatency;
+    // 전송 시점부터 브로커 확인까지 걸린 시간
+    private Timer confirmLag;
+    private Counter nackedCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void init() {
+        buffer = new LinkedBlockingQueue<>(bufferCapacity);
+
+        publishLatency = Timer.builder("notification.publish.latency")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        confirmLag = Timer.builder("notification.publish.confirm.lag")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        nackedCounter = meterRegistry.counter("notification.publish.nacked");
+        retriedCounter = meterRegistry.counter("notification.publish.retried");
+        failedCounter = meterRegistry.counter("notification.publish.failed");
+        meterRegistry.gauge("notification.publish.buffer.size", buffer, BlockingQueue::size);
+
+        running = true;
+        flusher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.submit(this::runFlushLoop);
+    }
+
+    /**
+     * 이벤트 발행 요청
+     * 버퍼가 가득 찬 경우에는 이벤트를 버리지 않고 호출한 스레드에서 바로 전송
+     *
+     * @param exchange   교환기 이름
+     * @param routingKey 라우팅 키
+     * @param payload    메시지 본문
+     */
+    public void publish(String exchange, String routingKey, Object payload) {
+        PendingMessage message = new PendingMessage(exchange, routingKey, payload);
+        if (!running || !buffer.offer(message)) {
+            flush(List.of(message));
+        }
+    }
+
+    private void runFlushLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingMessage first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // linger-ms 동안 batch-size 까지 더 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                while (batch.size() < batchSize) {
+                    buffer.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingMessage next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Exception e) {
+                log.error("Unexpected error while flushing notification events", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 전송 후 브로커 확인을 기다리고, 확인받지 못한 메시지만 재전송
+     */
+    private void flush(List<PendingMessage> batch) {
+        List<PendingMessage> pending = batch;
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            send(pending);
+            pending = awaitConfirms(pending);
+
+            if (pending.isEmpty()) {
+                return;
+            }
+            if (attempt >= maxAttempts) {
+                failedCounter.increment(pending.size());
+                pending.forEach(message -> log.error("Failed to publish notification event after {} attempts: routingKey={}",
+                        maxAttempts, message.routingKey));
+                return;
+            }
+            retriedCounter.increment(pending.size());
+            log.warn("{} notification events were not confirmed, retrying (attempt {})", pending.size(), attempt + 1);
+        }
+    }
+
+    // 배치 전체를 하나의 채널에서 연속으로 발행
+    private void send(List<PendingMessage> batch) {
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (PendingMessage message : batch) {
+                    message.correlationData = new CorrelationData(UUID.randomUUID().toString());
+                    message.sentAt = System.nanoTime();
+                    operations.convertAndSend(message.exchange, message.routingKey, message.payload, message.correlationData);
+                }
+                return null;
+            });
+        } catch (AmqpException e) {
+            // 확인 대기 단계에서 타임아웃 또는 실패로 처리되어 재전송됨
+            log.warn("Failed to send notification batch of {}", batch.size(), e);
+        }
+    }
+
+    private List<PendingMessage> awaitConfirms(List<PendingMessage> batch) {
+        List<PendingMessage> unconfirmed = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMs);
+
+        for (PendingMessage message : batch) {
+            if (message.correlationData == null) {
+                unconfirmed.add(message);
+                continue;
+            }
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                CorrelationData.Confirm confirm = message.correlationData.getFuture().get(remaining, TimeUnit.NANOSECONDS);
+                if (confirm.isAck()) {
+                    long now = System.nanoTime();
+                    confirmLag.record(now - message.sentAt, TimeUnit.NANOSECONDS);
+                    publishLatency.record(now - message.enqueuedAt, TimeUnit.NANOSECONDS);
+                } else {
+                    nackedCounter.increment();
+                    unconfirmed.add(message);
+                }
+            } catch (TimeoutException | ExecutionException e) {
+                unconfirmed.add(message);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                unconfirmed.add(message);
+            } finally {
+                message.correlationData = null;
+            }
+        }
+        return unconfirmed;
+    }
+
+    /**
+     * 종료 시 버퍼에 남은 이벤트를 모두 발행한 뒤 종료
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flusher.shutdown();
+        if (!flusher.awaitTermination(confirmTimeoutMs * maxAttempts, TimeUnit.MILLISECONDS)) {
+            log.warn("Notification publisher stopped with {} buffered events", buffer.size());
+            flusher.shutdownNow();
+        }
+    }
+
+    private static class PendingMessage {
+
+        private final String exchange;
+        private final String routingKey;
+        private final Object payload;
+        private final long enqueuedAt = System.nanoTime();
+        private CorrelationData correlationData;
+        private long sentAt;
+
+        private PendingMessage(String exchange, String routingKey, Object payload) {
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+            this.payload = payload;
+        }
+
+    }
+
+}
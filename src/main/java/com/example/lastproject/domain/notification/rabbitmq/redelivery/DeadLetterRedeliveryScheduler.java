@@ -0,0 +1,268 @@
+package com.example.lastproject.domain.notification.rabbitmq.redelivery;
+
+import com.example.lastproject.domain.notification.rabbitmq.config.DeclaredTopologyRegistry;
+import com.example.lastproject.domain.notification.rabbitmq.config.RabbitMqProducerConfig;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.HeadersExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterRedeliveryScheduler {
+
+    /*
+    DLQ 에 쌓인 알림 메시지를 원래 큐로 재전달하는 스케줄러
+    - 주기적으로 선언된 큐들의 DLQ 를 비우되, 동시에 처리하는 DLQ 수는 concurrency 로 제한
+    - 재시도 횟수에 따라 단계별 지연 큐(TTL = base-delay * 2^단계)로 보내고,
+      TTL 이 지나면 기본 교환기를 통해 원래 큐로 되돌아감 (지수 백오프)
+    - max-attempts 를 넘은 메시지는 parked 큐에 보관하고 더 이상 재시도하지 않음
+    - 다른 큐로 발행한 뒤 브로커의 발행 확인(publisher confirm)을 기다린 다음에 DLQ 메시지를 ack
+    - 대상 큐는 이 서버가 선언한 큐와 Redis 에 기록된 큐(재시작 이전 / 정리된 큐 포함)를 합친 목록
+      DLQ 에 메시지가 남아 있으면 원래 큐를 다시 보장한 뒤 재전달 (정리된 큐로 보내 메시지가 버려지지 않도록)
+     */
+
+    public static final String RETRY_EXCHANGE = "notification.retry.exchange";
+    public static final String RETRY_QUEUE_PREFIX = "notification.retry.delay.";
+    public static final String PARKED_QUEUE = "notification.parked";
+
+    static final String RETRY_COUNT_HEADER = "x-redelivery-count";
+    static final String RETRY_LEVEL_HEADER = "x-retry-level";
+    static final String PARKED_FROM_HEADER = "x-parked-from";
+    static final String DLQ_SUFFIX = ".dlq";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final DeclaredTopologyRegistry topologyRegistry;
+    private final DeadLetterSourceRegistry deadLetterSourceRegistry;
+    private final RabbitMqProducerConfig rabbitMqProducerConfig;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${rabbitmq.redelivery.max-attempts:5}")
+    private int maxAttempts;
+
+    // 첫 재시도 지연 시간, 이후 단계마다 2배
+    @Value("${rabbitmq.redelivery.base-delay-ms:1000}")
+    private long baseDelayMs;
+
+    // 지연 큐 단계 수 (마지막 단계 이후의 재시도는 마지막 단계 지연을 그대로 사용)
+    @Value("${rabbitmq.redelivery.delay-levels:5}")
+    private int delayLevels;
+
+    // 동시에 비우는 DLQ 수
+    @Value("${rabbitmq.redelivery.concurrency:4}")
+    private int concurrency;
+
+    // 한 번의 실행에서 DLQ 하나당 꺼내는 최대 메시지 수
+    @Value("${rabbitmq.redelivery.batch-size:100}")
+    private int batchSize;
+
+    // 재전달한 메시지의 발행 확인을 기다리는 최대 시간
+    @Value("${rabbitmq.redelivery.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    private ExecutorService workers;
+    private Counter parkedCounter;
+    private final Map<Integer, Counter> retriedCounters = new HashMap<>();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "notification-redelivery-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        parkedCounter = meterRegistry.counter("notification.redelivery.parked");
+        for (int level = 0; level < delayLevels; level++) {
+            retriedCounters.put(level, meterRegistry.counter("notification.redelivery.retried", "level", String.valueOf(level)));
+        }
+    }
+
+    /**
+     * 선언된 모든 알림 큐의 DLQ 를 비우고 재전달
+     * 이전 실행이 끝나야 다음 실행이 시작되므로 실행끼리 겹치지 않음
+     */
+    @Scheduled(fixedDelayString = "${rabbitmq.redelivery.interval-ms:10000}")
+    public void redeliver() {
+        List<String> sourceQueues = getSourceQueues();
+        if (sourceQueues.isEmpty()) {
+            return;
+        }
+        topologyRegistry.declareOnce(PARKED_QUEUE, this::declareRetryTopology);
+
+        List<Future<?>> tasks = new ArrayList<>(sourceQueues.size());
+        for (String sourceQueue : sourceQueues) {
+            tasks.add(workers.submit(() -> drain(sourceQueue)));
+        }
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Failed to redeliver dead-lettered notifications", e);
+            }
+        }
+    }
+
+    // 재전달 대상이 되는 원래 큐 목록 (재시도 / parked 큐 제외)
+    private List<String> getSourceQueues() {
+        Set<String> candidates = new LinkedHashSet<>(topologyRegistry.getDeclaredQueues());
+        candidates.addAll(deadLetterSourceRegistry.getSources());
+
+        List<String> sourceQueues = new ArrayList<>();
+        for (String queueName : candidates) {
+            if (queueName.endsWith(DLQ_SUFFIX) || queueName.startsWith(RETRY_QUEUE_PREFIX) || queueName.equals(PARKED_QUEUE)) {
+                continue;
+            }
+            sourceQueues.add(queueName);
+        }
+        return sourceQueues;
+    }
+
+    /**
+     * DLQ 하나를 batch-size 만큼 비움
+     * 다른 큐로 발행하고 브로커의 확인을 받은 뒤에 ack 하므로 중간에 실패해도 메시지는 DLQ 에 남음
+     */
+    private void drain(String sourceQueue) {
+        String dlqName = sourceQueue + DLQ_SUFFIX;
+        QueueInformation dlq = amqpAdmin.getQueueInfo(dlqName);
+        if (dlq == null) {
+            // DLQ 가 만료 / 삭제된 큐는 더 이상 확인하지 않음
+            if (!topologyRegistry.isDeclared(sourceQueue)) {
+                deadLetterSourceRegistry.remove(sourceQueue);
+            }
+            return;
+        }
+        if (dlq.getMessageCount() == 0) {
+            return;
+        }
+
+        // 지연 큐가 만료된 메시지는 원래 큐 이름으로 라우팅되므로 원래 큐와 리스너를 먼저 보장
+        rabbitMqProducerConfig.ensureQueue(sourceQueue);
+
+        Integer moved = rabbitTemplate.execute(channel -> {
+            channel.confirmSelect();
+            int count = 0;
+            long lastDeliveryTag = 0;
+            while (count < batchSize) {
+                GetResponse response = channel.basicGet(dlqName, false);
+                if (response == null) {
+                    break;
+                }
+                route(channel, sourceQueue, response);
+                lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+                count++;
+            }
+            if (count > 0) {
+                // 확인을 받지 못하면 예외로 채널이 닫히고, ack 하지 않은 메시지는 DLQ 로 돌아감
+                channel.waitForConfirmsOrDie(confirmTimeoutMs);
+                channel.basicAck(lastDeliveryTag, true);
+            }
+            return count;
+        });
+        if (moved != null && moved > 0) {
+            log.info("Moved {} dead-lettered notifications from '{}'", moved, dlqName);
+        }
+    }
+
+    private void route(Channel channel, String sourceQueue, GetResponse response) throws IOException {
+        AMQP.BasicProperties properties = response.getProps();
+        Map<String, Object> headers = properties.getHeaders() == null
+                ? new HashMap<>()
+                : new HashMap<>(properties.getHeaders());
+
+        int attempt = getRetryCount(headers) + 1;
+        headers.put(RETRY_COUNT_HEADER, attempt);
+
+        if (attempt > maxAttempts) {
+            headers.put(PARKED_FROM_HEADER, sourceQueue);
+            channel.basicPublish("", PARKED_QUEUE, properties.builder().headers(headers).build(), response.getBody());
+            parkedCounter.increment();
+            log.warn("Parked notification from '{}' after {} attempts", sourceQueue, maxAttempts);
+            return;
+        }
+
+        // 지연 큐가 만료되면 라우팅 키(= 원래 큐 이름)로 기본 교환기를 통해 원래 큐에 다시 들어감
+        int level = getDelayLevel(attempt);
+        headers.put(RETRY_LEVEL_HEADER, String.valueOf(level));
+        channel.basicPublish(RETRY_EXCHANGE, sourceQueue, properties.builder().headers(headers).build(), response.getBody());
+        retriedCounters.get(level).increment();
+    }
+
+    int getDelayLevel(int attempt) {
+        return Math.min(attempt - 1, delayLevels - 1);
+    }
+
+    long getDelayMs(int level) {
+        return baseDelayMs << level;
+    }
+
+    private int getRetryCount(Map<String, Object> headers) {
+        Object count = headers.get(RETRY_COUNT_HEADER);
+        return count instanceof Number number ? number.intValue() : 0;
+    }
+
+    /**
+     * 재시도용 헤더 교환기, 단계별 지연 큐, parked 큐 선언
+     * 메시지마다 TTL 을 주면 앞의 메시지가 만료될 때까지 뒤의 메시지가 막히므로 단계별로 큐를 나눔
+     */
+    private void declareRetryTopology() {
+        HeadersExchange retryExchange = new HeadersExchange(RETRY_EXCHANGE);
+        amqpAdmin.declareExchange(retryExchange);
+
+        for (int level = 0; level < delayLevels; level++) {
+            Queue delayQueue = QueueBuilder.durable(RETRY_QUEUE_PREFIX + level)
+                    .ttl((int) getDelayMs(level))
+                    .deadLetterExchange("") // 만료되면 기본 교환기로 원래 라우팅 키(큐 이름)를 사용해 전달
+                    .build();
+            amqpAdmin.declareQueue(delayQueue);
+
+            Binding binding = BindingBuilder.bind(delayQueue)
+                    .to(retryExchange)
+                    .where(RETRY_LEVEL_HEADER).matches(String.valueOf(level));
+            amqpAdmin.declareBinding(binding);
+        }
+
+        amqpAdmin.declareQueue(QueueBuilder.durable(PARKED_QUEUE).build());
+        log.info("Declared notification retry topology with {} delay levels", delayLevels);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+}
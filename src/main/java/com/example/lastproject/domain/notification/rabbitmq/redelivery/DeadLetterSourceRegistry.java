@@ -0,0 +1,61 @@
+package com.example.lastproject.domain.notification.rabbitmq.redelivery;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterSourceRegistry {
+
+    /*
+    DLQ 를 가진 알림 큐 이름을 Redis SET 에 기록해두는 레지스트리
+    - 서버 메모리의 선언 기록은 재시작 / 유휴 큐 정리 시 사라지므로, 그 전에 선언된 큐의 DLQ 도 비울 수 있도록 함
+    - DLQ 가 브로커에서 사라진 큐는 재전달 스케줄러가 확인한 뒤 지움
+     */
+
+    private static final String KEY = "notification:dlq:sources";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * DLQ 를 가진 큐를 기록
+     *
+     * @param queueName 원래 큐 이름
+     */
+    public void register(String queueName) {
+        try {
+            redisTemplate.opsForSet().add(KEY, queueName);
+        } catch (DataAccessException e) {
+            // 이 서버가 선언한 큐는 메모리 기록으로도 비우므로 다음 선언 때 다시 기록
+            log.warn("Failed to register dead-letter source '{}'", queueName, e);
+        }
+    }
+
+    /**
+     * 기록된 모든 큐 (Redis 장애 시 빈 목록)
+     */
+    public Set<String> getSources() {
+        try {
+            Set<String> sources = redisTemplate.opsForSet().members(KEY);
+            return sources == null ? Set.of() : sources;
+        } catch (DataAccessException e) {
+            log.warn("Dead-letter source registry unavailable", e);
+            return Set.of();
+        }
+    }
+
+    public void remove(String queueName) {
+        try {
+            redisTemplate.opsForSet().remove(KEY, queueName);
+        } catch (DataAccessException e) {
+            log.warn("Failed to remove dead-letter source '{}'", queueName, e);
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.example.lastproject.domain.notification.rabbitmq.routing;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public class NotificationRegion {
+
+    /*
+    마켓 주소를 시/도(sido), 시/군/구(sigungu) 두 단계로 정규화한 지역 정보
+    주소 전체를 라우팅 키로 쓰면 마켓마다 큐가 생기므로,
+    토픽 라우팅에서는 "party.create.<sido>.<sigungu>" 형태의 계층형 키만 사용함
+     */
+
+    public static final String UNKNOWN = "기타";
+
+    // 표준 시/도 목록 (순서가 샤드 배정 기준이므로 변경하지 않음)
+    public static final List<String> SIDO_LIST = List.of(
+            "서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종", "경기",
+            "강원", "충북", "충남", "전북", "전남", "경북", "경남", "제주", UNKNOWN
+    );
+
+    // 주소에 나올 수 있는 시/도 표기 -> 표준 시/도
+    private static final Map<String, String> SIDO_ALIASES = new LinkedHashMap<>();
+
+    static {
+        for (String sido : SIDO_LIST) {
+            SIDO_ALIASES.put(sido, sido);
+        }
+        SIDO_ALIASES.put("서울특별시", "서울");
+        SIDO_ALIASES.put("부산광역시", "부산");
+        SIDO_ALIASES.put("대구광역시", "대구");
+        SIDO_ALIASES.put("인천광역시", "인천");
+        SIDO_ALIASES.put("광주광역시", "광주");
+        SIDO_ALIASES.put("대전광역시", "대전");
+        SIDO_ALIASES.put("울산광역시", "울산");
+        SIDO_ALIASES.put("세종특별자치시", "세종");
+        SIDO_ALIASES.put("경기도", "경기");
+        SIDO_ALIASES.put("강원도", "강원");
+        SIDO_ALIASES.put("강원특별자치도", "강원");
+        SIDO_ALIASES.put("충청북도", "충북");
+        SIDO_ALIASES.put("충청남도", "충남");
+        SIDO_ALIASES.put("전라북도", "전북");
+        SIDO_ALIASES.put("전북특별자치도", "전북");
+        SIDO_ALIASES.put("전라남도", "전남");
+        SIDO_ALIASES.put("경상북도", "경북");
+        SIDO_ALIASES.put("경상남도", "경남");
+        SIDO_ALIASES.put("제주도", "제주");
+        SIDO_ALIASES.put("제주특별자치도", "제주");
+    }
+
+    private final String sido;
+    private final String sigungu;
+
+    private NotificationRegion(String sido, String sigungu) {
+        this.sido = sido;
+        this.sigungu = sigungu;
+    }
+
+    /**
+     * 마켓 주소에서 지역 정보 추출
+     *
+     * @param address 마켓 주소 (예: "서울 강남구 역삼동 123")
+     * @return 정규화된 지역 정보, 알 수 없는 부분은 "기타"
+     */
+    public static NotificationRegion from(String address) {
+        if (address == null || address.isBlank()) {
+            return new NotificationRegion(UNKNOWN, UNKNOWN);
+        }
+
+        String[] tokens = address.trim().split("\\s+");
+        String sido = SIDO_ALIASES.getOrDefault(tokens[0], UNKNOWN);
+
+        // 시/군/구 로 끝나는 두 번째 토큰만 사용 (세종시처럼 시/군/구가 없는 주소 대응)
+        String sigungu = UNKNOWN;
+        if (tokens.length > 1 && tokens[1].matches(".+[시군구]")) {
+            sigungu = tokens[1];
+        }
+
+        return new NotificationRegion(sido, sanitize(sigungu));
+    }
+
+    /**
+     * 계층형 라우팅 키 생성
+     *
+     * @param eventType 이벤트 타입 (예: "party.create")
+     * @return "party.create.<sido>.<sigungu>"
+     */
+    public String toRoutingKey(String eventType) {
+        return eventType + "." + sido + "." + sigungu;
+    }
+
+    /**
+     * 시/도가 배정되는 샤드 번호
+     *
+     * @param shardCount 샤드 큐 개수
+     * @return 0 ~ shardCount - 1
+     */
+    public int getShard(int shardCount) {
+        return shardOf(sido, shardCount);
+    }
+
+    public static int shardOf(String sido, int shardCount) {
+        return SIDO_LIST.indexOf(sido) % shardCount;
+    }
+
+    // 라우팅 키 구분자(.)와 와일드카드 문자가 토큰에 섞이지 않도록 제거
+    private static String sanitize(String token) {
+        return token.replaceAll("[.*#]", "");
+    }
+
+}
@@ -16,6 +16,12 @@ public interface EmitterRepository {
     // findAllEventCacheStartWithByUserId 는 해당 user와 관련된 모든 event를 찾습니다.
     Map<String, Object> findAllEventCacheStartWithByUserId(String userId);
 
+    // 이 서버에 연결된 모든 emitter (종료 시 연결 정리용)
+    Map<String, SseEmitter> findAllEmitters();
+
+    // 이 서버에 저장된 모든 이벤트 캐시 (종료 시 공유 저장소로 옮기기 위함)
+    Map<String, Object> findAllEventCache();
+
     void deleteById(String emitterId);
 
     void deleteAllEmitterStartWithUserId(String userId);
@@ -43,6 +43,18 @@ public class EmitterRepositoryImpl implements EmitterRepository {
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
+    // 이 서버에 연결된 모든 Emitter를 찾는다.
+    @Override
+    public Map<String, SseEmitter> findAllEmitters() {
+        return Map.copyOf(emitters);
+    }
+
+    // 이 서버에 저장된 모든 이벤트를 찾는다.
+    @Override
+    public Map<String, Object> findAllEventCache() {
+        return Map.copyOf(eventCache);
+    }
+
     // Emitter를 지운다.
     @Override
     public void deleteById(String emitterId) {
@@ -0,0 +1,75 @@
+package com.example.lastproject.domain.notification.repository;
+
+import com.example.lastproject.domain.notification.dto.NotificationResponse;
+import com.example.lastproject.domain.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationReplayRepository {
+
+    /*
+    서버 간에 공유되는 SSE 재전송용 이벤트 저장소
+    서버가 종료될 때 메모리의 이벤트 캐시를 옮겨두어, 다른 서버로 재연결한 클라이언트도 놓친 알림을 받을 수 있게 함
+    사용자별 해시(key: emitterId, value: 이벤트)로 저장하고 일정 시간이 지나면 만료
+     */
+
+    private static final String KEY_PREFIX = "notification:replay:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${notification.replay.ttl-ms:600000}")
+    private long ttlMs;
+
+    /**
+     * 이벤트 캐시를 사용자별로 나누어 저장
+     *
+     * @param eventCache emitterId(사용자ID_시각) -> 이벤트
+     */
+    public void saveAll(Map<String, Object> eventCache) {
+        Map<String, Map<String, Object>> byUser = new HashMap<>();
+        eventCache.forEach((emitterId, event) -> {
+            int separator = emitterId.indexOf('_');
+            String userId = separator > 0 ? emitterId.substring(0, separator) : emitterId;
+            // 엔티티는 지연 로딩 필드가 있어 그대로 직렬화하지 않고 응답 형태로 저장
+            Object value = event instanceof Notification notification ? NotificationResponse.of(notification) : event;
+            byUser.computeIfAbsent(userId, key -> new HashMap<>()).put(emitterId, value);
+        });
+
+        byUser.forEach((userId, events) -> {
+            String key = KEY_PREFIX + userId;
+            redisTemplate.opsForHash().putAll(key, events);
+            redisTemplate.expire(key, Duration.ofMillis(ttlMs));
+        });
+    }
+
+    /**
+     * 사용자의 재전송 이벤트 조회
+     *
+     * @param userId 사용자 ID
+     * @return emitterId -> 이벤트 (Redis 장애 시 빈 값)
+     */
+    public Map<String, Object> findAllByUserId(String userId) {
+        Map<Object, Object> entries;
+        try {
+            entries = redisTemplate.opsForHash().entries(KEY_PREFIX + userId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to load replay events of user {}", userId, e);
+            return Map.of();
+        }
+        Map<String, Object> events = new HashMap<>(entries.size());
+        entries.forEach((emitterId, event) -> events.put(String.valueOf(emitterId), event));
+        return events;
+    }
+
+}
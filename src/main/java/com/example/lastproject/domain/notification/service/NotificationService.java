@@ -6,6 +6,8 @@ import com.example.lastproject.domain.notification.dto.NotificationListResponse;
 import com.example.lastproject.domain.notification.entity.Notification;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+
 public interface NotificationService {
 
     // 찜한 품목의 파티가 생성된 경우 알림
@@ -29,6 +31,12 @@ public interface NotificationService {
     // 알림 저장
     Notification saveNotification(AuthUser authUser, Notification notification);
 
+    // 컨슈머에서 만든 알림들을 배치 단위로 저장합니다.
+    List<Notification> saveNotifications(List<Notification> notifications);
+
+    // 저장된 알림들을 각 수신자에게 전송합니다.
+    void sendNotifications(List<Notification> notifications);
+
     // 사용자의 알림 목록을 조회합니다.
     NotificationListResponse getNotifications(AuthUser authUser);
 
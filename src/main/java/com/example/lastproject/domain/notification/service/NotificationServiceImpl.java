@@ -9,6 +9,7 @@ import com.example.lastproject.domain.notification.dto.NotificationResponse;
 import com.example.lastproject.domain.notification.entity.Notification;
 import com.example.lastproject.domain.notification.entity.NotificationType;
 import com.example.lastproject.domain.notification.repository.EmitterRepository;
+import com.example.lastproject.domain.notification.repository.NotificationReplayRepository;
 import com.example.lastproject.domain.notification.repository.NotificationRepository;
 import com.example.lastproject.domain.party.dto.response.PartyResponse;
 import com.example.lastproject.domain.party.entity.Party;
@@ -23,7 +24,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -34,6 +38,9 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final EmitterRepository emitterRepository;
     private final PartyRepository partyRepository;
+    private final NotificationThrottleService notificationThrottleService;
+    private final NotificationReplayRepository notificationReplayRepository;
+    private final SseDrainLifecycle sseDrainLifecycle;
 
     // 연결 지속시간 한시간
     private static final Long DEFAULT_TIMEOUT = 30 * 60 * 1000L;
@@ -41,6 +48,10 @@ public class NotificationServiceImpl implements NotificationService {
     @Value("${client.basic-url}")
     private String clientBasicUrl;
 
+    // 한 번에 저장할 알림 개수
+    @Value("${notification.persist.batch-size:500}")
+    private int persistBatchSize;
+
     /**
      * SSE 연결
      *
@@ -51,6 +62,11 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional
     @Override
     public SseEmitter subscribe(AuthUser authUser, String lastEventId) {
+        // 종료 중인 서버는 새 연결을 받지 않고 다른 서버로 재연결하도록 안내
+        if (sseDrainLifecycle.isDraining()) {
+            return sseDrainLifecycle.rejectDuringDrain();
+        }
+
         String emitterId = makeTimeIncludeId(authUser);
         SseEmitter emitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
 
@@ -59,7 +75,10 @@ public class NotificationServiceImpl implements NotificationService {
         emitter.onTimeout(() -> emitterRepository.deleteById(emitterId));
 
         if (!lastEventId.isEmpty()) {
-            Map<String, Object> events = emitterRepository.findAllEventCacheStartWithByUserId(String.valueOf(authUser.getUserId()));
+            // 종료된 다른 서버가 옮겨둔 이벤트와 이 서버의 이벤트를 시간 순으로 합쳐 재전송
+            String userId = String.valueOf(authUser.getUserId());
+            Map<String, Object> events = new TreeMap<>(notificationReplayRepository.findAllByUserId(userId));
+            events.putAll(emitterRepository.findAllEventCacheStartWithByUserId(userId));
             events.entrySet().stream()
                     .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0)
                     .forEach(entry -> sendToClient(emitter, entry.getKey(), entry.getKey(), entry.getValue()));
@@ -105,12 +124,25 @@ public class NotificationServiceImpl implements NotificationService {
 
     /**
      * 알림을 저장하고, 저장된 알림을 클라이언트에게 전송합니다.
+     * 같은 알림이 반복되거나 사용자별 발송량을 넘은 경우 저장하지 않고 건너뜁니다.
      *
      * @param authUser 요청을 보낸 인증된 사용자 정보
      */
     @Override
     public void send(AuthUser authUser, Notification notification) {
-        sendNotification(authUser, saveNotification(authUser, notification));
+        Long receiverId = notification.getReceiver() != null ? notification.getReceiver().getId() : authUser.getUserId();
+        if (!notificationThrottleService.tryAcquire(receiverId, notification.getNotificationType(), notification.getContent())) {
+            log.info("Notification to user {} suppressed by throttle", receiverId);
+            return;
+        }
+        Notification saved;
+        try {
+            saved = saveNotification(authUser, notification);
+        } catch (RuntimeException e) {
+            notificationThrottleService.release(List.of(receiverId), notification.getNotificationType(), notification.getContent());
+            throw e;
+        }
+        sendNotification(authUser, saved);
     }
 
     /**
@@ -128,6 +160,38 @@ public class NotificationServiceImpl implements NotificationService {
         return notification;
     }
 
+    /**
+     * 알림 일괄 저장
+     * persistBatchSize 단위로 나누어 저장하고 flush 하여 한 번에 너무 많은 엔티티가 쌓이지 않도록 합니다.
+     *
+     * @param notifications 저장할 알림 목록
+     * @return 저장된 알림 목록
+     */
+    @Transactional
+    @Override
+    public List<Notification> saveNotifications(List<Notification> notifications) {
+        List<Notification> saved = new ArrayList<>(notifications.size());
+        for (int from = 0; from < notifications.size(); from += persistBatchSize) {
+            List<Notification> chunk = notifications.subList(from, Math.min(from + persistBatchSize, notifications.size()));
+            saved.addAll(notificationRepository.saveAll(chunk));
+            notificationRepository.flush();
+        }
+        return saved;
+    }
+
+    /**
+     * 저장된 알림들을 각 수신자에게 비동기로 전송합니다.
+     *
+     * @param notifications 전송할 알림 목록 (receiver 가 설정되어 있어야 함)
+     */
+    @Async
+    @Override
+    public void sendNotifications(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            sendToReceiver(String.valueOf(notification.getReceiver().getId()), notification);
+        }
+    }
+
     /**
      * 비동기적으로 알림을 전송합니다.
      *
@@ -137,7 +201,10 @@ public class NotificationServiceImpl implements NotificationService {
     @Async
     @Override
     public void sendNotification(AuthUser authUser, Notification notification) {
-        String receiverId = String.valueOf(authUser.getUserId());
+        sendToReceiver(String.valueOf(authUser.getUserId()), notification);
+    }
+
+    private void sendToReceiver(String receiverId, Notification notification) {
         String eventId = receiverId + "_" + System.currentTimeMillis();
 
         // 유저의 모든 SseEmitter 가져옴
@@ -0,0 +1,272 @@
+package com.example.lastproject.domain.notification.service;
+
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationThrottleService {
+
+    /*
+    사용자별 알림 발송량 제한
+    1. 중복 제거: 같은 사용자에게 같은 종류 / 같은 내용의 알림은 dedup-window 동안 한 번만 보냄
+    2. 토큰 버킷: 사용자별로 capacity 개까지 연속 발송, 이후에는 분당 refill-per-minute 개씩 회복
+    - Redis Lua 스크립트로 여러 사용자를 한 번에 판정하여 인스턴스가 여러 개여도 같은 기준을 적용
+    - 로컬 캐시에 최근 발송 키와 토큰이 바닥난 사용자를 기억해, 확실히 막힐 요청은 Redis 에 묻지 않음
+    - Redis 장애 시에는 알림을 막지 않음 (fail-open)
+    - 허용한 뒤 저장에 실패하면 release 로 중복 키를 지우고 토큰을 돌려줌
+      (재전송된 메시지가 중복으로 판정되어 알림이 사라지지 않도록)
+     */
+
+    private static final String DEDUP_KEY_PREFIX = "notification:dedup:";
+    private static final String BUCKET_KEY_PREFIX = "notification:bucket:";
+
+    static final long ALLOWED = 0;
+    static final long DUPLICATED = 1;
+    static final long THROTTLED = 2;
+
+    // KEYS: 사용자마다 [중복 키, 버킷 키], ARGV: [dedup window(ms), capacity, 1ms 당 회복 토큰 수, 버킷 ttl(ms)]
+    // 결과: 사용자마다 [판정 결과, 토큰이 1개가 될 때까지 남은 시간(ms)]
+    private static final DefaultRedisScript<List> THROTTLE_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            local capacity = tonumber(ARGV[2])
+            local rate = tonumber(ARGV[3])
+            local ttl = tonumber(ARGV[4])
+            local result = {}
+            for i = 1, #KEYS, 2 do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    result[#result + 1] = 1
+                    result[#result + 1] = 0
+                else
+                    local bucket = redis.call('HMGET', KEYS[i + 1], 'tokens', 'ts')
+                    local tokens = tonumber(bucket[1]) or capacity
+                    local ts = tonumber(bucket[2]) or now
+                    tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+                    if tokens < 1 then
+                        result[#result + 1] = 2
+                        result[#result + 1] = math.ceil((1 - tokens) / rate)
+                    else
+                        tokens = tokens - 1
+                        redis.call('SET', KEYS[i], '1', 'PX', window)
+                        result[#result + 1] = 0
+                        result[#result + 1] = 0
+                    end
+                    redis.call('HSET', KEYS[i + 1], 'tokens', tostring(tokens), 'ts', now)
+                    redis.call('PEXPIRE', KEYS[i + 1], ttl)
+                end
+            end
+            return result
+            """, List.class);
+
+    // KEYS: 사용자마다 [중복 키, 버킷 키], ARGV: [capacity]
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            for i = 1, #KEYS, 2 do
+                redis.call('DEL', KEYS[i])
+                local tokens = tonumber(redis.call('HGET', KEYS[i + 1], 'tokens'))
+                if tokens then
+                    redis.call('HSET', KEYS[i + 1], 'tokens', tostring(math.min(capacity, tokens + 1)))
+                end
+            end
+            return #KEYS / 2
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.throttle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.throttle.dedup-window-ms:600000}")
+    private long dedupWindowMs;
+
+    @Value("${notification.throttle.capacity:5}")
+    private int capacity;
+
+    @Value("${notification.throttle.refill-per-minute:1}")
+    private double refillPerMinute;
+
+    // 로컬 빠른 경로: 중복 키 -> 만료 시각, 사용자 -> 다음 토큰이 생기는 시각
+    private final Map<String, Long> recentKeys = new ConcurrentHashMap<>();
+    private final Map<Long, Long> throttledUntil = new ConcurrentHashMap<>();
+
+    private Counter duplicatedCounter;
+    private Counter throttledCounter;
+    private Counter localHitCounter;
+
+    @PostConstruct
+    public void init() {
+        duplicatedCounter = meterRegistry.counter("notification.suppressed", "reason", "dedup");
+        throttledCounter = meterRegistry.counter("notification.suppressed", "reason", "throttled");
+        localHitCounter = meterRegistry.counter("notification.throttle.local.hit");
+    }
+
+    /**
+     * 알림 한 건의 발송 가능 여부
+     *
+     * @param receiverId 수신자 ID
+     * @param type       알림 종류
+     * @param content    알림 내용
+     * @return 발송 가능하면 true
+     */
+    public boolean tryAcquire(Long receiverId, NotificationType type, String content) {
+        return !filterAllowed(List.of(receiverId), type, content).isEmpty();
+    }
+
+    /**
+     * 같은 알림을 받을 수신자 중 실제로 보낼 수 있는 수신자만 골라냄
+     *
+     * @param receiverIds 수신자 ID 목록
+     * @param type        알림 종류
+     * @param content     알림 내용
+     * @return 발송 가능한 수신자 ID (입력 순서 유지)
+     */
+    public Set<Long> filterAllowed(Collection<Long> receiverIds, NotificationType type, String content) {
+        Set<Long> allowed = new LinkedHashSet<>();
+        if (!enabled) {
+            allowed.addAll(receiverIds);
+            return allowed;
+        }
+
+        long now = System.currentTimeMillis();
+        String contentKey = contentKey(type, content);
+
+        // 로컬에서 이미 막힐 것이 확실한 사용자는 Redis 에 묻지 않음
+        List<Long> candidates = new ArrayList<>(receiverIds.size());
+        for (Long receiverId : receiverIds) {
+            Long dedupExpiresAt = recentKeys.get(dedupKey(receiverId, contentKey));
+            if (dedupExpiresAt != null && dedupExpiresAt > now) {
+                localHitCounter.increment();
+                duplicatedCounter.increment();
+                continue;
+            }
+            Long until = throttledUntil.get(receiverId);
+            if (until != null && until > now) {
+                localHitCounter.increment();
+                throttledCounter.increment();
+                continue;
+            }
+            candidates.add(receiverId);
+        }
+        if (candidates.isEmpty()) {
+            return allowed;
+        }
+
+        List<Long> verdicts = evaluate(candidates, contentKey);
+        if (verdicts == null) {
+            allowed.addAll(candidates);
+            return allowed;
+        }
+
+        for (int i = 0; i < candidates.size(); i++) {
+            Long receiverId = candidates.get(i);
+            long verdict = verdicts.get(i * 2);
+            if (verdict == ALLOWED) {
+                allowed.add(receiverId);
+                recentKeys.put(dedupKey(receiverId, contentKey), now + dedupWindowMs);
+            } else if (verdict == DUPLICATED) {
+                duplicatedCounter.increment();
+            } else {
+                throttledCounter.increment();
+                throttledUntil.put(receiverId, now + verdicts.get(i * 2 + 1));
+            }
+        }
+
+        if (allowed.size() < receiverIds.size()) {
+            log.debug("Suppressed {} of {} {} notifications", receiverIds.size() - allowed.size(), receiverIds.size(), type);
+        }
+        return allowed;
+    }
+
+    /**
+     * filterAllowed / tryAcquire 로 허용했지만 저장하지 못한 알림의 판정을 되돌림
+     * 중복 키를 지우고 사용한 토큰을 돌려주어, 같은 알림을 다시 처리할 때 허용되도록 함
+     *
+     * @param receiverIds 허용되었던 수신자 ID 목록
+     * @param type        알림 종류
+     * @param content     알림 내용
+     */
+    public void release(Collection<Long> receiverIds, NotificationType type, String content) {
+        if (!enabled || receiverIds.isEmpty()) {
+            return;
+        }
+        String contentKey = contentKey(type, content);
+        List<String> keys = new ArrayList<>(receiverIds.size() * 2);
+        for (Long receiverId : receiverIds) {
+            recentKeys.remove(dedupKey(receiverId, contentKey));
+            keys.add(DEDUP_KEY_PREFIX + dedupKey(receiverId, contentKey));
+            keys.add(BUCKET_KEY_PREFIX + receiverId);
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, keys, String.valueOf(capacity));
+        } catch (DataAccessException e) {
+            // 남은 중복 키는 dedup-window 가 지나면 만료됨
+            log.warn("Failed to release throttle of {} {} notifications", receiverIds.size(), type, e);
+        }
+    }
+
+    // Redis 에서 일괄 판정, 실패하면 null
+    @SuppressWarnings("unchecked")
+    private List<Long> evaluate(List<Long> receiverIds, String contentKey) {
+        List<String> keys = new ArrayList<>(receiverIds.size() * 2);
+        for (Long receiverId : receiverIds) {
+            keys.add(DEDUP_KEY_PREFIX + dedupKey(receiverId, contentKey));
+            keys.add(BUCKET_KEY_PREFIX + receiverId);
+        }
+
+        double refillPerMs = refillPerMinute / 60_000d;
+        long bucketTtlMs = (long) Math.ceil(capacity / refillPerMs);
+        try {
+            return (List<Long>) redisTemplate.execute(THROTTLE_SCRIPT, keys,
+                    String.valueOf(dedupWindowMs),
+                    String.valueOf(capacity),
+                    String.valueOf(refillPerMs),
+                    String.valueOf(bucketTtlMs));
+        } catch (DataAccessException e) {
+            log.warn("Notification throttle unavailable, allowing {} notifications", receiverIds.size(), e);
+            return null;
+        }
+    }
+
+    private String contentKey(NotificationType type, String content) {
+        return type.name() + ":" + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String dedupKey(Long receiverId, String contentKey) {
+        return receiverId + ":" + contentKey;
+    }
+
+    /**
+     * 만료된 로컬 캐시 정리
+     */
+    @Scheduled(fixedDelayString = "${notification.throttle.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        recentKeys.values().removeIf(expiresAt -> expiresAt <= now);
+        throttledUntil.values().removeIf(until -> until <= now);
+    }
+
+}
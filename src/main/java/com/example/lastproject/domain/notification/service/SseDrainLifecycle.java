@@ -0,0 +1,159 @@
+package com.example.lastproject.domain.notification.service;
+
+import com.example.lastproject.domain.notification.repository.EmitterRepository;
+import com.example.lastproject.domain.notification.repository.NotificationReplayRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SseDrainLifecycle implements SmartLifecycle {
+
+    /*
+    서버 종료 시 SSE 연결 정리
+    - 모든 클라이언트가 한 번에 끊기면 같은 순간에 다른 서버로 재연결이 몰리므로
+      연결을 무작위로 섞어 drain-window 동안 여러 묶음으로 나누어 종료
+    - 종료 직전 클라이언트마다 무작위 retry 값을 보내 재연결 시점도 drain-window 안에서 흩어지게 함
+    - 메모리에만 있던 재전송용 이벤트는 종료 전에 Redis 로 옮겨, 다른 서버에서 Last-Event-ID 로 이어받을 수 있게 함
+    - 웹 서버의 graceful shutdown 보다 먼저 실행되도록 가장 높은 phase 를 사용
+     */
+
+    private final EmitterRepository emitterRepository;
+    private final NotificationReplayRepository notificationReplayRepository;
+
+    // 연결 종료와 재연결을 분산시킬 시간
+    @Value("${notification.sse.drain-window-ms:10000}")
+    private long drainWindowMs;
+
+    // 한 번에 종료할 연결 수
+    @Value("${notification.sse.drain-batch-size:200}")
+    private int drainBatchSize;
+
+    // 클라이언트에게 안내할 최소 재연결 대기 시간
+    @Value("${notification.sse.min-reconnect-ms:1000}")
+    private long minReconnectMs;
+
+    private volatile boolean running;
+    private volatile boolean draining;
+
+    @Override
+    public void start() {
+        draining = false;
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        draining = true;
+        try {
+            flushReplayEvents();
+            drain();
+        } finally {
+            running = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    /**
+     * 종료 중에 들어온 연결 요청에 재연결 시점만 안내하고 바로 종료
+     *
+     * @return 이미 완료된 SseEmitter
+     */
+    public SseEmitter rejectDuringDrain() {
+        SseEmitter emitter = new SseEmitter(0L);
+        sendReconnectHint(emitter);
+        emitter.complete();
+        return emitter;
+    }
+
+    // 메모리의 이벤트 캐시를 공유 저장소로 옮김
+    private void flushReplayEvents() {
+        Map<String, Object> eventCache = emitterRepository.findAllEventCache();
+        if (eventCache.isEmpty()) {
+            return;
+        }
+        try {
+            notificationReplayRepository.saveAll(eventCache);
+            log.info("Flushed {} SSE replay events before shutdown", eventCache.size());
+        } catch (DataAccessException e) {
+            log.warn("Failed to flush {} SSE replay events before shutdown", eventCache.size(), e);
+        }
+    }
+
+    // 연결을 묶음으로 나누어 drain-window 동안 고르게 종료
+    void drain() {
+        List<Map.Entry<String, SseEmitter>> emitters = new ArrayList<>(emitterRepository.findAllEmitters().entrySet());
+        if (emitters.isEmpty()) {
+            return;
+        }
+        Collections.shuffle(emitters);
+
+        int batchSize = Math.max(1, drainBatchSize);
+        int batches = (emitters.size() + batchSize - 1) / batchSize;
+        long interval = batches > 1 ? drainWindowMs / batches : 0;
+        log.info("Draining {} SSE connections in {} batches over {} ms", emitters.size(), batches, drainWindowMs);
+
+        boolean interrupted = false;
+        for (int from = 0; from < emitters.size(); from += batchSize) {
+            // 중단되면 남은 연결을 기다리지 않고 바로 종료
+            if (from > 0 && !interrupted) {
+                interrupted = !pause(interval);
+            }
+            for (Map.Entry<String, SseEmitter> entry : emitters.subList(from, Math.min(emitters.size(), from + batchSize))) {
+                SseEmitter emitter = entry.getValue();
+                sendReconnectHint(emitter);
+                emitter.complete();
+                emitterRepository.deleteById(entry.getKey());
+            }
+        }
+    }
+
+    // SSE retry 필드로 클라이언트마다 다른 재연결 대기 시간을 안내
+    private void sendReconnectHint(SseEmitter emitter) {
+        long reconnectMs = minReconnectMs + ThreadLocalRandom.current().nextLong(Math.max(1, drainWindowMs));
+        try {
+            emitter.send(SseEmitter.event()
+                    .reconnectTime(reconnectMs)
+                    .comment("server shutting down"));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to send reconnect hint: {}", e.getMessage());
+        }
+    }
+
+    private boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
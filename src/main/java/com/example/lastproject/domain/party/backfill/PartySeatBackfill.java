@@ -0,0 +1,95 @@
+package com.example.lastproject.domain.party.backfill;
+
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import com.example.lastproject.domain.penalty.service.LettuceLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartySeatBackfill {
+
+    /*
+    승인 인원(accepted_count) 컬럼 도입 이전 파티의 값을 서버 시작 시 한 번 채우는 작업
+    - 컬럼 기본값이 1 이라 이미 승인된 파티원이 있는 파티도 1 로 시작하고, 그대로 두면 좌석 예약이 정원을 넘김
+    - id 범위 단위로 승인된 파티 멤버 수를 다시 세어 채우고 모집 중 / 모집 완료 상태도 함께 다시 계산 (범위마다 커밋)
+    - 여러 서버 중 분산 락을 잡은 한 서버만 실행하고, 끝나면 완료 표시를 남겨 이후 시작에서는 건너뜀
+     */
+
+    private static final String LOCK_KEY = "party:seat-backfill:lock";
+    private static final String DONE_KEY = "party:seat-backfill:done";
+
+    private final PartyRepository partyRepository;
+    private final LettuceLockService lettuceLockService;
+    private final StringRedisTemplate redisTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${party.seat-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${party.seat-backfill.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${party.seat-backfill.lock-timeout-seconds:600}")
+    private long lockTimeoutSeconds;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY))) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to check party seat backfill status, skipping until next start", e);
+            return;
+        }
+
+        String lockToken = lettuceLockService.tryLock(LOCK_KEY, lockTimeoutSeconds);
+        if (lockToken == null) {
+            return;
+        }
+
+        try {
+            int updated = run();
+            redisTemplate.opsForValue().set(DONE_KEY, "1");
+            log.info("Backfilled accepted count of {} parties", updated);
+        } catch (RuntimeException e) {
+            // 완료 표시가 없으므로 다음 시작에서 다시 실행 (이미 맞는 파티는 UPDATE 대상에서 빠짐)
+            log.error("Failed to backfill party accepted count", e);
+        } finally {
+            try {
+                if (!lettuceLockService.releaseLock(LOCK_KEY, lockToken)) {
+                    log.warn("Party seat backfill lock expired before release");
+                }
+            } catch (DataAccessException e) {
+                log.warn("Failed to release party seat backfill lock", e);
+            }
+        }
+    }
+
+    private int run() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long maxId = partyRepository.findMaxId();
+        int updated = 0;
+        for (long fromId = 0; fromId < maxId; fromId += chunkSize) {
+            long from = fromId;
+            Integer chunk = transactionTemplate.execute(
+                    status -> partyRepository.backfillAcceptedCount(from, from + chunkSize));
+            updated += chunk == null ? 0 : chunk;
+        }
+        return updated;
+    }
+
+}
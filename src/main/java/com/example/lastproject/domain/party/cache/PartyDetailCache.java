@@ -0,0 +1,277 @@
+package com.example.lastproject.domain.party.cache;
+
+import com.example.lastproject.common.enums.ErrorCode;
+import com.example.lastproject.common.exception.CustomException;
+import com.example.lastproject.common.util.AfterCommit;
+import com.example.lastproject.domain.party.dto.response.PartyDetailResponse;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartyDetailCache {
+
+    /*
+    파티 상세 2단계 캐시
+    - L1: 서버마다 두는 Caffeine 캐시 (크기 / TTL 제한), L2: 서버 간에 공유하는 Redis 캐시
+    - 조회 순서는 L1 -> L2 -> DB, DB 는 item 을 fetch join 한 쿼리 한 번으로 읽음
+    - 같은 파티를 동시에 조회하면 한 요청만 L2 / DB 를 읽고 나머지는 그 결과를 기다림 (single-flight)
+    - 파티가 바뀌면 커밋 이후 L2 를 지우고 Redis pub/sub 으로 모든 서버의 L1 을 비움
+      불러오는 도중 무효화된 결과는 캐시에 넣지 않음
+    - L2 값은 PartyDetailResponse 타입을 정해 둔 JSON 문자열로 저장 (공용 redisTemplate 은 타입 정보가 없어 Map 으로 읽힘)
+    - 무효화할 때마다 파티별 세대 번호를 올리고, L2 쓰기는 DB 를 읽기 전의 세대와 같을 때만 반영 (Lua 로 비교 후 SET)
+      다른 서버가 커밋 전에 읽은 오래된 값을 그 서버의 DEL 이후에 L2 에 다시 쓰는 일을 막음
+    - Redis 장애 시에는 L1 / DB 만 사용
+     */
+
+    private static final String KEY_PREFIX = "party:detail:";
+    private static final String GENERATION_KEY_PREFIX = "party:detail:gen:";
+    private static final String INVALIDATION_CHANNEL = "party:detail:invalidate";
+
+    // KEYS[1] = 상세 키, KEYS[2] = 세대 키, ARGV[1] = 읽기 전 세대 ('' 는 없음), ARGV[2] = 값, ARGV[3] = TTL(ms)
+    private static final DefaultRedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('GET', KEYS[2]) or ''
+            if generation ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 상세 키, KEYS[2] = 세대 키, ARGV[1] = 세대 키 TTL(ms)
+    private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            local generation = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return generation
+            """, Long.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final PartyRepository partyRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${party.cache.l1.max-size:10000}")
+    private long l1MaxSize;
+
+    @Value("${party.cache.l1.ttl-ms:30000}")
+    private long l1TtlMs;
+
+    @Value("${party.cache.l2.ttl-ms:300000}")
+    private long l2TtlMs;
+
+    private Cache<Long, PartyDetailResponse> l1;
+
+    // 파티 ID -> 불러오는 중인 결과
+    private final Map<Long, CompletableFuture<PartyDetailResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private Counter l2HitCounter;
+    private Counter l2MissCounter;
+    private Timer loadTimer;
+
+    @PostConstruct
+    public void init() {
+        l1 = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(Duration.ofMillis(l1TtlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, "party.detail.l1");
+        l2HitCounter = meterRegistry.counter("party.detail.l2", "result", "hit");
+        l2MissCounter = meterRegistry.counter("party.detail.l2", "result", "miss");
+        loadTimer = meterRegistry.timer("party.detail.load");
+
+        redisMessageListenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                evictLocal(Long.valueOf(body));
+            } catch (NumberFormatException e) {
+                log.warn("Ignored invalid party cache invalidation message: {}", body);
+            }
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 파티 상세 조회 (L1 -> L2 -> DB)
+     *
+     * @param partyId 파티 ID
+     * @return 파티 상세
+     * @throws CustomException PARTY_NOT_FOUND: "파티를 찾을 수 없습니다."
+     */
+    public PartyDetailResponse get(Long partyId) {
+        PartyDetailResponse cached = l1.getIfPresent(partyId);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<PartyDetailResponse> future = new CompletableFuture<>();
+        CompletableFuture<PartyDetailResponse> running = inFlight.putIfAbsent(partyId, future);
+        if (running != null) {
+            return join(running);
+        }
+
+        try {
+            PartyDetailResponse loaded = load(partyId, future);
+            future.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(partyId, future);
+        }
+    }
+
+    /**
+     * 커밋 이후 파티 상세 캐시를 모든 서버에서 비움
+     *
+     * @param partyIds 변경된 파티 ID
+     */
+    public void evictAfterCommit(Collection<Long> partyIds) {
+        if (partyIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(partyIds);
+        // 커밋 전에 비우면 다른 요청이 변경 전 값을 다시 채울 수 있으므로 커밋 이후에 비움
+        AfterCommit.run(() -> evict(ids));
+    }
+
+    public void evictAfterCommit(Long partyId) {
+        evictAfterCommit(List.of(partyId));
+    }
+
+    private PartyDetailResponse load(Long partyId, CompletableFuture<PartyDetailResponse> future) {
+        String key = KEY_PREFIX + partyId;
+        String generationKey = GENERATION_KEY_PREFIX + partyId;
+
+        // 세대는 DB 를 읽기 전에 값과 함께 한 번에 읽음
+        String generation = null;
+        boolean redisAvailable = true;
+        try {
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(key, generationKey));
+            PartyDetailResponse shared = values == null ? null : deserialize(partyId, values.get(0));
+            if (shared != null) {
+                l2HitCounter.increment();
+                putLocal(partyId, shared, future);
+                return shared;
+            }
+            l2MissCounter.increment();
+            generation = values == null ? null : values.get(1);
+        } catch (DataAccessException e) {
+            redisAvailable = false;
+            log.warn("Party detail cache unavailable, reading party {} from database", partyId, e);
+        }
+
+        PartyDetailResponse loaded = loadTimer.record(() -> partyRepository.findWithItemById(partyId)
+                .map(PartyDetailResponse::new)
+                .orElseThrow(() -> new CustomException(ErrorCode.PARTY_NOT_FOUND)));
+
+        // 불러오는 사이 무효화되었다면 오래된 값이므로 캐시에 넣지 않음
+        if (inFlight.get(partyId) == future) {
+            if (redisAvailable) {
+                store(partyId, key, generationKey, generation, loaded);
+            }
+            putLocal(partyId, loaded, future);
+        }
+        return loaded;
+    }
+
+    // 읽기 전 세대가 그대로일 때만 L2 에 씀 (그 사이 다른 서버가 무효화했으면 쓰지 않음)
+    private void store(Long partyId, String key, String generationKey, String generation, PartyDetailResponse detail) {
+        try {
+            Long stored = stringRedisTemplate.execute(STORE_SCRIPT, List.of(key, generationKey),
+                    generation == null ? "" : generation, OBJECT_MAPPER.writeValueAsString(detail), String.valueOf(l2TtlMs));
+            if (stored == null || stored == 0) {
+                log.debug("Skipped caching party detail {} invalidated while loading", partyId);
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize party detail {}", partyId, e);
+        } catch (DataAccessException e) {
+            log.warn("Failed to cache party detail {}", partyId, e);
+        }
+    }
+
+    private PartyDetailResponse deserialize(Long partyId, String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, PartyDetailResponse.class);
+        } catch (JsonProcessingException e) {
+            // 형식이 바뀐 이전 값은 DB 에서 다시 읽어 덮어씀
+            log.warn("Ignored unreadable party detail cache entry {}", partyId, e);
+            return null;
+        }
+    }
+
+    private void putLocal(Long partyId, PartyDetailResponse detail, CompletableFuture<PartyDetailResponse> future) {
+        if (inFlight.get(partyId) == future) {
+            l1.put(partyId, detail);
+        }
+    }
+
+    private PartyDetailResponse join(CompletableFuture<PartyDetailResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evict(List<Long> partyIds) {
+        partyIds.forEach(this::evictLocal);
+        try {
+            for (Long partyId : partyIds) {
+                stringRedisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + partyId, GENERATION_KEY_PREFIX + partyId),
+                        String.valueOf(l2TtlMs));
+            }
+            for (Long partyId : partyIds) {
+                stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(partyId));
+            }
+        } catch (DataAccessException e) {
+            // 다른 서버의 L1 은 TTL 이 지나면 비워짐
+            log.warn("Failed to publish party detail invalidation for {}", partyIds, e);
+        }
+    }
+
+    // 이 서버의 L1 과 불러오는 중인 결과를 비움
+    void evictLocal(Long partyId) {
+        inFlight.remove(partyId);
+        l1.invalidate(partyId);
+    }
+
+}
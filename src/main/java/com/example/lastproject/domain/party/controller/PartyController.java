@@ -5,8 +5,14 @@ import com.example.lastproject.common.exception.CustomException;
 import com.example.lastproject.domain.party.dto.request.PartyCreateRequest;
 import com.example.lastproject.domain.party.dto.request.PartyUpdateRequest;
 import com.example.lastproject.domain.party.dto.response.NearbyPartyResponse;
+import com.example.lastproject.domain.party.dto.response.PartyDetailResponse;
+import com.example.lastproject.domain.party.dto.response.PartyRecommendationResponse;
 import com.example.lastproject.domain.party.dto.response.PartyResponse;
+import com.example.lastproject.domain.party.dto.response.TrendingItemResponse;
+import com.example.lastproject.domain.party.dto.response.TrendingMarketResponse;
+import com.example.lastproject.domain.party.ranking.PartyRankingWindow;
 import com.example.lastproject.domain.party.service.PartyService;
+import com.example.lastproject.domain.partymember.dto.request.PartyMemberBulkUpdateRequest;
 import com.example.lastproject.domain.partymember.dto.request.PartyMemberUpdateRequest;
 import com.example.lastproject.domain.partymember.dto.response.PartyMemberResponse;
 import jakarta.validation.Valid;
@@ -61,6 +67,26 @@ public class PartyController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 파티장: 내가 생성한 파티에 참가 신청한 여러 유저의 상태를 한 번에 변경
+     *
+     * @param partyId    파티 ID
+     * @param authUser   현재 로그인한 파티장 (파티장 여부 검증)
+     * @param requestDto 상태를 변경할 사용자 ID와 새로운 초대 상태 목록
+     * @return 상태 변경 결과
+     * @throws CustomException NOT_PARTY_LEADER: "이 작업은 파티장만 수행할 수 있습니다."
+     * @throws CustomException PARTY_FULL: "파티 인원이 모두 찼습니다."
+     */
+    @PatchMapping("/{partyId}/join-requests/bulk")
+    public ResponseEntity<Void> handleJoinRequests(
+            @PathVariable Long partyId,
+            @AuthenticationPrincipal AuthUser authUser,
+            @Valid @RequestBody PartyMemberBulkUpdateRequest requestDto) {
+
+        partyService.handleJoinRequests(partyId, authUser, requestDto.getRequests());
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * 파티장 : 장보기 완료
      *
@@ -74,18 +100,34 @@ public class PartyController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 파티 상세 조회
+     *
+     * @param partyId 조회할 파티의 ID
+     * @return ResponseEntity<PartyDetailResponse> 파티 상세 정보와 HTTP 상태 코드 200 반환
+     * @throws CustomException PARTY_NOT_FOUND: "파티를 찾을 수 없습니다."
+     */
+    @GetMapping("/{partyId}")
+    public ResponseEntity<PartyDetailResponse> getParty(@PathVariable Long partyId) {
+        return ResponseEntity.ok(partyService.getParty(partyId));
+    }
+
     /**
      * 파티장 : 장보기 완료 후 참여한 멤버 목록 조회
      *
-     * @param partyId  파티 ID
-     * @param authUser 현재 로그인한 파티장 (파티장 여부 검증)
+     * @param partyId           파티 ID
+     * @param authUser          현재 로그인한 파티장 (파티장 여부 검증)
+     * @param lastPartyMemberId 이전 페이지의 마지막 파티 멤버 ID (첫 페이지는 생략)
+     * @param size              페이지 크기 (최대 100)
      * @return List<PartyMemberResponse> 참여 멤버 목록
      */
     @GetMapping("/{partyId}/members")
     public ResponseEntity<List<PartyMemberResponse>> getMembersAfterPartyClosed(
             @PathVariable Long partyId,
-            @AuthenticationPrincipal AuthUser authUser) {
-        List<PartyMemberResponse> members = partyService.getMembersAfterPartyClosed(partyId, authUser);
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) Long lastPartyMemberId,
+            @RequestParam(defaultValue = "50") int size) {
+        List<PartyMemberResponse> members = partyService.getMembersAfterPartyClosed(partyId, authUser, lastPartyMemberId, size);
         return ResponseEntity.ok(members);
     }
 
@@ -124,13 +166,17 @@ public class PartyController {
     /**
      * 본인이 생성한 파티 및 참가 신청한 파티 목록 조회
      *
-     * @param authUser 현재 로그인한 사용자
-     * @return 사용자가 신청한 파티 목록
+     * @param authUser    현재 로그인한 사용자
+     * @param lastPartyId 이전 페이지의 마지막 파티 ID (첫 페이지는 생략)
+     * @param size        페이지 크기 (최대 100)
+     * @return 사용자가 생성 / 신청한 파티 목록
      */
     @GetMapping("/my-parties")
     public ResponseEntity<List<PartyResponse>> getMyParties(
-            @AuthenticationPrincipal AuthUser authUser) {
-        List<PartyResponse> responses = partyService.getMyParties(authUser);
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) Long lastPartyId,
+            @RequestParam(defaultValue = "20") int size) {
+        List<PartyResponse> responses = partyService.getMyParties(authUser, lastPartyId, size);
         return ResponseEntity.ok(responses);
     }
 
@@ -146,4 +192,54 @@ public class PartyController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 사용자 맞춤 파티 추천 (즐겨찾기 품목, 거리, 시작 시간, 남은 자리 기준)
+     *
+     * @param authUser 현재 로그인한 사용자
+     * @param size     조회할 개수 (최대 20)
+     * @return ResponseEntity<List<PartyRecommendationResponse>> 추천 파티 목록과 HTTP 상태 코드 200 반환
+     */
+    @GetMapping("/recommendations")
+    public ResponseEntity<List<PartyRecommendationResponse>> getRecommendations(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(partyService.getRecommendations(authUser, size));
+    }
+
+    /**
+     * 지역의 인기 품목 조회 (파티 생성 / 참가 신청 / 완료 기준)
+     *
+     * @param authUser 현재 로그인한 사용자
+     * @param address  조회할 지역의 주소 (생략하면 회원가입 시 등록한 주소)
+     * @param window   집계 기간 (DAY: 최근 24시간, WEEK: 최근 7일)
+     * @param size     조회할 개수 (최대 50)
+     * @return ResponseEntity<List<TrendingItemResponse>> 인기 품목 목록과 HTTP 상태 코드 200 반환
+     */
+    @GetMapping("/trending/items")
+    public ResponseEntity<List<TrendingItemResponse>> getTrendingItems(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) String address,
+            @RequestParam(defaultValue = "DAY") PartyRankingWindow window,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(partyService.getTrendingItems(authUser, address, window, size));
+    }
+
+    /**
+     * 지역의 인기 마켓 조회 (파티 생성 / 참가 신청 / 완료 기준)
+     *
+     * @param authUser 현재 로그인한 사용자
+     * @param address  조회할 지역의 주소 (생략하면 회원가입 시 등록한 주소)
+     * @param window   집계 기간 (DAY: 최근 24시간, WEEK: 최근 7일)
+     * @param size     조회할 개수 (최대 50)
+     * @return ResponseEntity<List<TrendingMarketResponse>> 인기 마켓 목록과 HTTP 상태 코드 200 반환
+     */
+    @GetMapping("/trending/markets")
+    public ResponseEntity<List<TrendingMarketResponse>> getTrendingMarkets(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) String address,
+            @RequestParam(defaultValue = "DAY") PartyRankingWindow window,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(partyService.getTrendingMarkets(authUser, address, window, size));
+    }
+
 }
@@ -0,0 +1,57 @@
+package com.example.lastproject.domain.party.dto.response;
+
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+
+// 파티 상세 조회용 읽기 모델 (사용자와 무관한 값만 담아 캐시에 그대로 저장)
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PartyDetailResponse {
+
+    private Long id;
+    private Long creatorId;
+    private String marketName;
+    private String marketAddress;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private Long itemId;
+    private String category;
+    private int itemCount;
+    private String itemUnit;
+    private String formattedStartTime;
+    private String formattedEndTime;
+    private int membersCount;
+    private int acceptedCount;
+    private PartyStatus partyStatus;
+
+    // item 을 함께 조회(fetch join)한 파티로 생성
+    public PartyDetailResponse(Party party) {
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd HH:mm");
+
+        this.id = party.getId();
+        this.creatorId = party.getCreatorId();
+        this.marketName = party.getMarketName();
+        this.marketAddress = party.getMarketAddress();
+        this.latitude = party.getLatitude();
+        this.longitude = party.getLongitude();
+        this.itemId = party.getItem().getId();
+        this.category = party.getItem().getCategory();
+        this.itemCount = party.getItemCount();
+        this.itemUnit = party.getItemUnit();
+        this.formattedStartTime = party.getStartTime().format(formatter);
+        this.formattedEndTime = party.getEndTime().format(formatter);
+        this.membersCount = party.getMembersCount();
+        this.acceptedCount = party.getAcceptedCount();
+        this.partyStatus = party.getPartyStatus();
+    }
+
+}
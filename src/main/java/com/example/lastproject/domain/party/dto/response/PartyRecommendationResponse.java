@@ -0,0 +1,37 @@
+package com.example.lastproject.domain.party.dto.response;
+
+import com.example.lastproject.domain.party.recommend.PartyCandidate;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.format.DateTimeFormatter;
+
+@Getter
+public class PartyRecommendationResponse {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("MM-dd HH:mm");
+
+    private final Long partyId;
+    private final String marketName;
+    private final String marketAddress;
+    private final Long itemId;
+    private final boolean bookmarked;
+    private final String locationRange;
+    private final String formattedStartTime;
+    private final int remainingSeats;
+    private final double score;
+
+    public PartyRecommendationResponse(PartyCandidate candidate, double distanceKm, boolean bookmarked, double score) {
+        this.partyId = candidate.getPartyId();
+        this.marketName = candidate.getMarketName();
+        this.marketAddress = candidate.getMarketAddress();
+        this.itemId = candidate.getItemId();
+        this.bookmarked = bookmarked;
+        this.locationRange = BigDecimal.valueOf(distanceKm).setScale(1, RoundingMode.HALF_UP) + "km";
+        this.formattedStartTime = candidate.getStartTime().format(FORMATTER);
+        this.remainingSeats = candidate.getMembersCount() - candidate.getAcceptedCount();
+        this.score = BigDecimal.valueOf(score).setScale(3, RoundingMode.HALF_UP).doubleValue();
+    }
+
+}
@@ -2,10 +2,12 @@ package com.example.lastproject.domain.party.dto.response;
 
 import com.example.lastproject.domain.party.entity.Party;
 import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 import lombok.ToString;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Getter
@@ -47,4 +49,29 @@ public class PartyResponse {
         this.role = role;
     }
 
+    // 엔티티를 불러오지 않고 필요한 컬럼만 조회할 때 사용
+    @QueryProjection
+    public PartyResponse(Long id, String marketName, String marketAddress, BigDecimal latitude, BigDecimal longitude,
+                         Long itemId, String category, int itemCount, String itemUnit,
+                         LocalDateTime startTime, LocalDateTime endTime, int membersCount,
+                         PartyStatus partyStatus, String role) {
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd HH:mm");
+
+        this.id = id;
+        this.marketName = marketName;
+        this.marketAddress = marketAddress;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.itemId = itemId;
+        this.category = category;
+        this.itemCount = itemCount;
+        this.itemUnit = itemUnit;
+        this.formattedStartTime = startTime.format(formatter);
+        this.formattedEndTime = endTime.format(formatter);
+        this.membersCount = membersCount;
+        this.partyStatus = partyStatus;
+        this.role = role;
+    }
+
 }
@@ -0,0 +1,22 @@
+package com.example.lastproject.domain.party.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TrendingItemResponse {
+
+    private final int rank;
+    private final Long itemId;
+    private final String category;
+    private final String productName;
+    private final long score;
+
+    public TrendingItemResponse(int rank, Long itemId, String category, String productName, long score) {
+        this.rank = rank;
+        this.itemId = itemId;
+        this.category = category;
+        this.productName = productName;
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.example.lastproject.domain.party.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TrendingMarketResponse {
+
+    private final int rank;
+    private final String marketName;
+    private final String marketAddress;
+    private final long score;
+
+    public TrendingMarketResponse(int rank, String marketName, String marketAddress, long score) {
+        this.rank = rank;
+        this.marketName = marketName;
+        this.marketAddress = marketAddress;
+        this.score = score;
+    }
+
+}
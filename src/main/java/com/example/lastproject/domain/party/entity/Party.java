@@ -2,13 +2,14 @@ package com.example.lastproject.domain.party.entity;
 
 import com.example.lastproject.common.Timestamped;
 import com.example.lastproject.domain.item.entity.Item;
-//import com.example.lastproject.domain.market.entity.Market;
+import com.example.lastproject.domain.market.entity.Market;
 import com.example.lastproject.domain.party.enums.PartyStatus;
 import com.example.lastproject.domain.partymember.entity.PartyMember;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -16,7 +17,9 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Entity
-@Table(name = "Party")
+@Table(name = "Party", indexes = {
+        @Index(name = "idx_party_status_end_time", columnList = "party_status, end_time"),
+        @Index(name = "idx_party_market_status", columnList = "market_id, party_status")})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -57,9 +60,23 @@ public class Party extends Timestamped {
     @Column(name = "members_count", nullable = false)
     private int membersCount;
 
-//    @OneToOne(fetch = FetchType.LAZY)
-//    @JoinColumn(name = "market_id")
-//    private Market market;
+    // 승인된 인원 (파티장 포함), 참가 승인 / 취소 시 조건부 UPDATE 로만 변경
+    // 컬럼 도입 이전 파티는 PartySeatBackfill 이 서버 시작 시 승인된 파티 멤버 수로 채움
+    @ColumnDefault("1")
+    @Column(name = "accepted_count", nullable = false)
+    private int acceptedCount;
+
+    // 낙관적 락 버전, 조건부 UPDATE 쿼리도 함께 올려 동시에 불러온 엔티티의 덮어쓰기를 막음
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // 마켓 이름 / 주소 / 좌표는 조회와 알림 라우팅에 그대로 쓰므로 파티에도 함께 저장
+    // 마켓이 생기기 전 파티는 공간 인덱스 재구축 작업에서 채움
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "market_id")
+    private Market market;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -85,10 +102,16 @@ public class Party extends Timestamped {
         this.startTime = LocalDateTime.parse(startTime, formatter);
         this.endTime = LocalDateTime.parse(endTime, formatter);
         this.membersCount = membersCount;
+        this.acceptedCount = 1;
         this.partyStatus = PartyStatus.OPEN;
         this.creatorId = creatorId;
     }
 
+    // 마켓 지정
+    public void assignMarket(Market market) {
+        this.market = market;
+    }
+
     // 장보기 완료
     public void completeParty() {
         this.partyStatus = PartyStatus.DONE;
@@ -121,6 +144,12 @@ public class Party extends Timestamped {
         this.startTime = startTime;
         this.endTime = endTime;
         this.membersCount = membersCount;
+
+        // 정원이 바뀌면 모집 상태를 승인 인원 기준으로 다시 계산 (모집 중 / 모집 완료 상태일 때만)
+        // 승인 인원은 버전을 올리는 조건부 UPDATE 로만 바뀌므로, 오래된 값으로 계산했다면 저장 시 낙관적 락 충돌이 남
+        if (this.partyStatus == PartyStatus.OPEN || this.partyStatus == PartyStatus.JOINED) {
+            this.partyStatus = this.acceptedCount >= membersCount ? PartyStatus.JOINED : PartyStatus.OPEN;
+        }
     }
 
 }
@@ -0,0 +1,51 @@
+package com.example.lastproject.domain.party.entity;
+
+import com.example.lastproject.common.Timestamped;
+import com.example.lastproject.domain.party.enums.PartyReminderStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "party_reminder",
+        uniqueConstraints = @UniqueConstraint(name = "uk_party_reminder_party", columnNames = "party_id"),
+        indexes = @Index(name = "idx_party_reminder_status_fire_at", columnList = "status, fire_at"))
+public class PartyReminder extends Timestamped {
+
+    /*
+    파티 시작 전 알림 예약
+    파티마다 한 건만 두고, 파티 시간이 바뀌면 발송 시각을 고쳐 다시 예약함
+    메모리의 타이밍 휠은 가까운 시간의 예약만 들고 있으므로, 서버가 재시작되어도 이 테이블에서 다시 불러옴
+     */
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "party_id", nullable = false)
+    private Long partyId;
+
+    @Column(name = "fire_at", nullable = false)
+    private LocalDateTime fireAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PartyReminderStatus status;
+
+    public PartyReminder(Long partyId, LocalDateTime fireAt) {
+        this.partyId = partyId;
+        this.fireAt = fireAt;
+        this.status = PartyReminderStatus.SCHEDULED;
+    }
+
+    // 발송 시각 변경 후 다시 예약
+    public void reschedule(LocalDateTime fireAt) {
+        this.fireAt = fireAt;
+        this.status = PartyReminderStatus.SCHEDULED;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.example.lastproject.domain.party.enums;
+
+public enum PartyReminderStatus {
+
+    SCHEDULED, // 발송 대기
+    SENT, // 발송 완료
+    CANCELED // 파티 취소로 발송 안 함
+
+}
@@ -0,0 +1,19 @@
+package com.example.lastproject.domain.party.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class PartyCompletedEvent {
+
+    /*
+    파티가 완료(DONE)되었을 때 발행하는 애플리케이션 이벤트
+    파티장이 직접 완료한 경우와 종료 시간이 지나 자동으로 완료된 경우 모두 발행
+     */
+
+    private final List<Long> partyIds;
+
+}
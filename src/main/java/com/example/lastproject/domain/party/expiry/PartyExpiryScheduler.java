@@ -0,0 +1,116 @@
+package com.example.lastproject.domain.party.expiry;
+
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import com.example.lastproject.domain.notification.rabbitmq.config.RabbitMqProducerConfig;
+import com.example.lastproject.domain.notification.rabbitmq.producer.NotificationEventPublisher;
+import com.example.lastproject.domain.party.dto.response.PartyResponse;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.party.event.PartyCompletedEvent;
+import com.example.lastproject.domain.party.service.PartyExpiryService;
+import com.example.lastproject.domain.penalty.service.LettuceLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartyExpiryScheduler {
+
+    /*
+    종료 시간이 지난 파티를 주기적으로 정리하는 배치 작업
+    - 여러 서버 중 분산 락을 잡은 한 서버만 실행
+    - chunk 마다 커밋한 뒤, 취소된 파티는 파티 취소 알림 이벤트로 / 완료된 파티는 애플리케이션 이벤트로 묶어서 발행
+     */
+
+    private static final String LOCK_KEY = "party:expiry:lock";
+    private static final String CANCEL_EVENT_TYPE = "party.cancel";
+
+    private final PartyExpiryService partyExpiryService;
+    private final LettuceLockService lettuceLockService;
+    private final NotificationEventPublisher eventPublisher;
+    private final RabbitMqProducerConfig rabbitMqConfig;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${party.expiry.enabled:true}")
+    private boolean enabled;
+
+    @Value("${party.expiry.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${party.expiry.lock-timeout-seconds:600}")
+    private long lockTimeoutSeconds;
+
+    @Scheduled(cron = "${party.expiry.cron:0 */5 * * * *}")
+    public void expire() {
+        if (!enabled) {
+            return;
+        }
+        String lockToken = lettuceLockService.tryLock(LOCK_KEY, lockTimeoutSeconds);
+        if (lockToken == null) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int canceled = expire(PartyStatus.OPEN, PartyStatus.CANCELED, now);
+            int completed = expire(PartyStatus.JOINED, PartyStatus.DONE, now);
+            if (canceled + completed > 0) {
+                log.info("Expired parties: {} canceled, {} completed", canceled, completed);
+            }
+        } finally {
+            // chunk 처리가 락 유지 시간보다 길어져 만료되었으면 다른 서버의 락이므로 지우지 않음
+            try {
+                if (!lettuceLockService.releaseLock(LOCK_KEY, lockToken)) {
+                    log.warn("Party expiry lock expired before release");
+                }
+            } catch (DataAccessException e) {
+                log.warn("Failed to release party expiry lock", e);
+            }
+        }
+    }
+
+    private int expire(PartyStatus from, PartyStatus to, LocalDateTime now) {
+        int total = 0;
+        LocalDateTime lastEndTime = PartyExpiryService.FIRST_END_TIME;
+        Long lastId = 0L;
+        PartyExpiryService.Chunk chunk;
+        do {
+            chunk = partyExpiryService.expireChunk(from, to, now, lastEndTime, lastId, chunkSize);
+            publish(to, chunk);
+            total += chunk.getParties().size();
+            lastEndTime = chunk.getLastEndTime();
+            lastId = chunk.getLastId();
+        } while (chunk.isHasNext());
+        return total;
+    }
+
+    private void publish(PartyStatus to, PartyExpiryService.Chunk chunk) {
+        if (chunk.getParties().isEmpty()) {
+            return;
+        }
+
+        if (to == PartyStatus.DONE) {
+            applicationEventPublisher.publishEvent(
+                    new PartyCompletedEvent(chunk.getParties().stream().map(Party::getId).toList()));
+            return;
+        }
+
+        // 발행기가 내부에서 묶어서 전송하므로 chunk 의 이벤트를 연달아 넘김
+        // 자동 취소는 파티장도 알아야 하므로 actor 를 비워 둠
+        for (Party party : chunk.getParties()) {
+            NotificationEvent event = NotificationEvent.of(NotificationType.PARTY_CANCEL, new PartyResponse(party, "Leader"), null);
+            String routingKey = rabbitMqConfig.prepareRoute(CANCEL_EVENT_TYPE, party.getMarketAddress());
+            eventPublisher.publish(rabbitMqConfig.getActiveExchangeName(), routingKey, event);
+        }
+    }
+
+}
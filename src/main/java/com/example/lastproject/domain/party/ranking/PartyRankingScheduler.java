@@ -0,0 +1,85 @@
+package com.example.lastproject.domain.party.ranking;
+
+import com.example.lastproject.domain.penalty.service.LettuceLockService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartyRankingScheduler {
+
+    /*
+    인기 랭킹 누적 키를 버킷으로 다시 계산하는 작업
+    - 매시: 24h 랭킹 재계산, 매일 자정 직후: 일 버킷 compaction + 7d 랭킹 재계산
+    - 여러 서버 중 분산 락을 잡은 한 서버만 실행
+     */
+
+    private static final String REFRESH_LOCK_KEY = "party:ranking:refresh:lock";
+    private static final String COMPACTION_LOCK_KEY = "party:ranking:compaction:lock";
+
+    private final PartyRankingService partyRankingService;
+    private final LettuceLockService lettuceLockService;
+
+    @Value("${party.ranking.enabled:true}")
+    private boolean enabled;
+
+    @Value("${party.ranking.lock-timeout-seconds:600}")
+    private long lockTimeoutSeconds;
+
+    @Scheduled(cron = "${party.ranking.refresh-cron:0 1 * * * *}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        String lockToken = lettuceLockService.tryLock(REFRESH_LOCK_KEY, lockTimeoutSeconds);
+        if (lockToken == null) {
+            return;
+        }
+
+        try {
+            partyRankingService.refreshDailyWindow(LocalDateTime.now());
+        } catch (DataAccessException e) {
+            log.warn("Failed to refresh party ranking", e);
+        } finally {
+            release(REFRESH_LOCK_KEY, lockToken);
+        }
+    }
+
+    @Scheduled(cron = "${party.ranking.compaction-cron:0 10 0 * * *}")
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+        String lockToken = lettuceLockService.tryLock(COMPACTION_LOCK_KEY, lockTimeoutSeconds);
+        if (lockToken == null) {
+            return;
+        }
+
+        try {
+            partyRankingService.compact(LocalDateTime.now());
+        } catch (DataAccessException e) {
+            log.warn("Failed to compact party ranking", e);
+        } finally {
+            release(COMPACTION_LOCK_KEY, lockToken);
+        }
+    }
+
+    // 작업이 락 유지 시간보다 길어져 만료되었으면 다른 서버의 락이므로 지우지 않음
+    private void release(String lockKey, String lockToken) {
+        try {
+            if (!lettuceLockService.releaseLock(lockKey, lockToken)) {
+                log.warn("Party ranking lock {} expired before release", lockKey);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to release party ranking lock {}", lockKey, e);
+        }
+    }
+
+}
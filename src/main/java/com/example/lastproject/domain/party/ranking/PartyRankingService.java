@@ -0,0 +1,317 @@
+package com.example.lastproject.domain.party.ranking;
+
+import com.example.lastproject.common.util.AfterCommit;
+import com.example.lastproject.domain.item.entity.Item;
+import com.example.lastproject.domain.item.repository.ItemRepository;
+import com.example.lastproject.domain.notification.rabbitmq.routing.NotificationRegion;
+import com.example.lastproject.domain.party.dto.response.TrendingItemResponse;
+import com.example.lastproject.domain.party.dto.response.TrendingMarketResponse;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.event.PartyCompletedEvent;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartyRankingService {
+
+    /*
+    지역(시/도 + 시/군/구)별 인기 품목 / 인기 마켓 랭킹
+    - 파티 생성, 참가 신청, 완료가 커밋되면 Redis ZSET 점수를 한 번의 파이프라인으로 올림 (ZINCRBY)
+      · 시간 버킷: party:rank:{item|market}:{지역}:h:{yyyyMMddHH}
+      · 누적 랭킹: party:rank:{item|market}:{지역}:24h / 7d
+    - 조회는 누적 랭킹에서 ZREVRANGE 로 상위 K 개만 읽으므로 O(log n + K), Party 테이블을 집계(GROUP BY)하지 않음
+    - 누적 랭킹은 점수가 늘어나기만 하므로 버킷으로 다시 계산하여 기간 밖의 점수를 덜어냄
+      · 매시: 최근 24개 시간 버킷을 합쳐 24h 를 다시 만듦
+      · 매일 밤(compaction): 어제의 시간 버킷을 일 버킷 하나로 합치고, 최근 6개 일 버킷 + 오늘 시간 버킷으로 7d 를 다시 만듦
+    - 랭킹은 근사치이므로 Redis 장애 시 반영을 건너뛰고 빈 목록을 반환
+     */
+
+    private static final String KEY_PREFIX = "party:rank:";
+    private static final String REGIONS_KEY = "party:rank:regions";
+    private static final String ITEM = "item";
+    private static final String MARKET = "market";
+    private static final List<String> DIMENSIONS = List.of(ITEM, MARKET);
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // 마켓 랭킹 멤버는 "마켓 이름|마켓 주소"
+    private static final String MARKET_DELIMITER = "|";
+
+    public static final int MAX_SIZE = 50;
+
+    private final StringRedisTemplate redisTemplate;
+    private final PartyRepository partyRepository;
+    private final ItemRepository itemRepository;
+
+    // 어제 버킷을 합치는 compaction 이 늦게 실행되어도 남아 있도록 하루보다 길게 유지
+    @Value("${party.ranking.hour-bucket-ttl-hours:48}")
+    private long hourBucketTtlHours;
+
+    @Value("${party.ranking.day-bucket-ttl-days:8}")
+    private long dayBucketTtlDays;
+
+    /**
+     * 커밋 이후 파티의 품목 / 마켓 점수를 올림
+     *
+     * @param signal 랭킹에 반영할 활동
+     * @param party  활동이 일어난 파티
+     */
+    public void recordAfterCommit(PartyRankingSignal signal, Party party) {
+        // 커밋 이후에는 지연 로딩을 할 수 없으므로 필요한 값을 미리 꺼냄
+        List<Signal> signals = List.of(new Signal(signal, party));
+        AfterCommit.run(() -> record(signals, LocalDateTime.now()));
+    }
+
+    /**
+     * 완료된 파티를 랭킹에 반영
+     * 스케줄러가 트랜잭션 밖에서 발행한 이벤트도 받도록 fallbackExecution 을 켬
+     *
+     * @param event 파티 완료 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPartyCompleted(PartyCompletedEvent event) {
+        try {
+            List<Signal> signals = partyRepository.findAllWithItemByIdIn(event.getPartyIds()).stream()
+                    .map(party -> new Signal(PartyRankingSignal.COMPLETED, party))
+                    .toList();
+            record(signals, LocalDateTime.now());
+        } catch (DataAccessException e) {
+            // 이벤트를 발행한 쪽(만료 배치 등)이 멈추지 않도록 예외를 전파하지 않음
+            log.warn("Failed to record completed parties {} to ranking", event.getPartyIds(), e);
+        }
+    }
+
+    /**
+     * 지역의 인기 품목 조회
+     *
+     * @param address 지역을 판단할 주소 (예: "서울 강남구 역삼동")
+     * @param window  집계 기간
+     * @param size    조회할 개수 (최대 50)
+     * @return 점수가 높은 순서의 품목 목록
+     */
+    public List<TrendingItemResponse> getTrendingItems(String address, PartyRankingWindow window, int size) {
+        Set<ZSetOperations.TypedTuple<String>> top = top(ITEM, address, window, size);
+        if (top.isEmpty()) {
+            return List.of();
+        }
+
+        // 상위 K 개 품목만 기본 키로 조회
+        List<Long> itemIds = top.stream().map(tuple -> Long.valueOf(tuple.getValue())).toList();
+        Map<Long, Item> items = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        List<TrendingItemResponse> responses = new ArrayList<>(top.size());
+        for (ZSetOperations.TypedTuple<String> tuple : top) {
+            Item item = items.get(Long.valueOf(tuple.getValue()));
+            // 삭제된 품목은 건너뜀
+            if (item != null) {
+                responses.add(new TrendingItemResponse(responses.size() + 1, item.getId(), item.getCategory(),
+                        item.getProductName(), score(tuple)));
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * 지역의 인기 마켓 조회
+     *
+     * @param address 지역을 판단할 주소 (예: "서울 강남구 역삼동")
+     * @param window  집계 기간
+     * @param size    조회할 개수 (최대 50)
+     * @return 점수가 높은 순서의 마켓 목록
+     */
+    public List<TrendingMarketResponse> getTrendingMarkets(String address, PartyRankingWindow window, int size) {
+        List<TrendingMarketResponse> responses = new ArrayList<>();
+        for (ZSetOperations.TypedTuple<String> tuple : top(MARKET, address, window, size)) {
+            String member = tuple.getValue();
+            int delimiter = member.indexOf(MARKET_DELIMITER);
+            responses.add(new TrendingMarketResponse(responses.size() + 1, member.substring(0, delimiter),
+                    member.substring(delimiter + 1), score(tuple)));
+        }
+        return responses;
+    }
+
+    /**
+     * 최근 24개 시간 버킷으로 24h 랭킹을 다시 계산 (같은 시각에 여러 번 실행해도 결과가 같음)
+     *
+     * @param now 기준 시각
+     */
+    public void refreshDailyWindow(LocalDateTime now) {
+        LocalDateTime currentHour = now.truncatedTo(ChronoUnit.HOURS);
+        List<String> hours = IntStream.range(0, 24)
+                .mapToObj(i -> currentHour.minusHours(i).format(HOUR_FORMAT))
+                .toList();
+
+        Set<String> regions = regions();
+        for (String region : regions) {
+            for (String dimension : DIMENSIONS) {
+                union(hours.stream().map(hour -> hourKey(dimension, region, hour)).toList(),
+                        windowKey(dimension, region, PartyRankingWindow.DAY));
+            }
+        }
+        log.info("Refreshed 24h party ranking of {} regions", regions.size());
+    }
+
+    /**
+     * 어제의 시간 버킷을 일 버킷으로 합치고 7d 랭킹을 다시 계산
+     * 7일 동안 활동이 없던 지역은 재계산 대상에서 뺌
+     *
+     * @param now 기준 시각 (자정 직후)
+     */
+    public void compact(LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        LocalDate yesterday = today.minusDays(1);
+        List<String> yesterdayHours = hoursOf(yesterday, 24);
+        List<String> todayHours = hoursOf(today, now.getHour() + 1);
+        List<String> days = IntStream.rangeClosed(1, 6)
+                .mapToObj(i -> today.minusDays(i).format(DAY_FORMAT))
+                .toList();
+        Duration dayBucketTtl = Duration.ofDays(dayBucketTtlDays);
+
+        int removed = 0;
+        Set<String> regions = regions();
+        for (String region : regions) {
+            long weekSize = 0;
+            for (String dimension : DIMENSIONS) {
+                String dayKey = dayKey(dimension, region, yesterday.format(DAY_FORMAT));
+                if (union(yesterdayHours.stream().map(hour -> hourKey(dimension, region, hour)).toList(), dayKey) > 0) {
+                    redisTemplate.expire(dayKey, dayBucketTtl);
+                }
+
+                List<String> weekKeys = new ArrayList<>(days.size() + todayHours.size());
+                days.forEach(day -> weekKeys.add(dayKey(dimension, region, day)));
+                todayHours.forEach(hour -> weekKeys.add(hourKey(dimension, region, hour)));
+                weekSize += union(weekKeys, windowKey(dimension, region, PartyRankingWindow.WEEK));
+            }
+            if (weekSize == 0) {
+                redisTemplate.opsForSet().remove(REGIONS_KEY, region);
+                removed++;
+            }
+        }
+        log.info("Compacted party ranking of {} regions ({} inactive regions removed)", regions.size(), removed);
+    }
+
+    void record(List<Signal> signals, LocalDateTime now) {
+        if (signals.isEmpty()) {
+            return;
+        }
+
+        String hour = now.format(HOUR_FORMAT);
+        long hourBucketTtlSeconds = Duration.ofHours(hourBucketTtlHours).toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Signal signal : signals) {
+                    stringConnection.sAdd(REGIONS_KEY, signal.region);
+                    increment(stringConnection, ITEM, signal.region, signal.itemMember, signal.weight, hour, hourBucketTtlSeconds);
+                    increment(stringConnection, MARKET, signal.region, signal.marketMember, signal.weight, hour, hourBucketTtlSeconds);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to record {} party ranking signals", signals.size(), e);
+        }
+    }
+
+    private void increment(StringRedisConnection connection, String dimension, String region, String member,
+                           int weight, String hour, long hourBucketTtlSeconds) {
+        String hourKey = hourKey(dimension, region, hour);
+        connection.zIncrBy(hourKey, weight, member);
+        connection.expire(hourKey, hourBucketTtlSeconds);
+        for (PartyRankingWindow window : PartyRankingWindow.values()) {
+            connection.zIncrBy(windowKey(dimension, region, window), weight, member);
+        }
+    }
+
+    private Set<ZSetOperations.TypedTuple<String>> top(String dimension, String address, PartyRankingWindow window, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        try {
+            Set<ZSetOperations.TypedTuple<String>> top = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(windowKey(dimension, regionOf(address), window), 0, limit - 1);
+            return top == null ? Set.of() : top;
+        } catch (DataAccessException e) {
+            log.warn("Party ranking unavailable", e);
+            return Set.of();
+        }
+    }
+
+    // 결과 키는 통째로 바뀌고, 모든 버킷이 비어 있으면 삭제됨
+    private long union(List<String> keys, String destKey) {
+        Long size = redisTemplate.opsForZSet().unionAndStore(keys.get(0), keys.subList(1, keys.size()), destKey);
+        return size == null ? 0 : size;
+    }
+
+    private Set<String> regions() {
+        Set<String> regions = redisTemplate.opsForSet().members(REGIONS_KEY);
+        return regions == null ? Set.of() : regions;
+    }
+
+    private List<String> hoursOf(LocalDate date, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(hour -> date.atTime(hour, 0).format(HOUR_FORMAT))
+                .toList();
+    }
+
+    private long score(ZSetOperations.TypedTuple<String> tuple) {
+        return tuple.getScore() == null ? 0 : Math.round(tuple.getScore());
+    }
+
+    private static String regionOf(String address) {
+        NotificationRegion region = NotificationRegion.from(address);
+        return region.getSido() + ":" + region.getSigungu();
+    }
+
+    private static String hourKey(String dimension, String region, String hour) {
+        return KEY_PREFIX + dimension + ":" + region + ":h:" + hour;
+    }
+
+    private static String dayKey(String dimension, String region, String day) {
+        return KEY_PREFIX + dimension + ":" + region + ":d:" + day;
+    }
+
+    private static String windowKey(String dimension, String region, PartyRankingWindow window) {
+        return KEY_PREFIX + dimension + ":" + region + ":" + window.getSuffix();
+    }
+
+    // 랭킹에 반영할 한 건의 활동
+    static class Signal {
+
+        private final String region;
+        private final String itemMember;
+        private final String marketMember;
+        private final int weight;
+
+        Signal(PartyRankingSignal signal, Party party) {
+            this.region = regionOf(party.getMarketAddress());
+            this.itemMember = String.valueOf(party.getItem().getId());
+            this.marketMember = party.getMarketName().replace(MARKET_DELIMITER, "") + MARKET_DELIMITER + party.getMarketAddress();
+            this.weight = signal.getWeight();
+        }
+
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.example.lastproject.domain.party.ranking;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PartyRankingSignal {
+
+    CREATED(1),   // 파티 생성
+    JOINED(1),    // 참가 신청
+    COMPLETED(2); // 거래 완료 (실제로 모인 파티이므로 가중치를 더 줌)
+
+    private final int weight;
+
+}
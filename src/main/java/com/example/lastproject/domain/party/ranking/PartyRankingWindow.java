@@ -0,0 +1,16 @@
+package com.example.lastproject.domain.party.ranking;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PartyRankingWindow {
+
+    DAY("24h"),  // 최근 24시간
+    WEEK("7d");  // 최근 7일
+
+    // 누적 랭킹 키의 접미사
+    private final String suffix;
+
+}
@@ -0,0 +1,45 @@
+package com.example.lastproject.domain.party.recommend;
+
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// 추천 점수 계산에 필요한 파티 값 (엔티티 대신 필요한 컬럼만 조회)
+@Getter
+public class PartyCandidate {
+
+    private final Long partyId;
+    private final Long marketId;
+    private final Long itemId;
+    private final String marketName;
+    private final String marketAddress;
+    private final LocalDateTime startTime;
+    private final int membersCount;
+    private final int acceptedCount;
+    private final PartyStatus partyStatus;
+
+    // 점수 계산 중 시각 객체를 만들지 않도록 미리 계산한 시작 시각 (초)
+    private final long startEpochSecond;
+
+    public PartyCandidate(Long partyId, Long marketId, Long itemId, String marketName, String marketAddress,
+                          LocalDateTime startTime, int membersCount, int acceptedCount, PartyStatus partyStatus) {
+        this.partyId = partyId;
+        this.marketId = marketId;
+        this.itemId = itemId;
+        this.marketName = marketName;
+        this.marketAddress = marketAddress;
+        this.startTime = startTime;
+        this.membersCount = membersCount;
+        this.acceptedCount = acceptedCount;
+        this.partyStatus = partyStatus;
+        this.startEpochSecond = startTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    // 모집 중이고 자리가 남은 파티
+    public boolean isJoinable() {
+        return partyStatus == PartyStatus.OPEN && acceptedCount < membersCount;
+    }
+
+}
@@ -0,0 +1,298 @@
+package com.example.lastproject.domain.party.recommend;
+
+import com.example.lastproject.common.enums.ErrorCode;
+import com.example.lastproject.common.exception.CustomException;
+import com.example.lastproject.domain.likeitem.dto.response.LikeItemResponse;
+import com.example.lastproject.domain.likeitem.repository.LikeItemRepository;
+import com.example.lastproject.domain.market.geo.MarketGeoIndex;
+import com.example.lastproject.domain.party.dto.response.PartyRecommendationResponse;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import com.example.lastproject.domain.user.entity.User;
+import com.example.lastproject.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartyRecommendationService {
+
+    /*
+    사용자 맞춤 파티 추천
+    - 후보: Redis GEO 인덱스에서 사용자 위치 반경 10km 안의 마켓을 가까운 순서로 최대 candidate-limit 개
+    - 그 마켓들의 진행 중인 파티를 (market_id, party_status) 인덱스로 한 번에 조회하되 점수 계산용 컬럼만 읽고,
+      모집 중이며 자리가 남은 파티만 점수를 매김 (거리는 파티가 속한 마켓의 거리)
+    - 점수 = 즐겨찾기 품목 0.4 + 거리 0.3 + 시작 시간 0.2 + 남은 자리 0.1 (각 항목은 0 ~ 1)
+    - 상위 K 개는 후보 인덱스를 담은 크기 K 의 최소 힙으로 고름 (후보마다 객체를 만들지 않고 O(n log K))
+    - 진행 중인 파티가 없는 마켓은 인덱스에서 지우되, DB 확인 이후 다시 추가된 마켓은 남김
+    - 결과는 사용자별로 짧은 TTL 동안 서버 로컬(Caffeine)에 캐시
+    - Redis 장애 시에는 후보를 구할 수 없으므로 빈 목록을 반환하고 캐시하지 않음
+     */
+
+    public static final int MAX_SIZE = 20;
+
+    private static final double RADIUS_KM = 10;
+    private static final List<PartyStatus> ACTIVE_STATUSES = List.of(PartyStatus.OPEN, PartyStatus.JOINED);
+    private static final double BOOKMARK_WEIGHT = 0.4;
+    private static final double DISTANCE_WEIGHT = 0.3;
+    private static final double START_TIME_WEIGHT = 0.2;
+    private static final double SEATS_WEIGHT = 0.1;
+
+    // 이 시간(초) 이후에 시작하는 파티는 시작 시간 점수가 0
+    private static final double START_TIME_HORIZON_SECONDS = 48 * 3600;
+
+    // 이미 시작했지만 아직 끝나지 않은 파티의 시작 시간 점수
+    private static final double STARTED_SCORE = 0.5;
+
+    private final MarketGeoIndex marketGeoIndex;
+    private final PartyRepository partyRepository;
+    private final LikeItemRepository likeItemRepository;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${party.recommend.candidate-limit:200}")
+    private int candidateLimit;
+
+    @Value("${party.recommend.cache-ttl-ms:60000}")
+    private long cacheTtlMs;
+
+    @Value("${party.recommend.cache-max-size:10000}")
+    private long cacheMaxSize;
+
+    // 사용자 ID -> 추천 결과 (MAX_SIZE 개)
+    private Cache<Long, List<PartyRecommendationResponse>> cache;
+    private Timer loadTimer;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "party.recommend.cache");
+        loadTimer = Timer.builder("party.recommend.load")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 맞춤 파티 추천
+     *
+     * @param userId 사용자 ID
+     * @param size   조회할 개수 (최대 20)
+     * @return 점수가 높은 순서의 모집 중인 파티 목록
+     * @throws CustomException USER_NOT_FOUND: "사용자 조회에 실패했습니다."
+     */
+    public List<PartyRecommendationResponse> recommend(Long userId, int size) {
+        List<PartyRecommendationResponse> recommendations = cache.getIfPresent(userId);
+        if (recommendations == null) {
+            recommendations = loadTimer.record(() -> load(userId));
+            if (recommendations == null) {
+                return List.of();
+            }
+            cache.put(userId, recommendations);
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        return recommendations.subList(0, Math.min(limit, recommendations.size()));
+    }
+
+    // 후보를 조회하여 점수를 매김, 후보를 구할 수 없으면 null
+    private List<PartyRecommendationResponse> load(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        if (user.getLatitude() == null || user.getLongitude() == null) {
+            return List.of();
+        }
+
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results =
+                marketGeoIndex.search(user.getLatitude(), user.getLongitude(), RADIUS_KM, candidateLimit);
+        if (results == null) {
+            return null;
+        }
+        List<GeoResult<RedisGeoCommands.GeoLocation<String>>> nearby = results.getContent();
+        if (nearby.isEmpty()) {
+            return List.of();
+        }
+
+        // 마켓 ID -> 가까운 순서, 거리는 같은 순서의 배열에 담음
+        int marketCount = nearby.size();
+        List<Long> marketIds = new ArrayList<>(marketCount);
+        Map<Long, Integer> marketOrders = new HashMap<>(marketCount * 2);
+        double[] marketDistances = new double[marketCount];
+        for (int i = 0; i < marketCount; i++) {
+            GeoResult<RedisGeoCommands.GeoLocation<String>> result = nearby.get(i);
+            Long marketId = Long.valueOf(result.getContent().getName());
+            marketIds.add(marketId);
+            marketOrders.put(marketId, i);
+            marketDistances[i] = result.getDistance().getValue();
+        }
+
+        // 이 시각 이후에 다시 추가된 마켓은 아래의 DB 확인 결과로 지우지 않음
+        Long checkedAt = marketGeoIndex.now();
+
+        // 가까운 마켓의 파티부터, 같은 마켓 안에서는 먼저 생성된 파티부터
+        List<PartyCandidate> loaded = new ArrayList<>(
+                partyRepository.findCandidatesByMarketIdIn(marketIds, ACTIVE_STATUSES));
+        loaded.sort(Comparator.<PartyCandidate>comparingInt(candidate -> marketOrders.get(candidate.getMarketId()))
+                .thenComparing(PartyCandidate::getPartyId));
+
+        int count = loaded.size();
+        PartyCandidate[] candidates = loaded.toArray(new PartyCandidate[count]);
+        double[] distances = new double[count];
+        boolean[] active = new boolean[marketCount];
+        for (int i = 0; i < count; i++) {
+            int order = marketOrders.get(candidates[i].getMarketId());
+            distances[i] = marketDistances[order];
+            active[order] = true;
+        }
+
+        // 진행 중인 파티가 모두 끝난 마켓을 인덱스에서 지움
+        List<Long> staleIds = new ArrayList<>();
+        for (int i = 0; i < marketCount; i++) {
+            if (!active[i]) {
+                staleIds.add(marketIds.get(i));
+            }
+        }
+        if (!staleIds.isEmpty() && checkedAt != null) {
+            marketGeoIndex.remove(staleIds, checkedAt);
+        }
+
+        long[] bookmarkedItemIds = likeItemRepository.getBookmarkedItems(userId).stream()
+                .mapToLong(LikeItemResponse::getId)
+                .sorted()
+                .toArray();
+
+        return rank(candidates, distances, bookmarkedItemIds, LocalDateTime.now().toEpochSecond(ZoneOffset.UTC));
+    }
+
+    /**
+     * 후보 중 점수가 높은 MAX_SIZE 개를 높은 순서로 반환
+     * 점수가 같으면 먼저 나온(더 가까운) 후보가 남음
+     *
+     * @param candidates        가까운 순서의 후보 (점수를 매기지 않을 후보는 null)
+     * @param distances         후보별 거리 (km)
+     * @param bookmarkedItemIds 정렬된 즐겨찾기 품목 ID
+     * @param nowEpochSecond    기준 시각 (초)
+     * @return 추천 목록
+     */
+    static List<PartyRecommendationResponse> rank(PartyCandidate[] candidates, double[] distances,
+                                                  long[] bookmarkedItemIds, long nowEpochSecond) {
+        double[] scores = new double[candidates.length];
+        // 후보 인덱스의 최소 힙, 루트가 지금까지 고른 후보 중 점수가 가장 낮은 후보
+        int[] heap = new int[MAX_SIZE];
+        int heapSize = 0;
+
+        for (int i = 0; i < candidates.length; i++) {
+            PartyCandidate candidate = candidates[i];
+            if (candidate == null || !candidate.isJoinable()) {
+                continue;
+            }
+            scores[i] = score(candidate, distances[i], isBookmarked(candidate, bookmarkedItemIds), nowEpochSecond);
+
+            if (heapSize < MAX_SIZE) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++, scores);
+            } else if (scores[i] > scores[heap[0]]) {
+                heap[0] = i;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+
+        // 점수가 낮은 후보부터 꺼내 뒤에서부터 채움
+        PartyRecommendationResponse[] ranked = new PartyRecommendationResponse[heapSize];
+        while (heapSize > 0) {
+            int index = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, scores);
+            PartyCandidate candidate = candidates[index];
+            ranked[heapSize] = new PartyRecommendationResponse(candidate, distances[index],
+                    isBookmarked(candidate, bookmarkedItemIds), scores[index]);
+        }
+        return Arrays.asList(ranked);
+    }
+
+    private static double score(PartyCandidate candidate, double distanceKm, boolean bookmarked, long nowEpochSecond) {
+        double distanceScore = 1 - Math.min(distanceKm, RADIUS_KM) / RADIUS_KM;
+
+        long untilStart = candidate.getStartEpochSecond() - nowEpochSecond;
+        double startTimeScore = untilStart < 0
+                ? STARTED_SCORE
+                : Math.max(0, 1 - untilStart / START_TIME_HORIZON_SECONDS);
+
+        double seatsScore = (double) (candidate.getMembersCount() - candidate.getAcceptedCount()) / candidate.getMembersCount();
+
+        return (bookmarked ? BOOKMARK_WEIGHT : 0)
+                + DISTANCE_WEIGHT * distanceScore
+                + START_TIME_WEIGHT * startTimeScore
+                + SEATS_WEIGHT * seatsScore;
+    }
+
+    private static boolean isBookmarked(PartyCandidate candidate, long[] bookmarkedItemIds) {
+        return Arrays.binarySearch(bookmarkedItemIds, candidate.getItemId()) >= 0;
+    }
+
+    // 점수가 낮은 쪽을 루트로, 같으면 뒤에 나온(더 먼) 후보를 루트로 올려 먼저 밀려나게 함
+    private static boolean lower(int a, int b, double[] scores) {
+        return scores[a] < scores[b] || (scores[a] == scores[b] && a > b);
+    }
+
+    private static void siftUp(int[] heap, int position, double[] scores) {
+        int index = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!lower(index, heap[parent], scores)) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = index;
+    }
+
+    private static void siftDown(int[] heap, int size, double[] scores) {
+        if (size == 0) {
+            return;
+        }
+        int index = heap[0];
+        int position = 0;
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && lower(heap[child + 1], heap[child], scores)) {
+                child++;
+            }
+            if (!lower(heap[child], index, scores)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = index;
+    }
+
+}
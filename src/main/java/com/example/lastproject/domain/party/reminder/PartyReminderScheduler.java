@@ -0,0 +1,140 @@
+package com.example.lastproject.domain.party.reminder;
+
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.rabbitmq.config.RabbitMqProducerConfig;
+import com.example.lastproject.domain.notification.rabbitmq.producer.NotificationEventPublisher;
+import com.example.lastproject.domain.party.service.PartyReminderService;
+import com.example.lastproject.domain.penalty.service.LettuceLockService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartyReminderScheduler {
+
+    /*
+    타이밍 휠을 tick 마다 돌려 발송 시각이 된 파티 알림을 보냄
+    - 한 tick 에 꺼낸 예약은 한 묶음으로 처리 (DB 확인 / 상태 변경 / 이벤트 발행)
+    - 여러 서버가 같은 예약을 휠에 들고 있으므로 분산 락을 잡은 서버만 처리하고,
+      락을 못 잡으면 다음 tick 에 다시 시도 (이미 처리된 예약은 DB 확인에서 걸러짐)
+    - 휠 범위 밖에 있던 예약은 load-interval 마다 DB 에서 한 번의 범위 조회로 불러옴
+     */
+
+    private static final String LOCK_KEY = "party:reminder:lock";
+    private static final String EVENT_TYPE = "party.remind";
+
+    private final PartyReminderWheel partyReminderWheel;
+    private final PartyReminderService partyReminderService;
+    private final LettuceLockService lettuceLockService;
+    private final NotificationEventPublisher eventPublisher;
+    private final RabbitMqProducerConfig rabbitMqConfig;
+
+    @Value("${party.reminder.enabled:true}")
+    private boolean enabled;
+
+    @Value("${party.reminder.tick-ms:1000}")
+    private long tickMs;
+
+    // 한 트랜잭션에서 처리할 최대 예약 수
+    @Value("${party.reminder.fire-batch-size:500}")
+    private int fireBatchSize;
+
+    // 락 유지 시간(초), 처리 중 서버가 죽어도 이 시간이 지나면 다른 서버가 이어받음
+    @Value("${party.reminder.lock-timeout-seconds:30}")
+    private long lockTimeoutSeconds;
+
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "party-reminder-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 휠 범위에 들어온 예약을 DB 에서 불러옴
+     * 휠 한 바퀴보다 자주 실행해야 범위 끝의 예약을 놓치지 않음
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${party.reminder.load-interval-ms:300000}")
+    public void loadUpcoming() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int loaded = partyReminderService.loadUpcoming();
+            log.debug("Loaded {} party reminders into the wheel ({} pending)", loaded, partyReminderWheel.size());
+        } catch (Exception e) {
+            log.error("Failed to load party reminders", e);
+        }
+    }
+
+    void tick() {
+        try {
+            List<Long> due = partyReminderWheel.advance(System.currentTimeMillis());
+            if (!due.isEmpty()) {
+                fire(due);
+            }
+        } catch (Exception e) {
+            // 예외가 나가면 ScheduledExecutorService 가 다음 실행을 멈추므로 여기서 처리
+            log.error("Party reminder tick failed", e);
+        }
+    }
+
+    void fire(List<Long> partyIds) {
+        String lockToken = lettuceLockService.tryLock(LOCK_KEY, lockTimeoutSeconds);
+        if (lockToken == null) {
+            // 다른 서버가 처리 중이면 다음 tick 에 다시 확인
+            long retryAt = System.currentTimeMillis();
+            partyIds.forEach(partyId -> partyReminderWheel.schedule(partyId, retryAt));
+            return;
+        }
+
+        try {
+            for (int from = 0; from < partyIds.size(); from += fireBatchSize) {
+                List<Long> batch = partyIds.subList(from, Math.min(partyIds.size(), from + fireBatchSize));
+                // 발송 처리가 커밋된 뒤에 이벤트 발행
+                for (NotificationEvent event : partyReminderService.fire(batch)) {
+                    String routingKey = rabbitMqConfig.prepareRoute(EVENT_TYPE, event.getMarketAddress());
+                    eventPublisher.publish(rabbitMqConfig.getActiveExchangeName(), routingKey, event);
+                }
+            }
+        } finally {
+            // 처리가 락 유지 시간보다 길어져 만료되었으면 다른 서버의 락이므로 지우지 않음
+            // 해제 실패는 락 만료로 풀리므로 처리 중 발생한 예외를 가리지 않도록 기록만 함
+            try {
+                if (!lettuceLockService.releaseLock(LOCK_KEY, lockToken)) {
+                    log.warn("Party reminder lock expired before release");
+                }
+            } catch (DataAccessException e) {
+                log.warn("Failed to release party reminder lock", e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.example.lastproject.domain.party.reminder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class PartyReminderWheel {
+
+    /*
+    파티 알림 예약을 담는 해시 타이밍 휠
+    - 시간을 tick 단위 칸(slot)으로 나누고, 발송 시각이 속한 칸에 파티 ID 를 넣어둠
+    - 예약 / 취소는 칸 하나만 건드리므로 O(1), 시간이 지나면 지나간 칸만 비움
+    - 휠 한 바퀴(tick * wheel-size) 보다 먼 예약도 같은 칸에 들어가지만, 발송 시각이 지나지 않았으면 다음 바퀴까지 남겨둠
+    - 휠은 가까운 시간의 예약만 들고 있고, 먼 예약은 party_reminder 테이블에서 주기적으로 불러옴
+     */
+
+    private final long tickMs;
+    private final int wheelSize;
+
+    // 칸마다 파티 ID -> 발송 시각(ms)
+    private final List<Map<Long, Long>> slots;
+    // 파티 ID -> 들어가 있는 칸 번호
+    private final Map<Long, Integer> slotIndex = new HashMap<>();
+
+    // 아직 비우지 않은 가장 이른 tick
+    private long currentTick;
+
+    public PartyReminderWheel(@Value("${party.reminder.tick-ms:1000}") long tickMs,
+                              @Value("${party.reminder.wheel-size:3600}") int wheelSize) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.slots = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            slots.add(new HashMap<>());
+        }
+        this.currentTick = System.currentTimeMillis() / tickMs;
+    }
+
+    /**
+     * 파티 알림 예약 (이미 예약되어 있으면 발송 시각을 바꿈)
+     *
+     * @param partyId 파티 ID
+     * @param fireAt  발송 시각 (이미 지났으면 다음 tick 에 발송)
+     */
+    public void schedule(Long partyId, LocalDateTime fireAt) {
+        schedule(partyId, toEpochMilli(fireAt));
+    }
+
+    public synchronized void schedule(Long partyId, long fireAtMs) {
+        cancel(partyId);
+        int slot = (int) Math.floorMod(Math.max(fireAtMs / tickMs, currentTick), (long) wheelSize);
+        slots.get(slot).put(partyId, fireAtMs);
+        slotIndex.put(partyId, slot);
+    }
+
+    public synchronized void cancel(Long partyId) {
+        Integer slot = slotIndex.remove(partyId);
+        if (slot != null) {
+            slots.get(slot).remove(partyId);
+        }
+    }
+
+    /**
+     * 지나간 tick 의 칸을 비우고, 발송 시각이 된 파티 ID 를 꺼냄
+     *
+     * @param nowMs 현재 시각(ms)
+     * @return 발송할 파티 ID 목록
+     */
+    public synchronized List<Long> advance(long nowMs) {
+        List<Long> expired = new ArrayList<>();
+        long targetTick = nowMs / tickMs;
+
+        // 오래 멈춰 있었다면 모든 칸을 한 번씩만 확인
+        if (targetTick - currentTick >= wheelSize) {
+            for (Map<Long, Long> slot : slots) {
+                collectExpired(slot, nowMs, expired);
+            }
+            currentTick = targetTick;
+            return expired;
+        }
+
+        // 끝난 tick 만 비움 (그 칸의 예약은 모두 nowMs 이전)
+        while (currentTick < targetTick) {
+            collectExpired(slots.get((int) Math.floorMod(currentTick, (long) wheelSize)), nowMs, expired);
+            currentTick++;
+        }
+        return expired;
+    }
+
+    /**
+     * 휠이 한 바퀴 안에 다룰 수 있는 시간 (이보다 먼 예약은 DB 에만 둠)
+     */
+    public long getHorizonMs() {
+        return tickMs * wheelSize;
+    }
+
+    public boolean isWithinHorizon(LocalDateTime fireAt) {
+        return toEpochMilli(fireAt) < System.currentTimeMillis() + getHorizonMs();
+    }
+
+    public synchronized int size() {
+        return slotIndex.size();
+    }
+
+    private void collectExpired(Map<Long, Long> slot, long nowMs, List<Long> expired) {
+        Iterator<Map.Entry<Long, Long>> iterator = slot.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Long> entry = iterator.next();
+            if (entry.getValue() <= nowMs) {
+                expired.add(entry.getKey());
+                slotIndex.remove(entry.getKey());
+                iterator.remove();
+            }
+        }
+    }
+
+    static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.example.lastproject.domain.party.repository;
 
 import com.example.lastproject.domain.party.dto.response.NearbyPartyResponse;
+import com.example.lastproject.domain.party.dto.response.PartyResponse;
 import com.example.lastproject.domain.user.dto.NearbyBookmarkUserDto;
 
 import java.math.BigDecimal;
@@ -9,4 +10,5 @@ import java.util.List;
 public interface PartyQueryRepository {
     List<NearbyPartyResponse> getNearByParties(BigDecimal latitude, BigDecimal longitude);
     List<NearbyBookmarkUserDto> getUserIdWithDistanceNearbyParty(BigDecimal latitude, BigDecimal longitude, long itemId);
+    List<PartyResponse> findMyParties(Long userId, Long lastPartyId, int size);
 }
@@ -1,10 +1,15 @@
 package com.example.lastproject.domain.party.repository;
 
 import com.example.lastproject.domain.party.dto.response.NearbyPartyResponse;
+import com.example.lastproject.domain.party.dto.response.PartyResponse;
 import com.example.lastproject.domain.party.dto.response.QNearbyPartyResponse;
+import com.example.lastproject.domain.party.dto.response.QPartyResponse;
 import com.example.lastproject.domain.user.dto.NearbyBookmarkUserDto;
 import com.example.lastproject.domain.user.dto.QNearbyBookmarkUserDto;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.NumberTemplate;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -14,7 +19,9 @@ import java.util.List;
 
 import static com.example.lastproject.domain.item.entity.QItem.item;
 import static com.example.lastproject.domain.likeitem.entity.QLikeItem.likeItem;
+import static com.example.lastproject.domain.market.entity.QMarket.market;
 import static com.example.lastproject.domain.party.entity.QParty.party;
+import static com.example.lastproject.domain.partymember.entity.QPartyMember.partyMember;
 import static com.example.lastproject.domain.user.entity.QUser.user;
 import static com.querydsl.core.types.dsl.Expressions.numberTemplate;
 
@@ -22,21 +29,43 @@ import static com.querydsl.core.types.dsl.Expressions.numberTemplate;
 @RequiredArgsConstructor
 public class PartyQueryRepositoryImpl implements PartyQueryRepository {
 
+    private static final double NEARBY_RADIUS_KM = 10;
+
     private final JPAQueryFactory q;
 
+    /**
+     * 반경 10km 안의 파티를 가까운 순서로 조회
+     * 거리는 파티가 참조하는 마켓 좌표로 계산하고, 하버사인 계산 전에 위도 / 경도 범위로 먼저 거름
+     * (범위 조건은 마켓의 (latitude, longitude) 인덱스를 사용하여 반경 밖의 마켓을 계산하지 않음)
+     *
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     */
     public List<NearbyPartyResponse> getNearByParties(BigDecimal latitude, BigDecimal longitude) {
 
         // 거리 계산을 위한 하버사인 공식
         NumberTemplate<BigDecimal> distance = numberTemplate(BigDecimal.class,
                 "6371 * acos(cos(radians({0})) * cos(radians({1})) * cos(radians({2}) - radians({3})) + sin(radians({0})) * sin(radians({1})))",
-                latitude, party.latitude, party.longitude, longitude);
+                latitude, market.latitude, market.longitude, longitude);
+
+        // 반경 10km 를 감싸는 위도 / 경도 범위 (위도 1도 약 111km, 경도 1도는 위도에 따라 줄어듦)
+        double latitudeDelta = NEARBY_RADIUS_KM / 111.0;
+        double longitudeDelta = NEARBY_RADIUS_KM / (111.32 * Math.cos(Math.toRadians(latitude.doubleValue())));
 
         List<NearbyPartyResponse> results = q
                 .select(
                         new QNearbyPartyResponse(party.id, party.marketName, party.marketAddress, distance, party.item.id)
                 )
                 .from(party)
-                .where(distance.loe(10))  // 10KM 이하의 거리 필터
+                .join(party.market, market)
+                .where(
+                        market.latitude.between(
+                                latitude.subtract(BigDecimal.valueOf(latitudeDelta)),
+                                latitude.add(BigDecimal.valueOf(latitudeDelta))),
+                        market.longitude.between(
+                                longitude.subtract(BigDecimal.valueOf(longitudeDelta)),
+                                longitude.add(BigDecimal.valueOf(longitudeDelta))),
+                        distance.loe(NEARBY_RADIUS_KM))  // 10KM 이하의 거리 필터
                 .orderBy(distance.asc())           // 거리 순으로 정렬
                 .fetch();
 
@@ -63,4 +92,37 @@ public class PartyQueryRepositoryImpl implements PartyQueryRepository {
         return results;
     }
 
+    /**
+     * 내가 생성한 파티와 참가 신청한 파티를 한 번의 쿼리로 조회
+     * 파티 한 건당 한 행만 나오므로 중복 제거가 필요 없고, 파티 ID 내림차순 keyset 으로 페이지를 나눔
+     *
+     * @param userId      사용자 ID
+     * @param lastPartyId 이전 페이지의 마지막 파티 ID (첫 페이지는 null)
+     * @param size        페이지 크기
+     */
+    public List<PartyResponse> findMyParties(Long userId, Long lastPartyId, int size) {
+        return q
+                .select(new QPartyResponse(
+                        party.id, party.marketName, party.marketAddress, party.latitude, party.longitude,
+                        item.id, item.category, party.itemCount, party.itemUnit,
+                        party.startTime, party.endTime, party.membersCount, party.partyStatus,
+                        new CaseBuilder().when(party.creatorId.eq(userId)).then("Leader").otherwise("Member")))
+                .from(party)
+                .join(party.item, item)
+                .where(
+                        party.creatorId.eq(userId).or(JPAExpressions
+                                .selectOne()
+                                .from(partyMember)
+                                .where(partyMember.party.id.eq(party.id), partyMember.user.id.eq(userId))
+                                .exists()),
+                        partyIdLessThan(lastPartyId))
+                .orderBy(party.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression partyIdLessThan(Long lastPartyId) {
+        return lastPartyId == null ? null : party.id.lt(lastPartyId);
+    }
+
 }
@@ -0,0 +1,32 @@
+package com.example.lastproject.domain.party.repository;
+
+import com.example.lastproject.domain.party.entity.PartyReminder;
+import com.example.lastproject.domain.party.enums.PartyReminderStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PartyReminderRepository extends JpaRepository<PartyReminder, Long> {
+
+    Optional<PartyReminder> findByPartyId(Long partyId);
+
+    // (status, fire_at) 인덱스를 타는 범위 조회, id 기준 keyset 으로 나누어 읽음
+    List<PartyReminder> findByStatusAndFireAtBeforeAndIdGreaterThanOrderByIdAsc(
+            PartyReminderStatus status, LocalDateTime until, Long lastId, Pageable pageable);
+
+    List<PartyReminder> findByPartyIdInAndStatusAndFireAtLessThanEqual(
+            Collection<Long> partyIds, PartyReminderStatus status, LocalDateTime now);
+
+    // 같은 트랜잭션에서 바꾼 엔티티(취소된 파티 등)가 clear 로 버려지지 않도록 UPDATE 전에 flush
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update PartyReminder r set r.status = :status where r.partyId in :partyIds and r.status = com.example.lastproject.domain.party.enums.PartyReminderStatus.SCHEDULED")
+    int updateScheduledStatus(@Param("partyIds") Collection<Long> partyIds, @Param("status") PartyReminderStatus status);
+
+}
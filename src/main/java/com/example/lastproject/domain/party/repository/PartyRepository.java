@@ -2,8 +2,15 @@ package com.example.lastproject.domain.party.repository;
 
 import com.example.lastproject.domain.party.entity.Party;
 import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.party.recommend.PartyCandidate;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +22,107 @@ public interface PartyRepository extends JpaRepository<Party, Long>, PartyQueryR
     Optional<Party> findByIdAndCreatorId(Long partyId, Long creatorId);
     Optional<Party> findByIdAndPartyStatus(Long partyId, PartyStatus partyStatus);
 
+    @Query("select p from Party p join fetch p.item where p.id = :partyId")
+    Optional<Party> findWithItemById(@Param("partyId") Long partyId);
+
+    @Query("select p from Party p join fetch p.item where p.id in :partyIds")
+    List<Party> findAllWithItemByIdIn(@Param("partyIds") Collection<Long> partyIds);
+
+    // 마켓들의 진행 중인 파티를 추천 점수 계산에 필요한 컬럼만 조회 ((market_id, party_status) 인덱스 사용)
+    @Query("select new com.example.lastproject.domain.party.recommend.PartyCandidate(" +
+            "p.id, p.market.id, p.item.id, p.marketName, p.marketAddress, p.startTime, p.membersCount, p.acceptedCount, p.partyStatus) " +
+            "from Party p where p.market.id in :marketIds and p.partyStatus in :statuses")
+    List<PartyCandidate> findCandidatesByMarketIdIn(@Param("marketIds") Collection<Long> marketIds,
+                                                    @Param("statuses") Collection<PartyStatus> statuses);
+
+    // 마켓이 채워지지 않은 파티 (마켓 도입 이전에 생성된 파티) 를 id keyset 으로 나누어 조회
+    @Query("select p.id from Party p where p.market is null and p.id > :lastId order by p.id")
+    List<Long> findIdsByMarketIsNull(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 종료 시간이 지난 파티를 (end_time, id) keyset 으로 나누어 조회 (party_status, end_time 인덱스 사용)
+    @Query("select p from Party p join fetch p.item " +
+            "where p.partyStatus = :status and p.endTime < :now " +
+            "and (p.endTime > :lastEndTime or (p.endTime = :lastEndTime and p.id > :lastId)) " +
+            "order by p.endTime, p.id")
+    List<Party> findExpiredChunk(@Param("status") PartyStatus status, @Param("now") LocalDateTime now,
+                                 @Param("lastEndTime") LocalDateTime lastEndTime, @Param("lastId") Long lastId,
+                                 Pageable pageable);
+
+    // 조회 이후 다른 요청이 상태를 바꾼 파티는 건너뛰도록 이전 상태를 조건으로 둠
+    @Modifying(clearAutomatically = true)
+    @Query("update Party p set p.partyStatus = :to, p.version = p.version + 1 " +
+            "where p.id in :partyIds and p.partyStatus = :from and p.endTime < :now")
+    int updateExpiredStatus(@Param("partyIds") Collection<Long> partyIds, @Param("from") PartyStatus from,
+                            @Param("to") PartyStatus to, @Param("now") LocalDateTime now);
+
+    /*
+    참가 승인 좌석 예약 / 반납
+    - 남은 좌석이 있을 때만 1 증가시키고, 마지막 좌석이면 같은 UPDATE 에서 JOINED 로 변경
+    - 반환값이 0 이면 좌석이 없거나 모집 중인 파티가 아님
+    - MySQL 은 SET 절을 왼쪽부터 적용하므로 상태를 먼저 계산해야 증가 전 값을 기준으로 판단함
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Party p set " +
+            "p.partyStatus = case when p.acceptedCount + 1 >= p.membersCount " +
+            "then com.example.lastproject.domain.party.enums.PartyStatus.JOINED else p.partyStatus end, " +
+            "p.acceptedCount = p.acceptedCount + 1, p.version = p.version + 1 " +
+            "where p.id = :partyId and p.acceptedCount < p.membersCount " +
+            "and p.partyStatus = com.example.lastproject.domain.party.enums.PartyStatus.OPEN")
+    int reserveSeat(@Param("partyId") Long partyId);
+
+    // 승인된 파티원이 빠지면 좌석을 돌려주고, 모집 완료 상태였다면 다시 모집 중으로 변경
+    @Modifying(clearAutomatically = true)
+    @Query("update Party p set " +
+            "p.partyStatus = case when p.partyStatus = com.example.lastproject.domain.party.enums.PartyStatus.JOINED " +
+            "then com.example.lastproject.domain.party.enums.PartyStatus.OPEN else p.partyStatus end, " +
+            "p.acceptedCount = p.acceptedCount - 1, p.version = p.version + 1 " +
+            "where p.id = :partyId and p.acceptedCount > 1")
+    int releaseSeat(@Param("partyId") Long partyId);
+
+    // 여러 신청을 한 번에 처리한 승인 인원 변화량을 반영하고 파티 상태를 한 번만 다시 계산
+    // 승인 인원이 늘어날 때는 모집 중인 파티에서 정원을 넘지 않을 때만 변경
+    @Modifying(clearAutomatically = true)
+    @Query("update Party p set " +
+            "p.partyStatus = case when p.partyStatus not in (" +
+            "com.example.lastproject.domain.party.enums.PartyStatus.OPEN, " +
+            "com.example.lastproject.domain.party.enums.PartyStatus.JOINED) then p.partyStatus " +
+            "when p.acceptedCount + :delta >= p.membersCount " +
+            "then com.example.lastproject.domain.party.enums.PartyStatus.JOINED " +
+            "else com.example.lastproject.domain.party.enums.PartyStatus.OPEN end, " +
+            "p.acceptedCount = p.acceptedCount + :delta, p.version = p.version + 1 " +
+            "where p.id = :partyId and p.acceptedCount + :delta between 1 and p.membersCount " +
+            "and (:delta <= 0 or p.partyStatus = com.example.lastproject.domain.party.enums.PartyStatus.OPEN)")
+    int adjustSeats(@Param("partyId") Long partyId, @Param("delta") int delta);
+
+    @Query("select coalesce(max(p.id), 0) from Party p")
+    Long findMaxId();
+
+    /*
+    승인 인원 컬럼 도입 이전 파티의 값 채우기 (id 범위 단위)
+    - 승인된 파티 멤버 수(파티장 포함)와 다른 파티만 바꾸고, 승인된 파티 멤버가 없는 비정상 파티는 건너뜀
+    - 모집 중 / 모집 완료 파티는 같은 UPDATE 에서 채운 인원 기준으로 상태를 다시 계산
+    - MySQL 은 SET 절을 왼쪽부터 적용하므로 상태를 먼저 계산해야 해서 인원 계산 subquery 를 두 번 씀
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Party p set " +
+            "p.partyStatus = case when p.partyStatus not in (" +
+            "com.example.lastproject.domain.party.enums.PartyStatus.OPEN, " +
+            "com.example.lastproject.domain.party.enums.PartyStatus.JOINED) then p.partyStatus " +
+            "when (select count(m) from PartyMember m where m.party = p " +
+            "and m.inviteStatus = com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus.ACCEPTED) >= p.membersCount " +
+            "then com.example.lastproject.domain.party.enums.PartyStatus.JOINED " +
+            "else com.example.lastproject.domain.party.enums.PartyStatus.OPEN end, " +
+            "p.acceptedCount = (select count(m) from PartyMember m where m.party = p " +
+            "and m.inviteStatus = com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus.ACCEPTED), " +
+            "p.version = p.version + 1 " +
+            "where p.id > :fromId and p.id <= :toId " +
+            "and p.acceptedCount <> (select count(m) from PartyMember m where m.party = p " +
+            "and m.inviteStatus = com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus.ACCEPTED) " +
+            "and exists (select 1 from PartyMember m where m.party = p " +
+            "and m.inviteStatus = com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus.ACCEPTED)")
+    int backfillAcceptedCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("select p.id from Party p where p.id in :partyIds and p.partyStatus = :status")
+    List<Long> findIdsByIdInAndPartyStatus(@Param("partyIds") Collection<Long> partyIds, @Param("status") PartyStatus status);
+
 }
@@ -0,0 +1,92 @@
+package com.example.lastproject.domain.party.service;
+
+import com.example.lastproject.domain.party.cache.PartyDetailCache;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.enums.PartyReminderStatus;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.party.repository.PartyReminderRepository;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartyExpiryService {
+
+    /*
+    종료 시간이 지난 파티의 상태 정리
+    - OPEN(모집 중) 으로 끝난 파티는 CANCELED, JOINED(모집 완료) 로 끝난 파티는 DONE
+    - 한 번에 chunk 크기만큼 읽고, 상태 변경은 id 목록에 대한 UPDATE 한 번으로 처리
+    - 각 chunk 는 별도 트랜잭션이므로 대량의 파티도 긴 트랜잭션 / 락 없이 처리됨
+     */
+
+    // keyset 시작점 (어떤 종료 시간보다도 이른 값)
+    public static final LocalDateTime FIRST_END_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final PartyRepository partyRepository;
+    private final PartyReminderRepository partyReminderRepository;
+    private final PartyDetailCache partyDetailCache;
+
+    /**
+     * 종료 시간이 지난 파티 한 chunk 의 상태를 바꿈
+     *
+     * @param from        현재 상태 (OPEN / JOINED)
+     * @param to          바꿀 상태 (CANCELED / DONE)
+     * @param now         기준 시각
+     * @param lastEndTime 이전 chunk 의 마지막 종료 시간
+     * @param lastId      이전 chunk 의 마지막 파티 ID
+     * @param size        chunk 크기
+     * @return 상태가 바뀐 파티와 다음 chunk 의 시작점
+     */
+    @Transactional
+    public Chunk expireChunk(PartyStatus from, PartyStatus to, LocalDateTime now,
+                             LocalDateTime lastEndTime, Long lastId, int size) {
+        List<Party> parties = partyRepository.findExpiredChunk(from, now, lastEndTime, lastId, PageRequest.of(0, size));
+        if (parties.isEmpty()) {
+            return new Chunk(List.of(), lastEndTime, lastId, false);
+        }
+
+        List<Long> partyIds = parties.stream().map(Party::getId).toList();
+        int updated = partyRepository.updateExpiredStatus(partyIds, from, to, now);
+
+        // 조회 이후 파티장이 직접 상태를 바꾼 파티는 결과에서 제외
+        List<Party> transitioned = parties;
+        if (updated < partyIds.size()) {
+            Set<Long> changed = new HashSet<>(partyRepository.findIdsByIdInAndPartyStatus(partyIds, to));
+            transitioned = parties.stream().filter(party -> changed.contains(party.getId())).toList();
+        }
+
+        partyDetailCache.evictAfterCommit(transitioned.stream().map(Party::getId).toList());
+
+        // 취소된 파티의 시작 전 알림 예약도 함께 취소
+        if (to == PartyStatus.CANCELED && !transitioned.isEmpty()) {
+            partyReminderRepository.updateScheduledStatus(
+                    transitioned.stream().map(Party::getId).toList(), PartyReminderStatus.CANCELED);
+        }
+
+        Party last = parties.get(parties.size() - 1);
+        return new Chunk(transitioned, last.getEndTime(), last.getId(), parties.size() == size);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Chunk {
+
+        private final List<Party> parties;
+        private final LocalDateTime lastEndTime;
+        private final Long lastId;
+        private final boolean hasNext;
+
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.example.lastproject.domain.party.service;
+
+import com.example.lastproject.common.util.AfterCommit;
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.entity.PartyReminder;
+import com.example.lastproject.domain.party.enums.PartyReminderStatus;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.party.reminder.PartyReminderWheel;
+import com.example.lastproject.domain.party.repository.PartyReminderRepository;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartyReminderService {
+
+    /*
+    파티 시작 전 알림 예약 관리
+    - 예약은 party_reminder 테이블에 저장하고, 가까운 시간의 예약만 타이밍 휠에 올림
+    - 휠에서 꺼낸 예약은 DB 에서 다시 확인한 뒤 한 번의 UPDATE 로 발송 처리
+      (다른 서버에서 시간이 바뀌거나 취소된 예약이 휠에 남아 있어도 보내지 않음)
+    - 휠 변경은 커밋 이후에 반영 (롤백된 예약 / 취소가 휠에 남지 않음)
+     */
+
+    private final PartyReminderRepository partyReminderRepository;
+    private final PartyRepository partyRepository;
+    private final PartyReminderWheel partyReminderWheel;
+
+    // 파티 시작 몇 분 전에 알릴지
+    @Value("${party.reminder.lead-minutes:30}")
+    private long leadMinutes;
+
+    // 예약을 불러올 때 한 번에 읽을 개수
+    @Value("${party.reminder.load-batch-size:1000}")
+    private int loadBatchSize;
+
+    /**
+     * 파티 시작 전 알림 예약 (이미 있으면 발송 시각을 새 시작 시간에 맞춤)
+     *
+     * @param party 생성 / 수정된 파티
+     */
+    @Transactional
+    public void schedule(Party party) {
+        LocalDateTime fireAt = party.getStartTime().minusMinutes(leadMinutes);
+        PartyReminder reminder = partyReminderRepository.findByPartyId(party.getId())
+                .orElseGet(() -> new PartyReminder(party.getId(), fireAt));
+        reminder.reschedule(fireAt);
+        partyReminderRepository.save(reminder);
+
+        // 휠 범위 밖의 예약은 주기적으로 불러올 때 올라감
+        Long partyId = party.getId();
+        AfterCommit.run(() -> {
+            if (partyReminderWheel.isWithinHorizon(fireAt)) {
+                partyReminderWheel.schedule(partyId, fireAt);
+            } else {
+                partyReminderWheel.cancel(partyId);
+            }
+        });
+    }
+
+    /**
+     * 파티 알림 예약 취소
+     *
+     * @param partyId 취소된 파티 ID
+     */
+    @Transactional
+    public void cancel(Long partyId) {
+        partyReminderRepository.updateScheduledStatus(List.of(partyId), PartyReminderStatus.CANCELED);
+        AfterCommit.run(() -> partyReminderWheel.cancel(partyId));
+    }
+
+    /**
+     * 휠이 다룰 수 있는 시간 안의 예약을 DB 에서 불러와 휠에 올림
+     * 파티마다 조회하지 않고 (status, fire_at) 범위를 id 순으로 나누어 읽음
+     *
+     * @return 휠에 올린 예약 수
+     */
+    @Transactional(readOnly = true)
+    public int loadUpcoming() {
+        LocalDateTime until = LocalDateTime.now().plus(Duration.ofMillis(partyReminderWheel.getHorizonMs()));
+        int loaded = 0;
+        long lastId = 0L;
+        while (true) {
+            List<PartyReminder> reminders = partyReminderRepository.findByStatusAndFireAtBeforeAndIdGreaterThanOrderByIdAsc(
+                    PartyReminderStatus.SCHEDULED, until, lastId, PageRequest.of(0, loadBatchSize));
+            for (PartyReminder reminder : reminders) {
+                partyReminderWheel.schedule(reminder.getPartyId(), reminder.getFireAt());
+            }
+            loaded += reminders.size();
+            if (reminders.size() < loadBatchSize) {
+                return loaded;
+            }
+            lastId = reminders.get(reminders.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 발송 시각이 된 예약을 발송 처리하고, 보낼 알림 이벤트를 만듦
+     * 이미 발송 / 취소되었거나 시간이 바뀐 예약은 건너뜀
+     *
+     * @param partyIds 휠에서 꺼낸 파티 ID
+     * @return 발행할 알림 이벤트 (커밋 이후 발행)
+     */
+    @Transactional
+    public List<NotificationEvent> fire(Collection<Long> partyIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = partyReminderRepository
+                .findByPartyIdInAndStatusAndFireAtLessThanEqual(partyIds, PartyReminderStatus.SCHEDULED, now)
+                .stream()
+                .map(PartyReminder::getPartyId)
+                .toList();
+        if (dueIds.isEmpty()) {
+            return List.of();
+        }
+
+        partyReminderRepository.updateScheduledStatus(dueIds, PartyReminderStatus.SENT);
+
+        // 이미 시작했거나 모집이 끝난 파티는 알리지 않음
+        List<NotificationEvent> events = new ArrayList<>(dueIds.size());
+        for (Party party : partyRepository.findAllWithItemByIdIn(dueIds)) {
+            boolean active = party.getPartyStatus() == PartyStatus.OPEN || party.getPartyStatus() == PartyStatus.JOINED;
+            if (active && party.getStartTime().isAfter(now)) {
+                events.add(NotificationEvent.partyReminder(party));
+            }
+        }
+        log.info("Fired {} party reminders ({} due)", events.size(), dueIds.size());
+        return events;
+    }
+
+}
@@ -1,16 +1,30 @@
 package com.example.lastproject.domain.party.service;
 
+import com.example.lastproject.common.annotation.RetryOnConflict;
 import com.example.lastproject.common.dto.AuthUser;
 import com.example.lastproject.common.enums.ErrorCode;
 import com.example.lastproject.common.exception.CustomException;
 import com.example.lastproject.domain.item.entity.Item;
 import com.example.lastproject.domain.item.repository.ItemRepository;
+import com.example.lastproject.domain.market.entity.Market;
+import com.example.lastproject.domain.market.geo.MarketGeoIndex;
+import com.example.lastproject.domain.market.service.MarketService;
+import com.example.lastproject.domain.party.cache.PartyDetailCache;
 import com.example.lastproject.domain.party.dto.request.PartyCreateRequest;
 import com.example.lastproject.domain.party.dto.request.PartyUpdateRequest;
 import com.example.lastproject.domain.party.dto.response.NearbyPartyResponse;
+import com.example.lastproject.domain.party.dto.response.PartyDetailResponse;
+import com.example.lastproject.domain.party.dto.response.PartyRecommendationResponse;
 import com.example.lastproject.domain.party.dto.response.PartyResponse;
+import com.example.lastproject.domain.party.dto.response.TrendingItemResponse;
+import com.example.lastproject.domain.party.dto.response.TrendingMarketResponse;
 import com.example.lastproject.domain.party.entity.Party;
 import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.party.event.PartyCompletedEvent;
+import com.example.lastproject.domain.party.ranking.PartyRankingService;
+import com.example.lastproject.domain.party.ranking.PartyRankingSignal;
+import com.example.lastproject.domain.party.ranking.PartyRankingWindow;
+import com.example.lastproject.domain.party.recommend.PartyRecommendationService;
 import com.example.lastproject.domain.party.repository.PartyRepository;
 import com.example.lastproject.domain.partymember.dto.request.PartyMemberUpdateRequest;
 import com.example.lastproject.domain.partymember.dto.response.PartyMemberResponse;
@@ -18,10 +32,16 @@ import com.example.lastproject.domain.partymember.entity.PartyMember;
 import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
 import com.example.lastproject.domain.partymember.enums.PartyMemberRole;
 import com.example.lastproject.domain.partymember.repository.PartyMemberRepository;
+import com.example.lastproject.domain.partymember.service.PartyMembershipCache;
+import com.example.lastproject.domain.partymember.service.PartyWaitlistService;
 import com.example.lastproject.domain.user.entity.User;
 import com.example.lastproject.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -29,17 +49,32 @@ import java.time.LocalDateTime;
 import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class PartyService {
 
+    // 목록 조회 한 페이지의 최대 크기
+    public static final int MAX_SIZE = 100;
+
     private final PartyRepository partyRepository;
     private final ItemRepository itemRepository;
     private final PartyMemberRepository partyMemberRepository;
     private final UserRepository userRepository;
+    private final PartyReminderService partyReminderService;
+    private final PartyMembershipCache partyMembershipCache;
+    private final PartyDetailCache partyDetailCache;
+    private final PartyWaitlistService partyWaitlistService;
+    private final PartyRankingService partyRankingService;
+    private final MarketService marketService;
+    private final MarketGeoIndex marketGeoIndex;
+    private final PartyRecommendationService partyRecommendationService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     // 공통으로 사용하는 partyId로 Party 객체를 조회하는 메서드
     private Party findPartyById(Long partyId) {
@@ -91,12 +126,17 @@ public class PartyService {
         // 파티 생성 시 사용할 formatter 선언
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+        // 같은 마켓의 파티는 하나의 마켓을 참조하고, 마켓 이름 / 주소 / 좌표도 마켓 기준으로 맞춤
+        // (알림 라우팅 키와 랭킹도 마켓 단위로 모임)
+        Market market = marketService.findOrCreate(
+                request.getMarketName(), request.getMarketAddress(), request.getLatitude(), request.getLongitude());
+
         // 파티 생성
         Party party = new Party(
-                request.getMarketName(),
-                request.getMarketAddress(),
-                request.getLatitude(),
-                request.getLongitude(),
+                market.getMarketName(),
+                market.getMarketAddress(),
+                market.getLatitude(),
+                market.getLongitude(),
                 item,
                 request.getItemCount(),
                 request.getItemUnit(),
@@ -105,6 +145,7 @@ public class PartyService {
                 request.getMembersCount(),
                 user.getId()
         );
+        party.assignMarket(market);
 
         // 파티 저장
         partyRepository.save(party);
@@ -118,81 +159,215 @@ public class PartyService {
         );
 
         partyMemberRepository.save(partyMember);
+
+        // 파티 시작 전 알림 예약
+        partyReminderService.schedule(party);
+        partyRankingService.recordAfterCommit(PartyRankingSignal.CREATED, party);
+        marketGeoIndex.addAfterCommit(market);
         return new PartyResponse(party, "Leader");
     }
 
     /**
      * 파티장: 내가 생성한 파티에 참가 신청한 유저의 상태를 변경합니다.
+     * 승인 인원은 파티의 acceptedCount 를 조건부 UPDATE 로 바꾸므로, 파티원 목록을 불러오지 않고 동시 승인에도 정원을 넘지 않습니다.
      *
      * @param partyId    파티 ID
      * @param authUser   현재 로그인한 유저 (파티장 여부 검증을 위해 사용)
      * @param requestDto 상태를 변경할 파티 멤버 ID와 새로운 초대 상태를 포함한 DTO
      * @throws CustomException NOT_PARTY_LEADER: "이 작업은 파티장만 수행할 수 있습니다."
      * @throws CustomException PARTY_MEMBER_NOT_FOUND: "해당 파티 멤버를 찾을 수 없습니다."
+     * @throws CustomException PARTY_FULL: "파티 인원이 모두 찼습니다."
      */
+    @RetryOnConflict
     @Transactional
     public void handleJoinRequest(Long partyId, AuthUser authUser, PartyMemberUpdateRequest requestDto) {
         User user = User.fromAuthUser(authUser);
-        Party party = partyRepository.findByIdAndCreatorId(partyId, user.getId())
+        partyRepository.findByIdAndCreatorId(partyId, user.getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_PARTY_LEADER));
 
         Long userId = requestDto.getUserId();
         PartyMemberInviteStatus inviteStatus = requestDto.getInviteStatus();
 
         if (userId != null && inviteStatus != null) {
+            verifyInviteDecision(inviteStatus);
+
+            // 신청하지 않은 사용자는 캐시에서 바로 걸러냄
+            if (!partyMembershipCache.isMember(partyId, userId)) {
+                throw new CustomException(ErrorCode.PARTY_MEMBER_NOT_FOUND);
+            }
+
             // 파티 ID와 사용자 ID를 비교하여 파티 멤버 조회
             PartyMember partyMember = partyMemberRepository.findByPartyIdAndUserId(partyId, userId)
                     .orElseThrow(() -> new CustomException(ErrorCode.PARTY_MEMBER_NOT_FOUND));
-            partyMember.updateInviteStatus(inviteStatus);
+            changeInviteStatus(partyId, partyMember, inviteStatus);
+        }
+    }
+
+    /**
+     * 파티장: 여러 참가 신청을 한 트랜잭션에서 한 번에 처리
+     * 같은 (이전 상태 -> 새 상태) 끼리 묶어 UPDATE 한 번으로 바꾸고, 승인 인원 변화량은 파티에 한 번만 반영
+     * 정원을 넘거나 다른 요청에서 상태가 바뀐 신청이 있으면 전체를 롤백
+     *
+     * @param partyId  파티 ID
+     * @param authUser 현재 로그인한 유저 (파티장 여부 검증을 위해 사용)
+     * @param requests 상태를 변경할 사용자 ID와 새로운 초대 상태 목록 (같은 사용자는 마지막 요청만 반영)
+     * @throws CustomException NOT_PARTY_LEADER: "이 작업은 파티장만 수행할 수 있습니다."
+     * @throws CustomException PARTY_MEMBER_NOT_FOUND: "해당 파티 멤버를 찾을 수 없습니다."
+     * @throws CustomException PARTY_FULL: "파티 인원이 모두 찼습니다."
+     * @throws CustomException PARTY_UPDATE_CONFLICT: "다른 요청과 동시에 변경되었습니다. 다시 시도해 주세요."
+     */
+    @RetryOnConflict
+    @Transactional
+    public void handleJoinRequests(Long partyId, AuthUser authUser, List<PartyMemberUpdateRequest> requests) {
+        partyRepository.findByIdAndCreatorId(partyId, authUser.getUserId())
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_PARTY_LEADER));
+
+        Map<Long, PartyMemberInviteStatus> decisions = new LinkedHashMap<>();
+        for (PartyMemberUpdateRequest request : requests) {
+            verifyInviteDecision(request.getInviteStatus());
+            decisions.put(request.getUserId(), request.getInviteStatus());
+        }
+
+        // 파티장 본인의 상태는 바꿀 수 없으므로 신청한 파티원만 조회
+        List<PartyMember> partyMembers = partyMemberRepository.findByPartyIdAndUserIdInAndRole(
+                partyId, decisions.keySet(), PartyMemberRole.MEMBER);
+        if (partyMembers.size() != decisions.size()) {
+            throw new CustomException(ErrorCode.PARTY_MEMBER_NOT_FOUND);
+        }
+
+        // (이전 상태, 새 상태) 별로 파티 멤버 ID 를 묶음
+        Map<PartyMemberInviteStatus, Map<PartyMemberInviteStatus, List<Long>>> transitions = new EnumMap<>(PartyMemberInviteStatus.class);
+        int seatDelta = 0;
+        for (PartyMember partyMember : partyMembers) {
+            PartyMemberInviteStatus currentStatus = partyMember.getInviteStatus();
+            PartyMemberInviteStatus newStatus = decisions.get(partyMember.getUser().getId());
+            if (currentStatus == newStatus) {
+                continue;
+            }
+            transitions.computeIfAbsent(currentStatus, status -> new EnumMap<>(PartyMemberInviteStatus.class))
+                    .computeIfAbsent(newStatus, status -> new ArrayList<>())
+                    .add(partyMember.getId());
+
+            if (newStatus == PartyMemberInviteStatus.ACCEPTED) {
+                seatDelta++;
+            } else if (currentStatus == PartyMemberInviteStatus.ACCEPTED) {
+                seatDelta--;
+            }
+            if (currentStatus == PartyMemberInviteStatus.WAITLISTED) {
+                partyWaitlistService.removeAfterCommit(partyId, partyMember.getId());
+            }
+        }
+        if (transitions.isEmpty()) {
+            return;
         }
 
-        verifyPartyStatus(party);
+        transitions.forEach((from, byTarget) -> byTarget.forEach((to, partyMemberIds) -> {
+            if (partyMemberRepository.updateInviteStatuses(partyMemberIds, from, to) != partyMemberIds.size()) {
+                // 다른 요청이 먼저 바꾼 신청이 있으면 롤백 후 최신 상태로 다시 처리
+                throw new OptimisticLockingFailureException("Join requests of party " + partyId + " changed concurrently");
+            }
+        }));
+
+        // 늘어나는 승인 인원을 정원과 한 번에 비교하고, 파티 상태도 여기서 한 번만 다시 계산
+        if (partyRepository.adjustSeats(partyId, seatDelta) == 0 && seatDelta > 0) {
+            throw new CustomException(ErrorCode.PARTY_FULL);
+        }
+        // 승인이 취소되어 빈 자리는 대기자로 채움
+        if (seatDelta < 0) {
+            partyWaitlistService.promote(partyId, -seatDelta);
+        }
+        partyDetailCache.evictAfterCommit(partyId);
+
+        for (PartyMember partyMember : partyMembers) {
+            Long userId = partyMember.getUser().getId();
+            partyMembershipCache.putAfterCommit(partyId, userId, decisions.get(userId));
+        }
     }
 
     /**
-     * 파티 상태를 검증하고 업데이트
+     * 신청 상태를 바꾸고 승인 인원을 함께 조정
+     * 정원이 찼으면 예외를 던져 신청 상태 변경도 함께 롤백
      *
-     * @param party 파티 객체
+     * @param partyId     파티 ID
+     * @param partyMember 상태를 바꿀 파티 멤버
+     * @param newStatus   새로운 신청 상태
      */
-    private void verifyPartyStatus(Party party) {
-        int acceptedMemberCount = 0;
-        List<PartyMember> partyMembers = party.getPartyMembers();
+    private void changeInviteStatus(Long partyId, PartyMember partyMember, PartyMemberInviteStatus newStatus) {
+        PartyMemberInviteStatus currentStatus = partyMember.getInviteStatus();
+        if (currentStatus == newStatus) {
+            return;
+        }
+
+        // 다른 요청이 먼저 상태를 바꿨으면 롤백 후 최신 상태를 다시 읽어 이 결정을 적용
+        if (partyMemberRepository.updateInviteStatus(partyMember.getId(), currentStatus, newStatus) == 0) {
+            throw new ObjectOptimisticLockingFailureException(PartyMember.class, partyMember.getId());
+        }
 
-        for (PartyMember member : partyMembers) {
-            if (member.getInviteStatus() == PartyMemberInviteStatus.ACCEPTED) {
-                acceptedMemberCount++;
+        if (newStatus == PartyMemberInviteStatus.ACCEPTED) {
+            if (partyRepository.reserveSeat(partyId) == 0) {
+                throw new CustomException(ErrorCode.PARTY_FULL);
             }
+        } else if (currentStatus == PartyMemberInviteStatus.ACCEPTED) {
+            // 빈 자리는 대기자로 채움
+            if (partyRepository.releaseSeat(partyId) == 1) {
+                partyWaitlistService.promote(partyId, 1);
+            }
+        }
+        if (currentStatus == PartyMemberInviteStatus.WAITLISTED) {
+            partyWaitlistService.removeAfterCommit(partyId, partyMember.getId());
         }
 
-        // 현재 상태를 확인하여, 상태 변경이 필요한지 판단
-        if (acceptedMemberCount == party.getMembersCount() && party.getStatus() != PartyStatus.JOINED) {
-            party.updateStatus(PartyStatus.JOINED);
-            partyRepository.save(party);
+        partyMembershipCache.putAfterCommit(partyId, partyMember.getUser().getId(), newStatus);
+        partyDetailCache.evictAfterCommit(partyId);
+    }
+
+    // 대기 상태는 정원이 찬 파티에 신청할 때만 지정되므로 파티장이 직접 바꿀 수 없음
+    private void verifyInviteDecision(PartyMemberInviteStatus inviteStatus) {
+        if (inviteStatus == PartyMemberInviteStatus.WAITLISTED) {
+            throw new CustomException(ErrorCode.INVALID_INVITE_STATUS);
         }
     }
 
+    /**
+     * 파티 상세 조회 (로컬 / Redis 캐시를 거쳐 조회)
+     *
+     * @param partyId 조회할 파티의 ID
+     * @return PartyDetailResponse 파티 상세 정보 (승인 인원 포함)
+     * @throws CustomException PARTY_NOT_FOUND: "파티를 찾을 수 없습니다."
+     */
+    // 캐시에서 바로 돌려줄 때 커넥션을 잡지 않도록 트랜잭션 없이 실행 (DB 조회는 리포지토리 트랜잭션으로 처리)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PartyDetailResponse getParty(Long partyId) {
+        return partyDetailCache.get(partyId);
+    }
+
     /**
      * 파티장 : 장보기 완료, 파티 상태를 DONE으로 변경
      *
      * @param partyId 완료할 파티의 ID
      * @throws CustomException PARTY_NOT_FOUND: "파티를 찾을 수 없습니다."
      */
+    @RetryOnConflict
     @Transactional
     public void completeParty(Long partyId) {
         Party party = findPartyById(partyId);
         party.completeParty();
+        partyDetailCache.evictAfterCommit(partyId);
+        applicationEventPublisher.publishEvent(new PartyCompletedEvent(List.of(partyId)));
     }
 
     /**
      * 파티장 : 장보기 완료 후 파티에 참여한 멤버 목록 조회
      *
-     * @param partyId  파티 ID
-     * @param authUser 현재 로그인한 파티장 (파티장 여부 검증)
+     * @param partyId           파티 ID
+     * @param authUser          현재 로그인한 파티장 (파티장 여부 검증)
+     * @param lastPartyMemberId 이전 페이지의 마지막 파티 멤버 ID (첫 페이지는 null)
+     * @param size              페이지 크기 (최대 100)
      * @return List<PartyMemberResponse> 참여 멤버 목록
      * @throws CustomException NOT_PARTY_LEADER: "이 작업은 파티장만 수행할 수 있습니다."
      * @throws CustomException PARTY_NOT_DONE: "파티가 완료되지 않았습니다."
      */
-    public List<PartyMemberResponse> getMembersAfterPartyClosed(Long partyId, AuthUser authUser) {
+    public List<PartyMemberResponse> getMembersAfterPartyClosed(Long partyId, AuthUser authUser, Long lastPartyMemberId, int size) {
         User user = User.fromAuthUser(authUser);
         Party party = partyRepository.findByIdAndCreatorId(partyId, user.getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_PARTY_LEADER));
@@ -201,13 +376,8 @@ public class PartyService {
             throw new CustomException(ErrorCode.PARTY_NOT_DONE);
         }
 
-        List<PartyMemberResponse> members = new ArrayList<>();
-        for (PartyMember member : party.getPartyMembers()) {
-            if (member.getInviteStatus() == PartyMemberInviteStatus.ACCEPTED) {
-                members.add(new PartyMemberResponse(member));
-            }
-        }
-        return members;
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        return partyMemberRepository.findPartyMembers(partyId, PartyMemberInviteStatus.ACCEPTED, lastPartyMemberId, limit);
     }
 
     /**
@@ -221,6 +391,7 @@ public class PartyService {
      * @throws CustomException NOT_PARTY_LEADER: "파티장만 수정할 수 있습니다."
      * @throws CustomException ITEM_NOT_FOUND: "조회되는 품목이 없습니다."
      */
+    @RetryOnConflict
     @Transactional
     public PartyResponse updateParty(Long partyId, PartyUpdateRequest request, AuthUser authUser) {
         User user = User.fromAuthUser(authUser);
@@ -241,7 +412,16 @@ public class PartyService {
             throw new CustomException(ErrorCode.INVALID_TIME_RANGE);
         }
 
+        // 이미 승인된 인원보다 적게 줄일 수 없음
+        if (request.getMembersCount() < party.getAcceptedCount()) {
+            throw new CustomException(ErrorCode.INVALID_MEMBERS_COUNT);
+        }
+
         party.updateDetails(item, request.getItemCount(), request.getItemUnit(), startDateTime, endDateTime, request.getMembersCount());
+
+        // 시작 시간이 바뀌었을 수 있으므로 알림 예약을 새 시작 시간에 맞춤
+        partyReminderService.schedule(party);
+        partyDetailCache.evictAfterCommit(partyId);
         return new PartyResponse(party, "Leader");
     }
 
@@ -251,54 +431,27 @@ public class PartyService {
      * @param partyId 취소할 파티의 ID
      * @throws CustomException PARTY_NOT_FOUND: "파티를 찾을 수 없습니다."
      */
+    @RetryOnConflict
     @Transactional
     public PartyResponse cancelParty(Long partyId) {
         Party party = findPartyById(partyId);
         party.cancelParty();
+        partyReminderService.cancel(partyId);
+        partyDetailCache.evictAfterCommit(partyId);
         return new PartyResponse(party, "Leader");
     }
 
     /**
      * 본인이 생성한 파티 및 참가 신청한 파티 목록 조회
      *
-     * @param authUser 인증된 사용자
-     * @return List<PartyResponse> 내가 생성한 파티와 내가 신청한 파티 목록
+     * @param authUser    인증된 사용자
+     * @param lastPartyId 이전 페이지의 마지막 파티 ID (첫 페이지는 null)
+     * @param size        페이지 크기 (최대 100)
+     * @return List<PartyResponse> 내가 생성한 파티(role: "Leader")와 내가 신청한 파티(role: "Member") 목록, 최신순
      */
-    public List<PartyResponse> getMyParties(AuthUser authUser) {
-        User user = User.fromAuthUser(authUser);
-
-        // 내가 생성한 파티 조회
-        List<Party> createdParties = partyRepository.findAllByCreatorId(user.getId());
-
-        // 내가 참가 신청을 보낸 파티 조회
-        List<PartyMember> partyMembers = partyMemberRepository.findByUserId(user.getId());
-        List<PartyResponse> partyResponses = new ArrayList<>();
-
-        // 내가 생성한 파티들 추가
-        for (Party party : createdParties) {
-            partyResponses.add(new PartyResponse(party, "Leader"));
-        }
-
-        // 내가 신청한 파티들 추가 (role: "MEMBER", 중복 제거)
-        for (PartyMember member : partyMembers) {
-            Party party = member.getParty();
-            boolean isAlreadyAdded = false;
-
-            // partyResponses 리스트에서 중복된 파티 확인
-            for (PartyResponse response : partyResponses) {
-                if (response.getId().equals(party.getId())) {
-                    isAlreadyAdded = true;
-                    break; // 중복이 있으면 더 이상 확인하지 않음
-                }
-            }
-
-            // 중복되지 않은 경우만 추가
-            if (!isAlreadyAdded) {
-                partyResponses.add(new PartyResponse(party, "Member"));
-            }
-        }
-
-        return partyResponses;
+    public List<PartyResponse> getMyParties(AuthUser authUser, Long lastPartyId, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        return partyRepository.findMyParties(authUser.getUserId(), lastPartyId, limit);
     }
 
     /**
@@ -309,16 +462,15 @@ public class PartyService {
      * @return boolean 유저가 파티에 존재하면 true, 아니면 false
      * @throws CustomException PARTY_NOT_FOUND: "파티를 찾을 수 없습니다."
      */
+    @Transactional(readOnly = true)
     public boolean isUserInParty(Long partyId, AuthUser authUser) {
-        User user = User.fromAuthUser(authUser);
-
-        Party party = partyRepository.findById(partyId)
-                .orElseThrow(() -> new CustomException(ErrorCode.PARTY_NOT_FOUND));
+        // 파티 멤버 목록을 불러와 순회하지 않고 파티별 신청 상태 캐시로 확인
+        if (partyMembershipCache.isMember(partyId, authUser.getUserId())) {
+            return true;
+        }
 
-        for (PartyMember member : party.getPartyMembers()) {
-            if (member.getUser().getId().equals(user.getId())) {
-                return true;
-            }
+        if (!partyRepository.existsById(partyId)) {
+            throw new CustomException(ErrorCode.PARTY_NOT_FOUND);
         }
         return false;
     }
@@ -340,6 +492,59 @@ public class PartyService {
         return responses;
     }
 
+    /**
+     * 지역의 인기 품목 조회 (Redis 랭킹에서 상위 K 개만 읽음)
+     *
+     * @param authUser 현재 로그인한 사용자
+     * @param address  조회할 지역의 주소 (없으면 회원가입 시 등록한 주소)
+     * @param window   집계 기간
+     * @param size     조회할 개수
+     * @return 인기 품목 목록
+     * @throws CustomException USER_NOT_FOUND: "사용자 조회에 실패했습니다."
+     */
+    @Transactional(readOnly = true)
+    public List<TrendingItemResponse> getTrendingItems(AuthUser authUser, String address, PartyRankingWindow window, int size) {
+        return partyRankingService.getTrendingItems(resolveAddress(authUser, address), window, size);
+    }
+
+    /**
+     * 지역의 인기 마켓 조회 (Redis 랭킹에서 상위 K 개만 읽음)
+     *
+     * @param authUser 현재 로그인한 사용자
+     * @param address  조회할 지역의 주소 (없으면 회원가입 시 등록한 주소)
+     * @param window   집계 기간
+     * @param size     조회할 개수
+     * @return 인기 마켓 목록
+     * @throws CustomException USER_NOT_FOUND: "사용자 조회에 실패했습니다."
+     */
+    @Transactional(readOnly = true)
+    public List<TrendingMarketResponse> getTrendingMarkets(AuthUser authUser, String address, PartyRankingWindow window, int size) {
+        return partyRankingService.getTrendingMarkets(resolveAddress(authUser, address), window, size);
+    }
+
+    /**
+     * 즐겨찾기 품목, 거리, 시작 시간, 남은 자리를 함께 고려한 모집 중인 파티 추천
+     * 사용자별 캐시에서 바로 반환할 수 있도록 트랜잭션 없이 실행
+     *
+     * @param authUser 현재 로그인한 사용자
+     * @param size     조회할 개수 (최대 20)
+     * @return 점수가 높은 순서의 파티 목록
+     * @throws CustomException USER_NOT_FOUND: "사용자 조회에 실패했습니다."
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PartyRecommendationResponse> getRecommendations(AuthUser authUser, int size) {
+        return partyRecommendationService.recommend(authUser.getUserId(), size);
+    }
+
+    private String resolveAddress(AuthUser authUser, String address) {
+        if (address != null && !address.isBlank()) {
+            return address;
+        }
+        return userRepository.findById(authUser.getUserId())
+                .map(User::getAddress)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
 
 
 }
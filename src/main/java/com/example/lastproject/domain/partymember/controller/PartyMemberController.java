@@ -1,7 +1,7 @@
 package com.example.lastproject.domain.partymember.controller;
 
 import com.example.lastproject.common.dto.AuthUser;
-import com.example.lastproject.domain.partymember.dto.request.PartyMemberUpdateRequest;
+import com.example.lastproject.domain.partymember.dto.response.JoinRequestResponse;
 import com.example.lastproject.domain.partymember.service.PartyMemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -33,16 +33,35 @@ public class PartyMemberController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    /**
+     * 파티원: 신청한 파티에서 나가기 (대기 중인 신청 취소 포함)
+     *
+     * @param partyId  파티의 ID
+     * @param authUser 파티에서 나가는 유저 정보 (파티원)
+     * @return ResponseEntity<Void> 상태 코드 204(NO_CONTENT) 반환
+     */
+    @DeleteMapping("/{partyId}/leave")
+    public ResponseEntity<Void> leaveParty(
+            @PathVariable Long partyId,
+            @AuthenticationPrincipal AuthUser authUser) {
+        partyMemberService.leaveParty(partyId, authUser);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * 파티장 : 내가 생성한 파티에 참가 신청한 유저 목록 조회
      *
-     * @param partyId 파티의 ID
-     * @return ResponseEntity<List<PartyMemberUpdateRequest>> 승인 대기 중인 참가 신청 목록과 HTTP 상태 코드 200 반환
+     * @param partyId           파티의 ID
+     * @param lastPartyMemberId 이전 페이지의 마지막 파티 멤버 ID (첫 페이지는 생략)
+     * @param size              페이지 크기 (최대 100)
+     * @return ResponseEntity<List<JoinRequestResponse>> 승인 대기 중인 참가 신청 목록과 HTTP 상태 코드 200 반환
      */
     @GetMapping("/{partyId}/join-requests")
-    public ResponseEntity<List<PartyMemberUpdateRequest>> getJoinRequests(
-            @PathVariable Long partyId) {
-        List<PartyMemberUpdateRequest> joinRequests = partyMemberService.getJoinRequests(partyId);
+    public ResponseEntity<List<JoinRequestResponse>> getJoinRequests(
+            @PathVariable Long partyId,
+            @RequestParam(required = false) Long lastPartyMemberId,
+            @RequestParam(defaultValue = "50") int size) {
+        List<JoinRequestResponse> joinRequests = partyMemberService.getJoinRequests(partyId, lastPartyMemberId, size);
         return ResponseEntity.ok(joinRequests);
     }
 
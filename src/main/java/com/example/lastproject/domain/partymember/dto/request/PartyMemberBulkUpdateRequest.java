@@ -0,0 +1,21 @@
+package com.example.lastproject.domain.partymember.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyMemberBulkUpdateRequest {
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<@Valid PartyMemberUpdateRequest> requests;
+
+}
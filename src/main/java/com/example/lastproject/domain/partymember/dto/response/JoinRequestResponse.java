@@ -0,0 +1,23 @@
+package com.example.lastproject.domain.partymember.dto.response;
+
+import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+@Getter
+public class JoinRequestResponse {
+
+    private final Long partyMemberId; // 파티 멤버 ID (다음 페이지 조회 기준)
+    private final Long userId; // 신청한 유저 ID
+    private final String nickname; // 신청한 유저 닉네임
+    private final PartyMemberInviteStatus inviteStatus; // 초대 상태
+
+    @QueryProjection
+    public JoinRequestResponse(Long partyMemberId, Long userId, String nickname, PartyMemberInviteStatus inviteStatus) {
+        this.partyMemberId = partyMemberId;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.inviteStatus = inviteStatus;
+    }
+
+}
@@ -3,6 +3,7 @@ package com.example.lastproject.domain.partymember.dto.response;
 import com.example.lastproject.domain.partymember.entity.PartyMember;
 import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
 import com.example.lastproject.domain.partymember.enums.PartyMemberRole;
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.Getter;
 
 @Getter
@@ -18,4 +19,11 @@ public class PartyMemberResponse {
         this.role = partyMember.getRole();
     }
 
+    @QueryProjection
+    public PartyMemberResponse(Long id, PartyMemberInviteStatus inviteStatus, PartyMemberRole role) {
+        this.id = id;
+        this.inviteStatus = inviteStatus;
+        this.role = role;
+    }
+
 }
@@ -9,9 +9,14 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "PartyMember")
+@Table(name = "PartyMember",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_party_member_party_user", columnNames = {"party_id", "user_id"})},
+        indexes = {
+                @Index(name = "idx_party_member_party_status", columnList = "party_id, invite_status")})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -40,6 +45,12 @@ public class PartyMember {
     @Enumerated(EnumType.STRING)
     private PartyStatus status;
 
+    // 낙관적 락 버전, 신청 상태를 바꾸는 UPDATE 쿼리도 함께 올림
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     // 파티원이 참가 신청을 누르면 기본값은 PENDING(보류) 상태
     public PartyMember(User user, Party party, PartyMemberRole role) {
         this.user = user;
@@ -4,6 +4,7 @@ public enum PartyMemberInviteStatus {
 
     ACCEPTED,  // 승인
     REJECTED,  // 거절
-    PENDING    // 보류
+    PENDING,   // 보류
+    WAITLISTED // 대기 (정원이 찬 파티에 신청, 자리가 나면 신청 순서대로 승인)
 
 }
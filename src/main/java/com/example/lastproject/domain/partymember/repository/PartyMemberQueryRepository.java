@@ -0,0 +1,14 @@
+package com.example.lastproject.domain.partymember.repository;
+
+import com.example.lastproject.domain.partymember.dto.response.JoinRequestResponse;
+import com.example.lastproject.domain.partymember.dto.response.PartyMemberResponse;
+import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PartyMemberQueryRepository {
+    List<JoinRequestResponse> findJoinRequests(Long partyId, PartyMemberInviteStatus inviteStatus, Long lastPartyMemberId, int size);
+    List<PartyMemberResponse> findPartyMembers(Long partyId, PartyMemberInviteStatus inviteStatus, Long lastPartyMemberId, int size);
+    Map<Long, PartyMemberInviteStatus> findInviteStatuses(Long partyId);
+}
@@ -0,0 +1,81 @@
+package com.example.lastproject.domain.partymember.repository;
+
+import com.example.lastproject.domain.partymember.dto.response.JoinRequestResponse;
+import com.example.lastproject.domain.partymember.dto.response.PartyMemberResponse;
+import com.example.lastproject.domain.partymember.dto.response.QJoinRequestResponse;
+import com.example.lastproject.domain.partymember.dto.response.QPartyMemberResponse;
+import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.lastproject.domain.partymember.entity.QPartyMember.partyMember;
+import static com.example.lastproject.domain.user.entity.QUser.user;
+
+@Repository
+@RequiredArgsConstructor
+public class PartyMemberQueryRepositoryImpl implements PartyMemberQueryRepository {
+
+    /*
+    파티원 목록 조회
+    (party_id, invite_status) 인덱스로 상태를 걸러내고, 파티 멤버 ID 오름차순 keyset 으로 페이지를 나눔
+    (InnoDB 보조 인덱스에는 PK 가 포함되어 있어 정렬도 인덱스 순서를 그대로 따름)
+     */
+
+    private final JPAQueryFactory q;
+
+    // 신청 상태별 참가 신청 목록 (신청자 닉네임 포함)
+    public List<JoinRequestResponse> findJoinRequests(Long partyId, PartyMemberInviteStatus inviteStatus, Long lastPartyMemberId, int size) {
+        return q
+                .select(new QJoinRequestResponse(partyMember.id, user.id, user.nickname, partyMember.inviteStatus))
+                .from(partyMember)
+                .join(partyMember.user, user)
+                .where(
+                        partyMember.party.id.eq(partyId),
+                        partyMember.inviteStatus.eq(inviteStatus),
+                        partyMemberIdGreaterThan(lastPartyMemberId))
+                .orderBy(partyMember.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 신청 상태별 파티원 목록
+    public List<PartyMemberResponse> findPartyMembers(Long partyId, PartyMemberInviteStatus inviteStatus, Long lastPartyMemberId, int size) {
+        return q
+                .select(new QPartyMemberResponse(partyMember.id, partyMember.inviteStatus, partyMember.role))
+                .from(partyMember)
+                .where(
+                        partyMember.party.id.eq(partyId),
+                        partyMember.inviteStatus.eq(inviteStatus),
+                        partyMemberIdGreaterThan(lastPartyMemberId))
+                .orderBy(partyMember.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    // 파티의 사용자별 신청 상태 (파티 멤버 캐시 적재용, 엔티티 대신 두 컬럼만 조회)
+    public Map<Long, PartyMemberInviteStatus> findInviteStatuses(Long partyId) {
+        List<Tuple> rows = q
+                .select(partyMember.user.id, partyMember.inviteStatus)
+                .from(partyMember)
+                .where(partyMember.party.id.eq(partyId))
+                .fetch();
+
+        Map<Long, PartyMemberInviteStatus> statuses = new HashMap<>(rows.size());
+        for (Tuple row : rows) {
+            statuses.put(row.get(partyMember.user.id), row.get(partyMember.inviteStatus));
+        }
+        return statuses;
+    }
+
+    private BooleanExpression partyMemberIdGreaterThan(Long lastPartyMemberId) {
+        return lastPartyMemberId == null ? null : partyMember.id.gt(lastPartyMemberId);
+    }
+
+}
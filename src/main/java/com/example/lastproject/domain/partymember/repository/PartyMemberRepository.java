@@ -6,11 +6,15 @@ import com.example.lastproject.domain.partymember.entity.PartyMember;
 import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
 import com.example.lastproject.domain.partymember.enums.PartyMemberRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface PartyMemberRepository extends JpaRepository<PartyMember, Long> {
+public interface PartyMemberRepository extends JpaRepository<PartyMember, Long>, PartyMemberQueryRepository {
 
     List<PartyMember> findByInviteStatus(PartyMemberInviteStatus status);
     List<PartyMember> findByPartyId(Long partyId);
@@ -20,5 +24,28 @@ public interface PartyMemberRepository extends JpaRepository<PartyMember, Long>
 
     Optional<PartyMember> findByPartyIdAndUserId(Long partyId, Long userId);
     Optional<PartyMember> findByPartyIdAndUserIdAndRole(Long partyId, Long userId, PartyMemberRole role);
+    List<PartyMember> findByPartyIdAndUserIdInAndRole(Long partyId, Collection<Long> userIds, PartyMemberRole role);
+    // 대기열 Redis 장애 / 누락 시 (party_id, invite_status) 인덱스로 가장 먼저 신청한 대기자 조회
+    Optional<PartyMember> findFirstByPartyIdAndInviteStatusOrderByIdAsc(Long partyId, PartyMemberInviteStatus inviteStatus);
+
+    // 이전 상태가 그대로일 때만 변경 (같은 신청을 동시에 처리해도 한 번만 반영)
+    @Modifying(clearAutomatically = true)
+    @Query("update PartyMember m set m.inviteStatus = :to, m.version = m.version + 1 where m.id = :partyMemberId and m.inviteStatus = :from")
+    int updateInviteStatus(@Param("partyMemberId") Long partyMemberId,
+                           @Param("from") PartyMemberInviteStatus from,
+                           @Param("to") PartyMemberInviteStatus to);
+
+    // 같은 상태에서 같은 상태로 바뀌는 신청을 한 번에 변경 (이전 상태가 그대로인 행만)
+    @Modifying(clearAutomatically = true)
+    @Query("update PartyMember m set m.inviteStatus = :to, m.version = m.version + 1 where m.id in :partyMemberIds and m.inviteStatus = :from")
+    int updateInviteStatuses(@Param("partyMemberIds") Collection<Long> partyMemberIds,
+                             @Param("from") PartyMemberInviteStatus from,
+                             @Param("to") PartyMemberInviteStatus to);
+
+    // 신청 상태가 그대로일 때만 삭제 (나가는 사이 파티장이 처리한 경우 0 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("delete from PartyMember m where m.id = :partyMemberId and m.inviteStatus = :inviteStatus")
+    int deleteByIdAndInviteStatus(@Param("partyMemberId") Long partyMemberId,
+                                  @Param("inviteStatus") PartyMemberInviteStatus inviteStatus);
 
 }
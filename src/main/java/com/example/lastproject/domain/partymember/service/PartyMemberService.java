@@ -1,22 +1,28 @@
 package com.example.lastproject.domain.partymember.service;
 
+import com.example.lastproject.common.annotation.RetryOnConflict;
 import com.example.lastproject.common.dto.AuthUser;
 import com.example.lastproject.common.enums.ErrorCode;
 import com.example.lastproject.common.exception.CustomException;
+import com.example.lastproject.domain.party.cache.PartyDetailCache;
 import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.party.ranking.PartyRankingService;
+import com.example.lastproject.domain.party.ranking.PartyRankingSignal;
 import com.example.lastproject.domain.party.repository.PartyRepository;
 import com.example.lastproject.domain.party.service.PartyService;
-import com.example.lastproject.domain.partymember.dto.request.PartyMemberUpdateRequest;
+import com.example.lastproject.domain.partymember.dto.response.JoinRequestResponse;
 import com.example.lastproject.domain.partymember.entity.PartyMember;
 import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
 import com.example.lastproject.domain.partymember.enums.PartyMemberRole;
 import com.example.lastproject.domain.partymember.repository.PartyMemberRepository;
 import com.example.lastproject.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -24,12 +30,20 @@ import java.util.List;
 @Transactional
 public class PartyMemberService {
 
+    // 신청서 목록 한 페이지의 최대 크기
+    public static final int MAX_SIZE = 100;
+
     private final PartyMemberRepository partyMemberRepository;
     private final PartyRepository partyRepository;
     private final PartyService partyService;
+    private final PartyMembershipCache partyMembershipCache;
+    private final PartyWaitlistService partyWaitlistService;
+    private final PartyDetailCache partyDetailCache;
+    private final PartyRankingService partyRankingService;
 
     /**
      * 파티원: 파티에 참가 신청
+     * 정원이 찬 파티에는 대기자로 신청하고, 자리가 나면 신청 순서대로 자동 승인
      *
      * @param partyId  파티의 ID
      * @param authUser 파티에 참가 신청하는 유저 정보
@@ -47,30 +61,73 @@ public class PartyMemberService {
             throw new CustomException(ErrorCode.ALREADY_PARTY_MEMBER);
         }
 
-        // 새로운 PartyMember를 생성하여 파티에 신청
-        PartyMember partyMember = new PartyMember(user, party, PartyMemberRole.MEMBER, PartyMemberInviteStatus.PENDING);
-        partyMemberRepository.save(partyMember);
+        // 새로운 PartyMember를 생성하여 파티에 신청 (정원이 찼으면 대기자로 신청)
+        PartyMemberInviteStatus inviteStatus = isFull(party) ? PartyMemberInviteStatus.WAITLISTED : PartyMemberInviteStatus.PENDING;
+        PartyMember partyMember = new PartyMember(user, party, PartyMemberRole.MEMBER, inviteStatus);
+        try {
+            // 동시에 들어온 중복 신청은 (party_id, user_id) 유니크 제약으로 막음
+            partyMemberRepository.saveAndFlush(partyMember);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(ErrorCode.ALREADY_PARTY_MEMBER);
+        }
+        if (inviteStatus == PartyMemberInviteStatus.WAITLISTED) {
+            partyWaitlistService.enqueueAfterCommit(partyId, partyMember.getId());
+        }
+        partyMembershipCache.putAfterCommit(partyId, user.getId(), inviteStatus);
+        partyRankingService.recordAfterCommit(PartyRankingSignal.JOINED, party);
     }
 
     /**
-     * 파티장 : 내가 생성한 파티에 참가 신청한 유저 목록 조회
+     * 파티원: 신청한 파티에서 나가기
+     * 승인된 파티원이 나가면 빈 자리를 대기자로 채움
      *
-     * @param partyId 파티의 ID
-     * @return List<PartyMemberUpdateRequest> 승인 대기 중인 신청서 목록
+     * @param partyId  파티의 ID
+     * @param authUser 파티에서 나가는 유저 정보
+     * @throws CustomException PARTY_LEADER_CANNOT_LEAVE: "파티장은 파티를 나갈 수 없습니다. 파티를 취소해 주세요."
+     * @throws CustomException PARTY_MEMBER_NOT_FOUND: "파티 멤버를 찾을 수 없습니다."
      */
-    public List<PartyMemberUpdateRequest> getJoinRequests(Long partyId) {
-        // 특정 파티에 대한 모든 파티 멤버 조회
-        List<PartyMember> partyMembers = partyMemberRepository.findByPartyId(partyId);
+    @RetryOnConflict
+    public void leaveParty(Long partyId, AuthUser authUser) {
+        PartyMember partyMember = partyMemberRepository.findByPartyIdAndUserId(partyId, authUser.getUserId())
+                .orElseThrow(() -> new CustomException(ErrorCode.PARTY_MEMBER_NOT_FOUND));
+        if (partyMember.isLeader()) {
+            throw new CustomException(ErrorCode.PARTY_LEADER_CANNOT_LEAVE);
+        }
+
+        // 나가는 사이 파티장이 신청을 처리했다면 바뀐 상태로 다시 시도
+        PartyMemberInviteStatus inviteStatus = partyMember.getInviteStatus();
+        if (partyMemberRepository.deleteByIdAndInviteStatus(partyMember.getId(), inviteStatus) == 0) {
+            throw new ObjectOptimisticLockingFailureException(PartyMember.class, partyMember.getId());
+        }
 
-        // 신청서 리스트를 생성
-        List<PartyMemberUpdateRequest> requests = new ArrayList<>();
-        for (PartyMember member : partyMembers) {
-            // 승인 대기 상태의 신청서만 추가
-            if (member.getInviteStatus() == PartyMemberInviteStatus.PENDING) {
-                requests.add(new PartyMemberUpdateRequest(member.getUser().getId(), member.getInviteStatus()));
+        if (inviteStatus == PartyMemberInviteStatus.ACCEPTED) {
+            if (partyRepository.releaseSeat(partyId) == 1) {
+                partyWaitlistService.promote(partyId, 1);
             }
+            partyDetailCache.evictAfterCommit(partyId);
+        } else if (inviteStatus == PartyMemberInviteStatus.WAITLISTED) {
+            partyWaitlistService.removeAfterCommit(partyId, partyMember.getId());
         }
-        return requests;
+        partyMembershipCache.removeAfterCommit(partyId, authUser.getUserId());
+    }
+
+    /**
+     * 파티장 : 내가 생성한 파티에 참가 신청한 유저 목록 조회
+     *
+     * @param partyId           파티의 ID
+     * @param lastPartyMemberId 이전 페이지의 마지막 파티 멤버 ID (첫 페이지는 null)
+     * @param size              페이지 크기 (최대 100)
+     * @return List<JoinRequestResponse> 승인 대기 중인 신청서 목록 (신청 순)
+     */
+    @Transactional(readOnly = true)
+    public List<JoinRequestResponse> getJoinRequests(Long partyId, Long lastPartyMemberId, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        return partyMemberRepository.findJoinRequests(partyId, PartyMemberInviteStatus.PENDING, lastPartyMemberId, limit);
+    }
+
+    // 승인 인원이 정원에 도달했거나 모집 완료된 파티
+    private boolean isFull(Party party) {
+        return party.getPartyStatus() == PartyStatus.JOINED || party.getAcceptedCount() >= party.getMembersCount();
     }
 
 }
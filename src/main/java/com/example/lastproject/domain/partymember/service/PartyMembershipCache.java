@@ -0,0 +1,173 @@
+package com.example.lastproject.domain.partymember.service;
+
+import com.example.lastproject.common.util.AfterCommit;
+import com.example.lastproject.domain.partymember.entity.PartyMember;
+import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
+import com.example.lastproject.domain.partymember.repository.PartyMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartyMembershipCache {
+
+    /*
+    파티별 참가 신청 상태 캐시
+    - 파티마다 Redis 해시(userId -> 신청 상태)를 두어 중복 신청 / 파티원 여부 / 채팅 권한을 O(1) 로 확인
+    - 처음 조회할 때 그 파티의 신청 상태를 한 번에 불러오고, 다 불러왔다는 표시로 LOADED 필드를 함께 저장
+    - 신청 / 상태 변경은 커밋 이후에 LOADED 여부와 관계없이 해시에 바로 쓰고, 나간 사용자는 REMOVED 값으로 표시
+    - 불러오기는 HSETNX 로 비어 있는 필드만 채우므로, DB 를 읽은 뒤 먼저 반영된 변경을 오래된 값으로 덮어쓰지 않음
+    - Redis 장애 시에는 DB 를 직접 조회
+    - 최종 중복 방지는 (party_id, user_id) 유니크 제약이 담당
+     */
+
+    private static final String KEY_PREFIX = "party:members:";
+    private static final String LOADED_FIELD = "_loaded";
+    private static final String REMOVED_VALUE = "_removed";
+
+    // 필드를 쓰고, 아직 불러오지 않아 만료 시간이 없는 해시에는 만료 시간을 지정
+    private static final DefaultRedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            if redis.call('PTTL', KEYS[1]) < 0 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            end
+            return 1
+            """, Long.class);
+
+    // DB 에서 읽은 값은 비어 있는 필드에만 쓰고, 마지막에 LOADED 표시
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            for i = 3, #ARGV, 2 do
+                redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], '1')
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PartyMemberRepository partyMemberRepository;
+
+    @Value("${party.membership-cache.ttl-ms:600000}")
+    private long ttlMs;
+
+    /**
+     * 파티에 참가 신청(또는 생성)한 사용자인지 확인
+     *
+     * @param partyId 파티 ID
+     * @param userId  사용자 ID
+     */
+    public boolean isMember(Long partyId, Long userId) {
+        return getInviteStatus(partyId, userId).isPresent();
+    }
+
+    /**
+     * 파티에 승인된 사용자인지 확인
+     *
+     * @param partyId 파티 ID
+     * @param userId  사용자 ID
+     */
+    public boolean isAccepted(Long partyId, Long userId) {
+        return getInviteStatus(partyId, userId).filter(status -> status == PartyMemberInviteStatus.ACCEPTED).isPresent();
+    }
+
+    /**
+     * 사용자의 참가 신청 상태
+     *
+     * @param partyId 파티 ID
+     * @param userId  사용자 ID
+     * @return 신청 상태 (신청하지 않았으면 빈 값)
+     */
+    public Optional<PartyMemberInviteStatus> getInviteStatus(Long partyId, Long userId) {
+        String key = KEY_PREFIX + partyId;
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(key, List.of(String.valueOf(userId), LOADED_FIELD));
+            if (values.get(1) != null) {
+                return Optional.ofNullable(values.get(0))
+                        .filter(value -> !REMOVED_VALUE.equals(value))
+                        .map(value -> PartyMemberInviteStatus.valueOf((String) value));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Party membership cache unavailable, reading from database", e);
+            return partyMemberRepository.findByPartyIdAndUserId(partyId, userId).map(PartyMember::getInviteStatus);
+        }
+
+        return Optional.ofNullable(load(partyId).get(userId));
+    }
+
+    /**
+     * 신청 상태 변경을 커밋 이후 캐시에 반영
+     * 아직 불러오지 않은 파티에도 써 두어, 동시에 진행 중인 불러오기가 이전 상태로 덮어쓰지 않게 함
+     *
+     * @param partyId      파티 ID
+     * @param userId       사용자 ID
+     * @param inviteStatus 변경된 신청 상태
+     */
+    public void putAfterCommit(Long partyId, Long userId, PartyMemberInviteStatus inviteStatus) {
+        AfterCommit.run(() -> put(partyId, userId, inviteStatus));
+    }
+
+    /**
+     * 파티를 나간 사용자를 커밋 이후 캐시에서 제거
+     *
+     * @param partyId 파티 ID
+     * @param userId  사용자 ID
+     */
+    public void removeAfterCommit(Long partyId, Long userId) {
+        AfterCommit.run(() -> write(partyId, userId, REMOVED_VALUE));
+    }
+
+    private void put(Long partyId, Long userId, PartyMemberInviteStatus inviteStatus) {
+        write(partyId, userId, inviteStatus.name());
+    }
+
+    private void write(Long partyId, Long userId, String value) {
+        try {
+            redisTemplate.execute(PUT_SCRIPT, List.of(KEY_PREFIX + partyId),
+                    String.valueOf(userId), value, String.valueOf(ttlMs));
+        } catch (DataAccessException e) {
+            // 반영하지 못하면 오래된 값이 남지 않도록 해시를 지움
+            log.warn("Failed to update party membership cache of party {}", partyId, e);
+            evict(partyId);
+        }
+    }
+
+    // 파티의 모든 신청 상태를 DB 에서 한 번에 불러와 해시의 빈 필드에 저장
+    private Map<Long, PartyMemberInviteStatus> load(Long partyId) {
+        Map<Long, PartyMemberInviteStatus> statuses = partyMemberRepository.findInviteStatuses(partyId);
+
+        List<String> args = new ArrayList<>(statuses.size() * 2 + 2);
+        args.add(String.valueOf(ttlMs));
+        args.add(LOADED_FIELD);
+        statuses.forEach((userId, status) -> {
+            args.add(String.valueOf(userId));
+            args.add(status.name());
+        });
+
+        try {
+            redisTemplate.execute(LOAD_SCRIPT, List.of(KEY_PREFIX + partyId), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("Failed to cache memberships of party {}", partyId, e);
+        }
+        return statuses;
+    }
+
+    private void evict(Long partyId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + partyId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to evict party membership cache of party {}", partyId, e);
+        }
+    }
+
+}
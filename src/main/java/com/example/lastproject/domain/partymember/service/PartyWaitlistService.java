@@ -0,0 +1,200 @@
+package com.example.lastproject.domain.partymember.service;
+
+import com.example.lastproject.common.util.AfterCommit;
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.rabbitmq.config.RabbitMqProducerConfig;
+import com.example.lastproject.domain.notification.rabbitmq.producer.NotificationEventPublisher;
+import com.example.lastproject.domain.party.cache.PartyDetailCache;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import com.example.lastproject.domain.partymember.entity.PartyMember;
+import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
+import com.example.lastproject.domain.partymember.repository.PartyMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartyWaitlistService {
+
+    /*
+    정원이 찬 파티의 대기열
+    - 대기자는 DB 에 WAITLISTED 상태로 저장하고, 파티별 Redis ZSET 에 파티 멤버 ID 를 점수로 함께 넣음
+      (ID 는 신청 순서대로 증가하므로 점수가 곧 신청 순서)
+    - 자리가 나면 ZPOPMIN 으로 가장 먼저 신청한 대기자를 꺼냄
+      ZPOPMIN 은 원자적이라 여러 서버가 동시에 꺼내도 같은 대기자를 두 번 승인하지 않음
+    - 꺼낸 대기자는 WAITLISTED -> ACCEPTED 조건부 UPDATE 로 승인하고 좌석을 예약
+      이미 나갔거나 파티장이 처리한 대기자는 UPDATE 가 실패하므로 건너뜀
+    - Redis 가 비었거나 장애인 경우 (party_id, invite_status) 인덱스로 DB 에서 가장 먼저 신청한 대기자를 찾음
+    - 트랜잭션이 롤백되면 꺼낸 대기자를 다시 넣고, 승인 알림 / 파티 상세 캐시 삭제는 커밋 이후에 실행
+    - 신청 시점의 (잠그지 않은) 파티 정보로 대기자가 되었을 수 있으므로, 대기열에 넣은 뒤 자리가 남아 있으면 바로 승인
+      (그 사이 나간 파티원의 승인 처리는 아직 커밋되지 않은 이 대기자를 보지 못함)
+     */
+
+    private static final String KEY_PREFIX = "party:waitlist:";
+    private static final String EVENT_TYPE = "party.waitlist";
+
+    // 한 자리를 채우기 위해 건너뛸 수 있는 최대 대기자 수 (처리된 대기자가 ZSET 에 남아 있는 경우)
+    private static final int MAX_SKIPS = 20;
+
+    private final StringRedisTemplate redisTemplate;
+    private final PartyRepository partyRepository;
+    private final PartyMemberRepository partyMemberRepository;
+    private final PartyMembershipCache partyMembershipCache;
+    private final PartyDetailCache partyDetailCache;
+    private final RabbitMqProducerConfig rabbitMqConfig;
+    private final NotificationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 대기자를 커밋 이후 대기열 끝에 추가
+     *
+     * @param partyId       파티 ID
+     * @param partyMemberId WAITLISTED 상태로 저장된 파티 멤버 ID
+     */
+    public void enqueueAfterCommit(Long partyId, Long partyMemberId) {
+        AfterCommit.run(() -> {
+            add(partyId, partyMemberId);
+            promoteIfSeatsLeft(partyId);
+        });
+    }
+
+    /**
+     * 대기열에서 나간 대기자를 커밋 이후 제거
+     *
+     * @param partyId       파티 ID
+     * @param partyMemberId 파티 멤버 ID
+     */
+    public void removeAfterCommit(Long partyId, Long partyMemberId) {
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.opsForZSet().remove(KEY_PREFIX + partyId, String.valueOf(partyMemberId));
+            } catch (DataAccessException e) {
+                // 남은 항목은 꺼낼 때 조건부 UPDATE 가 실패하여 건너뜀
+                log.warn("Failed to remove party member {} from waitlist of party {}", partyMemberId, partyId, e);
+            }
+        });
+    }
+
+    /**
+     * 빈 자리만큼 대기자를 신청 순서대로 승인 (호출한 트랜잭션 안에서 실행)
+     *
+     * @param partyId 자리가 난 파티 ID
+     * @param seats   빈 자리 수
+     * @return 승인된 대기자 수
+     */
+    public int promote(Long partyId, int seats) {
+        List<PartyMember> promoted = new ArrayList<>();
+        for (int i = 0; i < seats; i++) {
+            PartyMember partyMember = promoteNext(partyId);
+            if (partyMember == null) {
+                break;
+            }
+            promoted.add(partyMember);
+        }
+        if (promoted.isEmpty()) {
+            return 0;
+        }
+
+        // 롤백되면 승인도 취소되므로 꺼낸 대기자를 다시 대기열에 넣음
+        AfterCommit.onRollback(() -> promoted.forEach(partyMember -> add(partyId, partyMember.getId())));
+        // 승인 인원 / 모집 상태가 바뀌었으므로 어느 경로로 승인하든 상세 캐시를 비움
+        partyDetailCache.evictAfterCommit(partyId);
+
+        Party party = partyRepository.findWithItemById(partyId).orElse(null);
+        List<NotificationEvent> events = new ArrayList<>(promoted.size());
+        for (PartyMember partyMember : promoted) {
+            Long userId = partyMember.getUser().getId();
+            partyMembershipCache.putAfterCommit(partyId, userId, PartyMemberInviteStatus.ACCEPTED);
+            if (party != null) {
+                events.add(NotificationEvent.waitlistPromoted(party, userId));
+            }
+        }
+        AfterCommit.run(() -> {
+            for (NotificationEvent event : events) {
+                String routingKey = rabbitMqConfig.prepareRoute(EVENT_TYPE, event.getMarketAddress());
+                eventPublisher.publish(rabbitMqConfig.getActiveExchangeName(), routingKey, event);
+            }
+        });
+        log.info("Promoted {} waitlisted members of party {}", promoted.size(), partyId);
+        return promoted.size();
+    }
+
+    // 커밋 이후에 실행되므로 새 트랜잭션에서 최신 좌석 수를 읽고 남은 자리만큼 승인
+    private void promoteIfSeatsLeft(Long partyId) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            requiresNew.executeWithoutResult(status -> partyRepository.findById(partyId)
+                    .filter(party -> party.getPartyStatus() == PartyStatus.OPEN)
+                    .map(party -> party.getMembersCount() - party.getAcceptedCount())
+                    .filter(seats -> seats > 0)
+                    .ifPresent(seats -> promote(partyId, seats)));
+        } catch (RuntimeException e) {
+            // 대기자는 대기열에 남아 있으므로 다음에 자리가 날 때 승인됨
+            log.warn("Failed to promote waitlist of party {} after enqueue", partyId, e);
+        }
+    }
+
+    // 다음 대기자를 승인하고 좌석을 예약, 승인할 대기자가 없거나 모집 중이 아니면 null
+    private PartyMember promoteNext(Long partyId) {
+        for (int skipped = 0; skipped < MAX_SKIPS; skipped++) {
+            Long partyMemberId = pollNext(partyId);
+            if (partyMemberId == null) {
+                return null;
+            }
+            if (partyMemberRepository.updateInviteStatus(
+                    partyMemberId, PartyMemberInviteStatus.WAITLISTED, PartyMemberInviteStatus.ACCEPTED) == 0) {
+                continue;
+            }
+
+            if (partyRepository.reserveSeat(partyId) == 0) {
+                // 파티가 더 이상 모집 중이 아니면 대기 상태로 되돌리고 멈춤
+                partyMemberRepository.updateInviteStatus(
+                        partyMemberId, PartyMemberInviteStatus.ACCEPTED, PartyMemberInviteStatus.WAITLISTED);
+                add(partyId, partyMemberId);
+                return null;
+            }
+            return partyMemberRepository.findById(partyMemberId).orElse(null);
+        }
+        log.warn("Skipped {} stale waitlist entries of party {}", MAX_SKIPS, partyId);
+        return null;
+    }
+
+    private Long pollNext(Long partyId) {
+        try {
+            ZSetOperations.TypedTuple<String> head = redisTemplate.opsForZSet().popMin(KEY_PREFIX + partyId);
+            if (head != null && head.getValue() != null) {
+                return Long.valueOf(head.getValue());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Party waitlist unavailable, reading waitlist of party {} from database", partyId, e);
+        }
+        // Redis 에 넣지 못한 대기자가 있을 수 있으므로 DB 에서 한 번 더 확인
+        return partyMemberRepository.findFirstByPartyIdAndInviteStatusOrderByIdAsc(partyId, PartyMemberInviteStatus.WAITLISTED)
+                .map(PartyMember::getId)
+                .orElse(null);
+    }
+
+    private void add(Long partyId, Long partyMemberId) {
+        try {
+            redisTemplate.opsForZSet().add(KEY_PREFIX + partyId, String.valueOf(partyMemberId), partyMemberId);
+        } catch (DataAccessException e) {
+            // DB 에는 WAITLISTED 로 남아 있으므로 대기열이 비었을 때 DB 에서 찾음
+            log.warn("Failed to add party member {} to waitlist of party {}", partyMemberId, partyId, e);
+        }
+    }
+
+}
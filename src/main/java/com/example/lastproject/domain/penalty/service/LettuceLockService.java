@@ -4,8 +4,12 @@ import com.example.lastproject.common.enums.ErrorCode;
 import com.example.lastproject.common.exception.CustomException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class LettuceLockService {
@@ -15,6 +19,11 @@ public class LettuceLockService {
     데이터 정합성을 지키기 위해서 락을 획득 / 해제함
      */
 
+    // 값이 토큰과 같을 때만 삭제 (만료 후 다른 서버가 잡은 락을 지우지 않음)
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
     private final StringRedisTemplate redisTemplate;
 
     /**
@@ -49,4 +58,31 @@ public class LettuceLockService {
             throw new CustomException(ErrorCode.DATABASE_LOCK_ERROR);
         }
     }
+
+    /**
+     * 소유자 토큰과 함께 락을 획득
+     * 처리 시간이 락 타임아웃보다 길어질 수 있는 작업은 토큰으로 해제해야 다른 서버의 락을 지우지 않음
+     *
+     * @param lockKey 락 키
+     * @param timeout 초 단위로 락 타임아웃 설정
+     * @return 락 소유자 토큰, 획득 실패 시 null
+     */
+    public String tryLock(String lockKey, long timeout) {
+        String token = UUID.randomUUID().toString();
+        Boolean lockAcquired = redisTemplate.opsForValue()
+                .setIfAbsent(lockKey, token, timeout, java.util.concurrent.TimeUnit.SECONDS);
+        return lockAcquired != null && lockAcquired ? token : null;
+    }
+
+    /**
+     * 아직 이 토큰이 락을 소유한 경우에만 해제
+     *
+     * @param lockKey 락 키
+     * @param token   tryLock 이 반환한 토큰
+     * @return 해제 여부 (이미 만료되었거나 다른 서버가 소유하면 false)
+     */
+    public boolean releaseLock(String lockKey, String token) {
+        Long deleted = redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        return deleted != null && deleted == 1;
+    }
 }
@@ -0,0 +1,90 @@
+package com.example.lastproject.aop;
+
+import com.example.lastproject.common.annotation.RetryOnConflict;
+import com.example.lastproject.common.enums.ErrorCode;
+import com.example.lastproject.common.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+public class RetryOnConflictAopTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetryOnConflictAop retryOnConflictAop;
+    private ProceedingJoinPoint joinPoint;
+    private RetryOnConflict retryOnConflict;
+
+    @BeforeEach
+    public void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        retryOnConflictAop = new RetryOnConflictAop(meterRegistry);
+
+        Signature signature = mock(Signature.class);
+        given(signature.getDeclaringType()).willReturn(RetryOnConflictAopTest.class);
+        given(signature.getName()).willReturn("updateParty");
+        joinPoint = mock(ProceedingJoinPoint.class);
+        given(joinPoint.getSignature()).willReturn(signature);
+
+        retryOnConflict = RetryOnConflictAopTest.class.getDeclaredMethod("updateParty").getAnnotation(RetryOnConflict.class);
+    }
+
+    @RetryOnConflict(maxAttempts = 3, backoffMs = 1)
+    private void updateParty() {
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("party.optimistic_lock",
+                "result", result, "method", "RetryOnConflictAopTest.updateParty").count();
+    }
+
+    @Test
+    public void 충돌이_나면_다시_실행해_결과를_반환한다() throws Throwable {
+        // given
+        given(joinPoint.proceed())
+                .willThrow(new ObjectOptimisticLockingFailureException(Object.class, 1L))
+                .willReturn("ok");
+
+        // when
+        Object result = retryOnConflictAop.retry(joinPoint, retryOnConflict);
+
+        // then
+        assertEquals("ok", result);
+        verify(joinPoint, times(2)).proceed();
+        assertEquals(1, count("conflict"));
+        assertEquals(1, count("recovered"));
+    }
+
+    @Test
+    public void 최대_횟수까지_충돌하면_충돌_예외를_던진다() throws Throwable {
+        // given
+        given(joinPoint.proceed()).willThrow(new ObjectOptimisticLockingFailureException(Object.class, 1L));
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> retryOnConflictAop.retry(joinPoint, retryOnConflict));
+
+        // then
+        assertEquals(ErrorCode.PARTY_UPDATE_CONFLICT, exception.getErrorCode());
+        verify(joinPoint, times(3)).proceed();
+        assertEquals(3, count("conflict"));
+        assertEquals(1, count("exhausted"));
+    }
+
+    @Test
+    public void 충돌이_아닌_예외는_다시_실행하지_않는다() throws Throwable {
+        // given
+        given(joinPoint.proceed()).willThrow(new CustomException(ErrorCode.PARTY_FULL));
+
+        // when & then
+        assertThrows(CustomException.class, () -> retryOnConflictAop.retry(joinPoint, retryOnConflict));
+        verify(joinPoint, times(1)).proceed();
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.example.lastproject.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AfterCommitTest {
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void 트랜잭션이_없으면_커밋_작업은_바로_실행하고_롤백_작업은_실행하지_않는다() {
+        // given
+        List<String> ran = new ArrayList<>();
+
+        // when
+        AfterCommit.run(() -> ran.add("commit"));
+        AfterCommit.onRollback(() -> ran.add("rollback"));
+
+        // then
+        assertEquals(List.of("commit"), ran);
+    }
+
+    @Test
+    public void 트랜잭션_안에서는_결과에_맞는_작업만_완료_이후에_실행한다() {
+        // given
+        List<String> ran = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        AfterCommit.run(() -> ran.add("commit"));
+        AfterCommit.onRollback(() -> ran.add("rollback"));
+        assertTrue(ran.isEmpty());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertEquals(List.of("commit"), ran);
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.example.lastproject.domain.market.geo;
+
+import com.example.lastproject.domain.market.repository.MarketRepository;
+import com.example.lastproject.domain.market.service.MarketService;
+import com.example.lastproject.domain.penalty.service.LettuceLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MarketGeoIndexSchedulerTest {
+
+    private static final String LOCK_KEY = "market:geo:lock";
+
+    @Mock
+    private MarketRepository marketRepository;
+    @Mock
+    private MarketService marketService;
+    @Mock
+    private MarketGeoIndex marketGeoIndex;
+    @Mock
+    private LettuceLockService lettuceLockService;
+
+    @InjectMocks
+    private MarketGeoIndexScheduler marketGeoIndexScheduler;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(marketGeoIndexScheduler, "enabled", true);
+        ReflectionTestUtils.setField(marketGeoIndexScheduler, "pageSize", 2);
+        ReflectionTestUtils.setField(marketGeoIndexScheduler, "lockTimeoutSeconds", 600L);
+        given(lettuceLockService.tryLock(LOCK_KEY, 600L)).willReturn("token");
+        given(marketRepository.findActiveMarkets(any(), anyLong(), any())).willReturn(List.of());
+    }
+
+    @Test
+    public void page_처리가_실패하면_한_건씩_다시_처리하고_다음_page_로_넘어간다() {
+        // given
+        given(marketService.findPartyIdsWithoutMarket(0L, 2)).willReturn(List.of(1L, 2L));
+        given(marketService.findPartyIdsWithoutMarket(2L, 2)).willReturn(List.of(3L));
+        given(marketService.assignMissingMarkets(List.of(1L, 2L))).willThrow(new DataIntegrityViolationException("fail"));
+        given(marketService.assignMissingMarkets(List.of(1L))).willThrow(new DataIntegrityViolationException("fail"));
+        given(marketService.assignMissingMarkets(List.of(2L))).willReturn(1);
+        given(marketService.assignMissingMarkets(List.of(3L))).willReturn(1);
+        given(lettuceLockService.releaseLock(LOCK_KEY, "token")).willReturn(true);
+
+        // when
+        marketGeoIndexScheduler.rebuild();
+
+        // then
+        verify(marketService).assignMissingMarkets(List.of(2L));
+        verify(marketService).assignMissingMarkets(List.of(3L));
+        verify(lettuceLockService).releaseLock(LOCK_KEY, "token");
+    }
+
+    @Test
+    public void 락이_이미_만료되었으면_예외_없이_끝낸다() {
+        // given
+        given(marketService.findPartyIdsWithoutMarket(0L, 2)).willReturn(List.of());
+        given(lettuceLockService.releaseLock(LOCK_KEY, "token")).willReturn(false);
+
+        // when
+        marketGeoIndexScheduler.rebuild();
+
+        // then
+        verify(lettuceLockService, never()).releaseLock(LOCK_KEY);
+    }
+
+}
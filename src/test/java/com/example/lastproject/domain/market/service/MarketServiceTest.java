@@ -0,0 +1,132 @@
+package com.example.lastproject.domain.market.service;
+
+import com.example.lastproject.common.enums.ErrorCode;
+import com.example.lastproject.common.exception.CustomException;
+import com.example.lastproject.domain.market.entity.Market;
+import com.example.lastproject.domain.market.repository.MarketRepository;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MarketServiceTest {
+
+    private static final BigDecimal LATITUDE = new BigDecimal("37.5000000");
+    private static final BigDecimal LONGITUDE = new BigDecimal("127.0300000");
+
+    @Mock
+    private MarketRepository marketRepository;
+
+    @Mock
+    private PartyRepository partyRepository;
+
+    @InjectMocks
+    private MarketService marketService;
+
+    private Party party(String marketName, String marketAddress) {
+        return new Party(marketName, marketAddress, LATITUDE, LONGITUDE, null, 1, "kg",
+                "2024-10-01 12:00:00", "2024-10-01 13:00:00", 4, 1L);
+    }
+
+    @Test
+    public void 등록된_마켓은_공백을_정리한_이름과_주소로_찾는다() {
+        // given
+        Market market = new Market("이마트", "서울 강남구 역삼동", LATITUDE, LONGITUDE);
+        given(marketRepository.findByMarketNameAndMarketAddress("이마트", "서울 강남구 역삼동"))
+                .willReturn(Optional.of(market));
+
+        // when
+        Market found = marketService.findOrCreate(" 이마트 ", "서울  강남구   역삼동", LATITUDE, LONGITUDE);
+
+        // then
+        assertSame(market, found);
+        verify(marketRepository, never()).insertIfAbsent(any(), any(), any(), any());
+    }
+
+    @Test
+    public void 처음_등록되는_마켓은_호출한_트랜잭션에서_저장하고_잠금_읽기로_다시_읽는다() {
+        // given
+        Market market = new Market("이마트", "서울 강남구 역삼동", LATITUDE, LONGITUDE);
+        given(marketRepository.findByMarketNameAndMarketAddress("이마트", "서울 강남구 역삼동"))
+                .willReturn(Optional.empty());
+        given(marketRepository.findForShare("이마트", "서울 강남구 역삼동")).willReturn(Optional.of(market));
+
+        // when
+        Market created = marketService.findOrCreate("이마트", "서울 강남구 역삼동", LATITUDE, LONGITUDE);
+
+        // then
+        assertSame(market, created);
+        InOrder inOrder = inOrder(marketRepository);
+        inOrder.verify(marketRepository).insertIfAbsent("이마트", "서울 강남구 역삼동", LATITUDE, LONGITUDE);
+        inOrder.verify(marketRepository).findForShare("이마트", "서울 강남구 역삼동");
+    }
+
+    @Test
+    public void 등록_후에도_마켓을_읽지_못하면_예외를_던진다() {
+        // given
+        given(marketRepository.findByMarketNameAndMarketAddress("이마트", "서울 강남구 역삼동"))
+                .willReturn(Optional.empty());
+        given(marketRepository.findForShare("이마트", "서울 강남구 역삼동")).willReturn(Optional.empty());
+
+        // when & then
+        CustomException exception = assertThrows(CustomException.class,
+                () -> marketService.findOrCreate("이마트", "서울 강남구 역삼동", LATITUDE, LONGITUDE));
+        assertEquals(ErrorCode.MARKET_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    public void 마켓이_없는_파티는_같은_마켓끼리_하나의_마켓을_참조한다() {
+        // given
+        Party first = party("이마트", "서울 강남구 역삼동");
+        Party second = party("이마트 ", "서울 강남구  역삼동");
+        Party third = party("홈플러스", "서울 강남구 삼성동");
+        Market emart = new Market("이마트", "서울 강남구 역삼동", LATITUDE, LONGITUDE);
+        Market homeplus = new Market("홈플러스", "서울 강남구 삼성동", LATITUDE, LONGITUDE);
+        given(partyRepository.findAllById(List.of(1L, 2L, 3L))).willReturn(List.of(first, second, third));
+        given(marketRepository.findByMarketNameAndMarketAddress("이마트", "서울 강남구 역삼동"))
+                .willReturn(Optional.of(emart));
+        given(marketRepository.findByMarketNameAndMarketAddress("홈플러스", "서울 강남구 삼성동"))
+                .willReturn(Optional.of(homeplus));
+
+        // when
+        int assigned = marketService.assignMissingMarkets(List.of(1L, 2L, 3L));
+
+        // then
+        assertEquals(3, assigned);
+        assertSame(emart, first.getMarket());
+        assertSame(emart, second.getMarket());
+        assertSame(homeplus, third.getMarket());
+        verify(marketRepository, times(1)).findByMarketNameAndMarketAddress("이마트", "서울 강남구 역삼동");
+    }
+
+    @Test
+    public void 좌표가_없는_파티는_마켓을_만들지_않고_건너뛴다() {
+        // given
+        Party broken = new Party("이마트", "서울 강남구 역삼동", null, null, null, 1, "kg",
+                "2024-10-01 12:00:00", "2024-10-01 13:00:00", 4, 1L);
+        given(partyRepository.findAllById(List.of(1L))).willReturn(List.of(broken));
+
+        // when
+        int assigned = marketService.assignMissingMarkets(List.of(1L));
+
+        // then
+        assertEquals(0, assigned);
+        assertNull(broken.getMarket());
+        verifyNoInteractions(marketRepository);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.example.lastproject.domain.notification.codec;
+
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+@Tag("benchmark")
+public class NotificationCodecBenchmark {
+
+    /*
+    오늘 사용하는 JSON 과 바이너리 형식의 크기 / 인코딩 / 디코딩 비용 비교
+    - 기본 test 에서는 제외되고 ./gradlew benchmark 로만 실행
+    - JIT 워밍업 후 반복 측정한 평균 ns/op 를 출력만 하고 검증하지 않음 (실행 환경에 따라 달라짐)
+     */
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final NotificationEvent event = NotificationEvent.builder()
+            .type(NotificationType.PARTY_CREATE)
+            .partyId(123456L)
+            .itemId(42L)
+            .category("과일")
+            .marketName("이마트 역삼점")
+            .marketAddress("서울 강남구 역삼동 123-4")
+            .latitude(new BigDecimal("37.4979502610872"))
+            .longitude(new BigDecimal("127.0276368"))
+            .actorId(98765L)
+            .occurredAt(LocalDateTime.of(2024, 10, 1, 18, 30, 15))
+            .build();
+
+    @Test
+    public void AMQP_메시지_변환_비용() {
+        Jackson2JsonMessageConverter json = new Jackson2JsonMessageConverter("com.example.lastproject.domain.notification.dto");
+        measure("amqp json", json);
+        measure("amqp binary", new NotificationMessageConverter(json, true));
+    }
+
+    @Test
+    public void Redis_값_직렬화_비용() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        measure("redis json", new GenericJackson2JsonRedisSerializer(objectMapper));
+        measure("redis cache smile", new SmileGenericRedisSerializer(objectMapper, true));
+        measure("redis event smile", new SmileRedisSerializer<>(NotificationEvent.class, true));
+    }
+
+    private void measure(String name, MessageConverter converter) {
+        Message message = converter.toMessage(event, new MessageProperties());
+        System.out.printf("%-18s %4d bytes%n", name, message.getBody().length);
+        time(name + " enc", () -> converter.toMessage(event, new MessageProperties()));
+        time(name + " dec", () -> converter.fromMessage(message));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void measure(String name, RedisSerializer<T> serializer) {
+        byte[] bytes = serializer.serialize((T) event);
+        System.out.printf("%-18s %4d bytes%n", name, bytes.length);
+        time(name + " enc", () -> serializer.serialize((T) event));
+        time(name + " dec", () -> serializer.deserialize(bytes));
+    }
+
+    private void time(String name, Supplier<Object> task) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) {
+            sink = task.get();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = task.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        System.out.printf("%-22s %8.1f ns/op (%s)%n", name, (double) elapsed / ITERATIONS, sink != null);
+    }
+
+}
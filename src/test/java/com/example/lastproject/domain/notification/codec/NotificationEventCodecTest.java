@@ -0,0 +1,96 @@
+package com.example.lastproject.domain.notification.codec;
+
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NotificationEventCodecTest {
+
+    private final NotificationEvent event = NotificationEvent.builder()
+            .type(NotificationType.PARTY_CREATE)
+            .partyId(1234L)
+            .itemId(56L)
+            .category("과일")
+            .marketName("이마트 역삼점")
+            .marketAddress("서울 강남구 역삼동 123-4")
+            .latitude(new BigDecimal("37.4979502610872"))
+            .longitude(new BigDecimal("127.0276368"))
+            .actorId(7L)
+            .occurredAt(LocalDateTime.of(2024, 10, 1, 18, 30, 15, 123_000_000))
+            .build();
+
+    @Test
+    public void 인코딩한_이벤트를_그대로_디코딩한다() {
+        // when
+        NotificationEvent decoded = NotificationEventCodec.decode(NotificationEventCodec.encode(event));
+
+        // then
+        assertEquals(event.getType(), decoded.getType());
+        assertEquals(event.getPartyId(), decoded.getPartyId());
+        assertEquals(event.getItemId(), decoded.getItemId());
+        assertEquals(event.getCategory(), decoded.getCategory());
+        assertEquals(event.getMarketName(), decoded.getMarketName());
+        assertEquals(event.getMarketAddress(), decoded.getMarketAddress());
+        assertEquals(event.getLatitude(), decoded.getLatitude());
+        assertEquals(event.getLongitude(), decoded.getLongitude());
+        assertNull(decoded.getChatRoomId());
+        assertEquals(event.getActorId(), decoded.getActorId());
+        assertEquals(event.getOccurredAt(), decoded.getOccurredAt());
+    }
+
+    @Test
+    public void 지원하지_않는_버전은_디코딩하지_않는다() {
+        // given
+        byte[] bytes = NotificationEventCodec.encode(event);
+        bytes[1] = 99;
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> NotificationEventCodec.decode(bytes));
+    }
+
+    @Test
+    public void 변환기는_content_type_에_따라_바이너리와_JSON_을_모두_읽는다() {
+        // given
+        Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter("com.example.lastproject.domain.notification.dto");
+        NotificationMessageConverter binaryConverter = new NotificationMessageConverter(jsonConverter, true);
+        NotificationMessageConverter legacyConverter = new NotificationMessageConverter(jsonConverter, false);
+
+        // when
+        Message binaryMessage = binaryConverter.toMessage(event, new MessageProperties());
+        Message jsonMessage = legacyConverter.toMessage(event, new MessageProperties());
+
+        // then
+        assertEquals(NotificationMessageConverter.CONTENT_TYPE, binaryMessage.getMessageProperties().getContentType());
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, jsonMessage.getMessageProperties().getContentType());
+        assertEquals(event.getPartyId(), ((NotificationEvent) binaryConverter.fromMessage(jsonMessage)).getPartyId());
+        assertEquals(event.getPartyId(), ((NotificationEvent) legacyConverter.fromMessage(binaryMessage)).getPartyId());
+    }
+
+    @Test
+    public void Smile_직렬화기는_기존_JSON_값도_읽는다() {
+        // given
+        SmileRedisSerializer<NotificationEvent> smile = new SmileRedisSerializer<>(NotificationEvent.class, true);
+        SmileRedisSerializer<NotificationEvent> json = new SmileRedisSerializer<>(NotificationEvent.class, false);
+
+        // when
+        byte[] smileBytes = smile.serialize(event);
+        byte[] jsonBytes = json.serialize(event);
+
+        // then
+        assertTrue(SmileRedisSerializer.isSmile(smileBytes));
+        assertEquals('{', (char) jsonBytes[0]);
+        assertEquals(event.getMarketAddress(), smile.deserialize(jsonBytes).getMarketAddress());
+        assertEquals(event.getOccurredAt(), smile.deserialize(smileBytes).getOccurredAt());
+        assertTrue(new String(jsonBytes, StandardCharsets.UTF_8).contains("marketAddress"));
+    }
+
+}
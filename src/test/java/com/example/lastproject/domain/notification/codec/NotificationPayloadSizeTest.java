@@ -0,0 +1,104 @@
+package com.example.lastproject.domain.notification.codec;
+
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NotificationPayloadSizeTest {
+
+    /*
+    JSON 과 바이너리 형식의 메시지 크기 비교
+    바이너리 형식이 더 작고, 디코딩하면 같은 이벤트로 돌아오는지만 검증 (처리 시간은 NotificationCodecBenchmark 에서 측정)
+     */
+
+    private final NotificationEvent event = NotificationEvent.builder()
+            .type(NotificationType.PARTY_CREATE)
+            .partyId(123456L)
+            .itemId(42L)
+            .category("과일")
+            .marketName("이마트 역삼점")
+            .marketAddress("서울 강남구 역삼동 123-4")
+            .latitude(new BigDecimal("37.4979502610872"))
+            .longitude(new BigDecimal("127.0276368"))
+            .actorId(98765L)
+            .occurredAt(LocalDateTime.of(2024, 10, 1, 18, 30, 15))
+            .build();
+
+    @Test
+    public void AMQP_바이너리_메시지는_JSON_보다_작다() {
+        Jackson2JsonMessageConverter json = new Jackson2JsonMessageConverter("com.example.lastproject.domain.notification.dto");
+        NotificationMessageConverter binary = new NotificationMessageConverter(json, true);
+
+        int jsonSize = messageSize(json.toMessage(event, new MessageProperties()));
+        int binarySize = messageSize(binary.toMessage(event, new MessageProperties()));
+
+        NotificationEvent decoded = (NotificationEvent) binary.fromMessage(binary.toMessage(event, new MessageProperties()));
+        assertTrue(binarySize < jsonSize, "binary=" + binarySize + ", json=" + jsonSize);
+        assertEquals(event.getPartyId(), decoded.getPartyId());
+        assertEquals(event.getMarketAddress(), decoded.getMarketAddress());
+    }
+
+    @Test
+    public void Redis_Smile_값은_JSON_보다_작다() {
+        // 공용 redisTemplate(RedisConfig)과 같은 설정의 JSON 직렬화기
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        GenericJackson2JsonRedisSerializer generic = new GenericJackson2JsonRedisSerializer(objectMapper);
+        SmileRedisSerializer<NotificationEvent> smile = new SmileRedisSerializer<>(NotificationEvent.class, true);
+
+        int genericSize = generic.serialize(event).length;
+        int smileSize = smile.serialize(event).length;
+
+        NotificationEvent decoded = smile.deserialize(smile.serialize(event));
+        assertTrue(smileSize < genericSize, "smile=" + smileSize + ", json=" + genericSize);
+        assertEquals(event.getPartyId(), decoded.getPartyId());
+        assertEquals(event.getOccurredAt(), decoded.getOccurredAt());
+    }
+
+    @Test
+    public void 공용_redisTemplate_의_캐시_값은_Smile_로_저장하고_기존_JSON_값도_읽는다() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        SmileGenericRedisSerializer json = new SmileGenericRedisSerializer(objectMapper, false);
+        SmileGenericRedisSerializer smile = new SmileGenericRedisSerializer(objectMapper, true);
+
+        byte[] jsonBytes = json.serialize(event);
+        byte[] smileBytes = smile.serialize(event);
+
+        assertTrue(smileBytes.length < jsonBytes.length, "smile=" + smileBytes.length + ", json=" + jsonBytes.length);
+        Map<?, ?> fromJson = (Map<?, ?>) smile.deserialize(jsonBytes);
+        Map<?, ?> fromSmile = (Map<?, ?>) smile.deserialize(smileBytes);
+        assertEquals(fromJson.get("marketAddress"), fromSmile.get("marketAddress"));
+        assertEquals(fromJson.get("occurredAt"), fromSmile.get("occurredAt"));
+    }
+
+    // 본문 + content-type / 타입 헤더 크기
+    private int messageSize(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        int size = message.getBody().length + properties.getContentType().length();
+        for (Object header : properties.getHeaders().values()) {
+            size += String.valueOf(header).length();
+        }
+        return size;
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.example.lastproject.domain.notification.delivery;
+
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NotificationDeliveryLanesTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationDeliveryLanes lanes;
+
+    @BeforeEach
+    public void setUp() {
+        lanes = new NotificationDeliveryLanes(meterRegistry);
+        ReflectionTestUtils.setField(lanes, "totalThreads", 4);
+        ReflectionTestUtils.setField(lanes, "queueCapacity", 100);
+        ReflectionTestUtils.setField(lanes, "weights", Map.of("CHAT_CREATE", 4, "PARTY_CANCEL", 2, "PARTY_CREATE", 1));
+        lanes.init();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        lanes.shutdown();
+    }
+
+    @Test
+    public void 브로드캐스트_레인이_밀려도_채팅_알림은_바로_전송된다() throws InterruptedException {
+        // given: PARTY_CREATE 레인의 스레드를 모두 막고 작업을 쌓아둠
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 50; i++) {
+            lanes.submit(NotificationType.PARTY_CREATE, () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        // when
+        CountDownLatch chatDelivered = new CountDownLatch(1);
+        lanes.submit(NotificationType.CHAT_CREATE, chatDelivered::countDown);
+
+        // then
+        assertTrue(chatDelivered.await(1, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    public void 레인별_전송_지연시간을_기록한다() throws InterruptedException {
+        // given
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        // when
+        lanes.submit(NotificationType.CHAT_CREATE, delivered::countDown);
+        delivered.await(1, TimeUnit.SECONDS);
+        lanes.shutdown();
+
+        // then
+        assertEquals(1, meterRegistry.get("notification.delivery.latency").tag("lane", "CHAT_CREATE").timer().count());
+    }
+
+    @Test
+    public void 레인_큐가_가득_차면_호출한_스레드에서_실행하지_않고_건너뛴다() {
+        // given: PARTY_CREATE 레인(스레드 1개)을 막고 큐를 가득 채움
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 101; i++) {
+            lanes.submit(NotificationType.PARTY_CREATE, () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        // when
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        lanes.submit(NotificationType.PARTY_CREATE, () -> ranOn.set(Thread.currentThread()));
+
+        // then
+        assertNull(ranOn.get());
+        assertEquals(1.0, meterRegistry.get("notification.delivery.rejected").tag("lane", "PARTY_CREATE").counter().count());
+        release.countDown();
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.example.lastproject.domain.notification.digest;
+
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.entity.Notification;
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import com.example.lastproject.domain.notification.rabbitmq.consumer.NotificationEventConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationDigestSchedulerTest {
+
+    @Mock
+    private NotificationDigestService notificationDigestService;
+
+    @Mock
+    private NotificationEventConsumer notificationEventConsumer;
+
+    @InjectMocks
+    private NotificationDigestScheduler notificationDigestScheduler;
+
+    private final NotificationEvent event = NotificationEvent.builder()
+            .type(NotificationType.PARTY_CREATE).partyId(1L).category("양파").build();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(notificationDigestScheduler, "flushBatchSize", 500);
+    }
+
+    @Test
+    public void 요약_알림을_저장한_뒤에_processing_목록을_지우고_전송한다() {
+        // given
+        List<Notification> saved = List.of(Notification.builder().notificationType(NotificationType.PARTY_CREATE).build());
+        given(notificationDigestService.findStale(500)).willReturn(Set.of());
+        given(notificationDigestService.findDue(500)).willReturn(Set.of("10:PARTY_CREATE"));
+        given(notificationDigestService.claim("10:PARTY_CREATE")).willReturn(List.of(event));
+        given(notificationEventConsumer.persistDigest(10L, NotificationType.PARTY_CREATE, List.of(event))).willReturn(saved);
+
+        // when
+        notificationDigestScheduler.flush();
+
+        // then
+        verify(notificationDigestService).complete("10:PARTY_CREATE");
+        verify(notificationEventConsumer).deliver(saved);
+    }
+
+    @Test
+    public void 저장에_실패하면_processing_목록을_남기고_다음_항목을_처리한다() {
+        // given
+        given(notificationDigestService.findStale(500)).willReturn(Set.of());
+        given(notificationDigestService.findDue(500)).willReturn(new LinkedHashSet<>(List.of("10:PARTY_CREATE", "20:PARTY_CREATE")));
+        given(notificationDigestService.claim(any())).willReturn(List.of(event));
+        given(notificationEventConsumer.persistDigest(10L, NotificationType.PARTY_CREATE, List.of(event)))
+                .willThrow(new DataIntegrityViolationException("constraint"));
+        given(notificationEventConsumer.persistDigest(20L, NotificationType.PARTY_CREATE, List.of(event)))
+                .willReturn(List.of());
+
+        // when
+        notificationDigestScheduler.flush();
+
+        // then
+        verify(notificationDigestService, never()).complete("10:PARTY_CREATE");
+        verify(notificationDigestService).complete("20:PARTY_CREATE");
+    }
+
+    @Test
+    public void 처리_기한이_지난_항목을_먼저_다시_가져가_처리한다() {
+        // given
+        given(notificationDigestService.findStale(500)).willReturn(Set.of("10:PARTY_CREATE"));
+        given(notificationDigestService.reclaim("10:PARTY_CREATE")).willReturn(List.of(event));
+        given(notificationDigestService.findDue(500)).willReturn(Set.of());
+        given(notificationEventConsumer.persistDigest(anyLong(), any(), anyList())).willReturn(List.of());
+
+        // when
+        notificationDigestScheduler.flush();
+
+        // then
+        verify(notificationDigestService).complete("10:PARTY_CREATE");
+        verify(notificationDigestService, never()).claim(any());
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.example.lastproject.domain.notification.digest;
+
+import com.example.lastproject.domain.notification.codec.SmileRedisSerializer;
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationDigestServiceTest {
+
+    @Mock
+    private RedisTemplate<String, NotificationEvent> notificationEventRedisTemplate;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationDigestService digestService;
+
+    @BeforeEach
+    public void setUp() {
+        digestService = new NotificationDigestService(notificationEventRedisTemplate, redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(digestService, "enabled", true);
+        ReflectionTestUtils.setField(digestService, "windowMs", 300_000L);
+        ReflectionTestUtils.setField(digestService, "pendingTtlMs", 86_400_000L);
+        ReflectionTestUtils.setField(digestService, "processingLeaseMs", 60_000L);
+        ReflectionTestUtils.setField(digestService, "digestTypes", Set.of(NotificationType.PARTY_CREATE, NotificationType.PARTY_CANCEL));
+        digestService.init();
+    }
+
+    @Test
+    public void 창이_열려있는_수신자는_요약_대기로_넘긴다() {
+        // given
+        NotificationEvent event = NotificationEvent.builder().type(NotificationType.PARTY_CREATE).partyId(1L).category("양파").build();
+        given(notificationEventRedisTemplate.getValueSerializer())
+                .willReturn((RedisSerializer) new SmileRedisSerializer<>(NotificationEvent.class, true));
+        given(notificationEventRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+                anyList(), any(Object[].class)))
+                .willReturn(List.of(1L, 0L, 1L));
+
+        // when
+        Set<Long> immediate = digestService.admit(List.of(10L, 20L, 30L), event);
+
+        // then
+        assertEquals(Set.of(10L, 30L), immediate);
+        assertEquals(1.0, meterRegistry.counter("notification.digest.coalesced").count());
+    }
+
+    @Test
+    public void 요약_대상이_아닌_알림은_바로_보낸다() {
+        // given
+        NotificationEvent event = NotificationEvent.builder().type(NotificationType.CHAT_CREATE).partyId(1L).build();
+
+        // when
+        Set<Long> immediate = digestService.admit(List.of(10L, 20L), event);
+
+        // then
+        assertEquals(Set.of(10L, 20L), immediate);
+        verifyNoInteractions(notificationEventRedisTemplate);
+    }
+
+    @Test
+    public void 요약_멤버에서_사용자와_알림_종류를_읽는다() {
+        assertEquals(42L, NotificationDigestService.getUserId("42:PARTY_CANCEL"));
+        assertEquals(NotificationType.PARTY_CANCEL, NotificationDigestService.getType("42:PARTY_CANCEL"));
+    }
+
+    @Test
+    public void 가져간_항목은_processing_목록으로_옮기고_처리_기한을_기록한다() {
+        // given
+        NotificationEvent event = NotificationEvent.builder().type(NotificationType.PARTY_CREATE).partyId(1L).category("양파").build();
+        given(notificationEventRedisTemplate.getValueSerializer())
+                .willReturn((RedisSerializer) new SmileRedisSerializer<>(NotificationEvent.class, true));
+        given(notificationEventRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+                eq(List.of("notification:digest:due", "notification:digest:pending:10:PARTY_CREATE",
+                        "notification:digest:processing:10:PARTY_CREATE", "notification:digest:processing")),
+                any(Object[].class)))
+                .willReturn(List.of(event));
+
+        // when
+        List<NotificationEvent> events = digestService.claim("10:PARTY_CREATE");
+
+        // then
+        assertEquals(List.of(event), events);
+    }
+
+    @Test
+    public void 저장이_끝나면_processing_목록과_처리_기한을_지운다() {
+        // given
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+        // when
+        digestService.complete("10:PARTY_CREATE");
+
+        // then
+        verify(redisTemplate).delete("notification:digest:processing:10:PARTY_CREATE");
+        verify(zSetOperations).remove("notification:digest:processing", "10:PARTY_CREATE");
+    }
+
+}
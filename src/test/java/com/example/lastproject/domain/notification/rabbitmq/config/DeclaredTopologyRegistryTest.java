@@ -0,0 +1,189 @@
+package com.example.lastproject.domain.notification.rabbitmq.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+public class DeclaredTopologyRegistryTest {
+
+    @InjectMocks
+    private DeclaredTopologyRegistry topologyRegistry;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    private final String queueName = "party.create.서울.강남구";
+
+    @Test
+    public void 선언된_큐는_다시_선언하지_않는다() {
+        // given
+        AtomicInteger declareCount = new AtomicInteger();
+
+        // when
+        topologyRegistry.declareOnce(queueName, declareCount::incrementAndGet);
+        topologyRegistry.declareOnce(queueName, declareCount::incrementAndGet);
+
+        // then
+        assertEquals(1, declareCount.get());
+        assertTrue(topologyRegistry.isDeclared(queueName));
+    }
+
+    @Test
+    public void 동시에_들어온_첫_요청도_한번만_선언한다() throws InterruptedException {
+        // given
+        int threadCount = 32;
+        AtomicInteger declareCount = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    topologyRegistry.declareOnce(queueName, () -> {
+                        declareCount.incrementAndGet();
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertEquals(1, declareCount.get());
+    }
+
+    @Test
+    public void 선언에_실패하면_다음_요청에서_다시_선언한다() {
+        // given
+        AtomicInteger declareCount = new AtomicInteger();
+
+        // when
+        assertThrows(IllegalStateException.class, () -> topologyRegistry.declareOnce(queueName, () -> {
+            throw new IllegalStateException("broker unavailable");
+        }));
+        topologyRegistry.declareOnce(queueName, declareCount::incrementAndGet);
+
+        // then
+        assertEquals(1, declareCount.get());
+        assertTrue(topologyRegistry.isDeclared(queueName));
+    }
+
+    @Test
+    public void 연결이_다시_생성되면_기록을_비운다() {
+        // given
+        topologyRegistry.declareOnce(queueName, () -> {
+        });
+
+        // when
+        topologyRegistry.onCreate(mock(Connection.class));
+
+        // then
+        assertFalse(topologyRegistry.isDeclared(queueName));
+    }
+
+    @Test
+    public void 정리가_끝난_뒤에_기록에서_제거하고_정리_중에는_선언되지_않은_것으로_본다() {
+        // given
+        topologyRegistry.declareOnce(queueName, () -> {
+        });
+        AtomicBoolean declaredDuringRemoval = new AtomicBoolean(true);
+
+        // when
+        boolean removed = topologyRegistry.removeOnce(queueName,
+                () -> declaredDuringRemoval.set(topologyRegistry.isDeclared(queueName)));
+
+        // then
+        assertTrue(removed);
+        assertFalse(declaredDuringRemoval.get());
+        assertFalse(topologyRegistry.isDeclared(queueName));
+    }
+
+    @Test
+    public void 정리_중에_들어온_선언은_정리가_끝난_뒤에_다시_선언한다() throws Exception {
+        // given
+        topologyRegistry.declareOnce(queueName, () -> {
+        });
+        CountDownLatch removing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger declareCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        // when
+        executorService.submit(() -> topologyRegistry.removeOnce(queueName, () -> {
+            removing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(removing.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> declare = CompletableFuture.runAsync(
+                () -> topologyRegistry.declareOnce(queueName, declareCount::incrementAndGet));
+        Thread.sleep(50);
+        int declaredBeforeRelease = declareCount.get();
+        release.countDown();
+        declare.get(5, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertEquals(0, declaredBeforeRelease);
+        assertEquals(1, declareCount.get());
+        assertTrue(topologyRegistry.isDeclared(queueName));
+    }
+
+    @Test
+    public void 선언_중인_큐는_정리하지_않는다() throws Exception {
+        // given
+        CountDownLatch declaring = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> declare = CompletableFuture.runAsync(() -> topologyRegistry.declareOnce(queueName, () -> {
+            declaring.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(declaring.await(5, TimeUnit.SECONDS));
+
+        // when
+        boolean removed = topologyRegistry.removeOnce(queueName, () -> fail("declaring queue must not be removed"));
+        release.countDown();
+        declare.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertFalse(removed);
+        assertTrue(topologyRegistry.isDeclared(queueName));
+    }
+
+}
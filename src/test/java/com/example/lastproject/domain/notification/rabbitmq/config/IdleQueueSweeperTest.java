@@ -0,0 +1,129 @@
+package com.example.lastproject.domain.notification.rabbitmq.config;
+
+import com.example.lastproject.domain.notification.rabbitmq.consumer.listener.DynamicNotificationListenerConfigurer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class IdleQueueSweeperTest {
+
+    @Mock
+    private DynamicNotificationListenerConfigurer dynamicRabbitMQListener;
+    @Mock
+    private DeclaredTopologyRegistry topologyRegistry;
+    @Mock
+    private RabbitMqProducerConfig rabbitMqProducerConfig;
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    private IdleQueueSweeper sweeper;
+
+    private final String idleQueue = "party.create.서울.강남구";
+    private final String activeQueue = "party.create.서울.서초구";
+
+    @BeforeEach
+    public void setUp() {
+        sweeper = new IdleQueueSweeper(dynamicRabbitMQListener, topologyRegistry, rabbitMqProducerConfig,
+                amqpAdmin, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(sweeper, "idleThresholdMs", 60_000L);
+        sweeper.init();
+    }
+
+    @Test
+    public void 유휴_큐는_리스너와_큐를_정리한다() {
+        // given
+        long now = System.currentTimeMillis();
+        given(dynamicRabbitMQListener.getListenerQueues()).willReturn(Set.of(idleQueue, activeQueue));
+        given(dynamicRabbitMQListener.getLastActivity(idleQueue)).willReturn(now - 120_000L);
+        given(dynamicRabbitMQListener.getLastActivity(activeQueue)).willReturn(now);
+        givenRemovable();
+
+        // when
+        sweeper.sweep();
+
+        // then
+        InOrder inOrder = inOrder(dynamicRabbitMQListener, amqpAdmin);
+        inOrder.verify(dynamicRabbitMQListener).removeListener(idleQueue);
+        inOrder.verify(amqpAdmin).deleteQueue(idleQueue, true, true);
+        inOrder.verify(amqpAdmin).deleteQueue(idleQueue + ".dlq", true, true);
+        verify(dynamicRabbitMQListener, never()).removeListener(activeQueue);
+    }
+
+    @Test
+    public void 샤드_큐는_정리하지_않는다() {
+        // given
+        String shardQueue = "notification.shard.0";
+        given(dynamicRabbitMQListener.getListenerQueues()).willReturn(Set.of(shardQueue));
+        given(rabbitMqProducerConfig.isShardQueue(shardQueue)).willReturn(true);
+
+        // when
+        sweeper.sweep();
+
+        // then
+        verify(dynamicRabbitMQListener, never()).removeListener(anyString());
+        verify(amqpAdmin, never()).deleteQueue(anyString(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void 메시지가_남은_큐는_삭제에_실패해도_정리를_계속한다() {
+        // given
+        given(dynamicRabbitMQListener.getListenerQueues()).willReturn(Set.of(idleQueue));
+        given(dynamicRabbitMQListener.getLastActivity(idleQueue)).willReturn(0L);
+        givenRemovable();
+        willThrow(new AmqpIOException(new IOException("PRECONDITION_FAILED")))
+                .given(amqpAdmin).deleteQueue(idleQueue, true, true);
+
+        // when
+        sweeper.sweep();
+
+        // then
+        verify(dynamicRabbitMQListener).removeListener(idleQueue);
+        verify(amqpAdmin).deleteQueue(idleQueue + ".dlq", true, true);
+    }
+
+    @Test
+    public void 선언_중인_큐는_정리하지_않는다() {
+        // given
+        given(dynamicRabbitMQListener.getListenerQueues()).willReturn(Set.of(idleQueue));
+        given(dynamicRabbitMQListener.getLastActivity(idleQueue)).willReturn(0L);
+        given(topologyRegistry.removeOnce(eq(idleQueue), any())).willReturn(false);
+
+        // when
+        sweeper.sweep();
+
+        // then
+        verify(dynamicRabbitMQListener, never()).removeListener(anyString());
+        verify(amqpAdmin, never()).deleteQueue(anyString(), anyBoolean(), anyBoolean());
+    }
+
+    // 레지스트리가 정리 작업을 바로 실행하도록 함
+    private void givenRemovable() {
+        given(topologyRegistry.removeOnce(eq(idleQueue), any())).willAnswer(invocation -> {
+            Runnable removal = invocation.getArgument(1);
+            removal.run();
+            return true;
+        });
+    }
+
+}
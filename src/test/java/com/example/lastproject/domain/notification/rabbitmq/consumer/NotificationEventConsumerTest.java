@@ -0,0 +1,177 @@
+package com.example.lastproject.domain.notification.rabbitmq.consumer;
+
+import com.example.lastproject.domain.notification.delivery.NotificationDeliveryLanes;
+import com.example.lastproject.domain.notification.digest.NotificationDigestService;
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.entity.Notification;
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import com.example.lastproject.domain.notification.service.NotificationService;
+import com.example.lastproject.domain.notification.service.NotificationThrottleService;
+import com.example.lastproject.domain.party.repository.PartyQueryRepositoryImpl;
+import com.example.lastproject.domain.partymember.entity.PartyMember;
+import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
+import com.example.lastproject.domain.partymember.enums.PartyMemberRole;
+import com.example.lastproject.domain.partymember.repository.PartyMemberRepository;
+import com.example.lastproject.domain.user.dto.NearbyBookmarkUserDto;
+import com.example.lastproject.domain.user.entity.User;
+import com.example.lastproject.domain.user.enums.UserRole;
+import com.example.lastproject.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationEventConsumerTest {
+
+    @Mock
+    private PartyQueryRepositoryImpl partyQueryRepository;
+    @Mock
+    private PartyMemberRepository partyMemberRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private NotificationThrottleService notificationThrottleService;
+    @Mock
+    private NotificationDigestService notificationDigestService;
+    @Mock
+    private NotificationDeliveryLanes notificationDeliveryLanes;
+
+    @InjectMocks
+    private NotificationEventConsumer notificationEventConsumer;
+
+    private static final BigDecimal LATITUDE = new BigDecimal("37.5000000");
+    private static final BigDecimal LONGITUDE = new BigDecimal("127.0300000");
+
+    private final NotificationEvent createEvent = NotificationEvent.builder()
+            .type(NotificationType.PARTY_CREATE).partyId(5L).itemId(3L).category("양파")
+            .marketName("이마트").marketAddress("서울 강남구 역삼동")
+            .latitude(LATITUDE).longitude(LONGITUDE).actorId(1L).build();
+
+    private static final String CREATE_CONTENT = "서울 강남구 역삼동 이마트 양파 품목의 파티가 생성되었습니다.";
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(notificationEventConsumer, "clientBasicUrl", "http://localhost:3000");
+    }
+
+    @Test
+    public void 근처_사용자를_찾아_요약과_발송량_제한을_거친_뒤_저장한다() {
+        // given
+        given(partyQueryRepository.getUserIdWithDistanceNearbyParty(LATITUDE, LONGITUDE, 3L)).willReturn(List.of(
+                new NearbyBookmarkUserDto(1L, BigDecimal.ONE),
+                new NearbyBookmarkUserDto(2L, BigDecimal.ONE),
+                new NearbyBookmarkUserDto(3L, BigDecimal.ONE)));
+        given(notificationDigestService.admit(Set.of(2L, 3L), createEvent)).willReturn(Set.of(2L, 3L));
+        given(notificationThrottleService.filterAllowed(Set.of(2L, 3L), NotificationType.PARTY_CREATE, CREATE_CONTENT))
+                .willReturn(Set.of(3L));
+        given(notificationService.saveNotifications(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<Notification> saved = notificationEventConsumer.persist(createEvent);
+
+        // then
+        assertEquals(1, saved.size());
+        assertEquals(CREATE_CONTENT, saved.get(0).getContent());
+        assertEquals("http://localhost:3000/parties/5", saved.get(0).getUrl());
+        verify(userRepository).getReferenceById(3L);
+    }
+
+    @Test
+    public void 모든_수신자가_요약_대기로_넘어가면_저장하지_않는다() {
+        // given
+        given(partyQueryRepository.getUserIdWithDistanceNearbyParty(LATITUDE, LONGITUDE, 3L))
+                .willReturn(List.of(new NearbyBookmarkUserDto(2L, BigDecimal.ONE)));
+        given(notificationDigestService.admit(Set.of(2L), createEvent)).willReturn(Set.of());
+
+        // when
+        List<Notification> saved = notificationEventConsumer.persist(createEvent);
+
+        // then
+        assertTrue(saved.isEmpty());
+        verifyNoInteractions(notificationThrottleService, notificationService);
+    }
+
+    @Test
+    public void 저장에_실패하면_발송량_판정을_되돌리고_예외를_던진다() {
+        // given
+        given(partyQueryRepository.getUserIdWithDistanceNearbyParty(LATITUDE, LONGITUDE, 3L))
+                .willReturn(List.of(new NearbyBookmarkUserDto(2L, BigDecimal.ONE)));
+        given(notificationDigestService.admit(Set.of(2L), createEvent)).willReturn(Set.of(2L));
+        given(notificationThrottleService.filterAllowed(Set.of(2L), NotificationType.PARTY_CREATE, CREATE_CONTENT))
+                .willReturn(Set.of(2L));
+        given(notificationService.saveNotifications(anyList())).willThrow(new DataIntegrityViolationException("fail"));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> notificationEventConsumer.persist(createEvent));
+        verify(notificationThrottleService).release(Set.of(2L), NotificationType.PARTY_CREATE, CREATE_CONTENT);
+    }
+
+    @Test
+    public void 파티_취소는_거절된_파티원을_제외하고_알린다() {
+        // given
+        NotificationEvent cancelEvent = NotificationEvent.builder()
+                .type(NotificationType.PARTY_CANCEL).partyId(5L).itemId(3L).category("양파")
+                .marketName("이마트").marketAddress("서울 강남구 역삼동")
+                .latitude(LATITUDE).longitude(LONGITUDE).actorId(1L).build();
+        given(partyQueryRepository.getUserIdWithDistanceNearbyParty(LATITUDE, LONGITUDE, 3L)).willReturn(List.of());
+        given(partyMemberRepository.findByPartyId(5L)).willReturn(List.of(
+                member(1L, PartyMemberInviteStatus.ACCEPTED),
+                member(2L, PartyMemberInviteStatus.PENDING),
+                member(3L, PartyMemberInviteStatus.REJECTED)));
+        given(notificationDigestService.admit(anyCollection(), eq(cancelEvent)))
+                .willAnswer(invocation -> Set.copyOf(invocation.getArgument(0)));
+        given(notificationThrottleService.filterAllowed(anyCollection(), eq(NotificationType.PARTY_CANCEL), anyString()))
+                .willAnswer(invocation -> Set.copyOf(invocation.getArgument(0)));
+        given(notificationService.saveNotifications(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<Notification> saved = notificationEventConsumer.persist(cancelEvent);
+
+        // then (1번은 취소한 본인)
+        assertEquals(1, saved.size());
+        verify(userRepository).getReferenceById(2L);
+        verify(userRepository, never()).getReferenceById(3L);
+    }
+
+    @Test
+    public void 저장된_알림은_종류별_전송_레인에서_전송한다() {
+        // given
+        Notification create = Notification.builder().notificationType(NotificationType.PARTY_CREATE).build();
+        Notification chat = Notification.builder().notificationType(NotificationType.CHAT_CREATE).build();
+
+        // when
+        notificationEventConsumer.deliver(List.of(create, chat));
+
+        // then
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(notificationDeliveryLanes).submit(eq(NotificationType.PARTY_CREATE), task.capture());
+        verify(notificationDeliveryLanes).submit(eq(NotificationType.CHAT_CREATE), any());
+        task.getValue().run();
+        verify(notificationService).sendNotifications(List.of(create));
+    }
+
+    private PartyMember member(Long userId, PartyMemberInviteStatus inviteStatus) {
+        User user = new User("user" + userId + "@test.com", "password", "user" + userId, "서울 강남구 역삼동",
+                LATITUDE, LONGITUDE, UserRole.ROLE_USER);
+        ReflectionTestUtils.setField(user, "id", userId);
+        return new PartyMember(user, null, PartyMemberRole.MEMBER, inviteStatus);
+    }
+
+}
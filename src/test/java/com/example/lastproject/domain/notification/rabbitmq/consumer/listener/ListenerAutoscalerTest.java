@@ -0,0 +1,94 @@
+package com.example.lastproject.domain.notification.rabbitmq.consumer.listener;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ListenerAutoscalerTest {
+
+    @Mock
+    private DynamicNotificationListenerConfigurer dynamicRabbitMQListener;
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ListenerAutoscaler autoscaler;
+
+    private final String queueName = "party.create.서울.강남구";
+
+    @BeforeEach
+    public void setUp() {
+        autoscaler = new ListenerAutoscaler(dynamicRabbitMQListener, amqpAdmin, meterRegistry);
+        ReflectionTestUtils.setField(autoscaler, "enabled", true);
+        ReflectionTestUtils.setField(autoscaler, "minConsumers", 1);
+        ReflectionTestUtils.setField(autoscaler, "maxConsumers", 4);
+        ReflectionTestUtils.setField(autoscaler, "scaleUpDepth", 100);
+        ReflectionTestUtils.setField(autoscaler, "highUtilization", 0.8);
+        ReflectionTestUtils.setField(autoscaler, "lowUtilization", 0.2);
+        ReflectionTestUtils.setField(autoscaler, "scaleDownSamples", 2);
+        autoscaler.init();
+    }
+
+    @Test
+    public void 적재량이_많으면_최대치까지만_컨슈머를_늘린다() {
+        // given
+        given(dynamicRabbitMQListener.getListenerQueues()).willReturn(Set.of(queueName));
+        given(amqpAdmin.getQueueInfo(queueName)).willReturn(new QueueInformation(queueName, 1000, 1));
+        given(dynamicRabbitMQListener.getConsumerCount(queueName)).willReturn(1);
+
+        // when
+        autoscaler.autoscale(); // 기준 샘플
+        autoscaler.autoscale();
+
+        // then
+        verify(dynamicRabbitMQListener).resize(queueName, 4);
+        assertEquals(1.0, meterRegistry.counter("notification.autoscale.decisions", "direction", "up").count());
+    }
+
+    @Test
+    public void 한가한_상태가_이어지면_컨슈머를_하나씩_줄인다() {
+        // given
+        ListenerAutoscaler.QueueSample sample = new ListenerAutoscaler.QueueSample(0, 0, 0);
+
+        // when
+        int first = autoscaler.decide(3, 0, 0.0, sample);
+        int second = autoscaler.decide(3, 0, 0.0, sample);
+
+        // then
+        assertEquals(3, first);
+        assertEquals(2, second);
+    }
+
+    @Test
+    public void 최소_컨슈머_아래로는_줄이지_않는다() {
+        // given
+        given(dynamicRabbitMQListener.getListenerQueues()).willReturn(Set.of(queueName));
+        given(amqpAdmin.getQueueInfo(queueName)).willReturn(new QueueInformation(queueName, 0, 1));
+        given(dynamicRabbitMQListener.getConsumerCount(queueName)).willReturn(1);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            autoscaler.autoscale();
+        }
+
+        // then
+        verify(dynamicRabbitMQListener, never()).resize(anyString(), anyInt());
+    }
+
+}
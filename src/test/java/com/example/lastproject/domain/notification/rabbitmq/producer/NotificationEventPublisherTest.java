@@ -0,0 +1,133 @@
+package com.example.lastproject.domain.notification.rabbitmq.producer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationEventPublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationEventPublisher publisher;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        publisher.shutdown();
+    }
+
+    private void start(int batchSize, long lingerMs) {
+        publisher = new NotificationEventPublisher(rabbitTemplate, meterRegistry);
+        ReflectionTestUtils.setField(publisher, "batchSize", batchSize);
+        ReflectionTestUtils.setField(publisher, "lingerMs", lingerMs);
+        ReflectionTestUtils.setField(publisher, "bufferCapacity", 100);
+        ReflectionTestUtils.setField(publisher, "confirmTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(publisher, "maxAttempts", 3);
+
+        given(rabbitTemplate.invoke(any())).willAnswer(invocation -> {
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(operations);
+        });
+        publisher.init();
+    }
+
+    // n 번째 전송까지는 nack, 이후는 ack 로 확인
+    private AtomicInteger confirmWithNacks(int nacks) {
+        AtomicInteger sent = new AtomicInteger();
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            boolean ack = sent.incrementAndGet() > nacks;
+            correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(operations).convertAndSend(anyString(), anyString(), any(Object.class), any(CorrelationData.class));
+        return sent;
+    }
+
+    @Test
+    public void batch_size_만큼_모이면_linger_를_기다리지_않고_한_번에_발행한다() {
+        // given
+        start(3, 10_000L);
+        confirmWithNacks(0);
+
+        // when
+        publisher.publish("party.exchange", "party.create.서울.강남구", "1");
+        publisher.publish("party.exchange", "party.create.서울.강남구", "2");
+        publisher.publish("party.exchange", "party.create.서울.강남구", "3");
+
+        // then
+        verify(operations, timeout(1000).times(3))
+                .convertAndSend(eq("party.exchange"), eq("party.create.서울.강남구"), any(Object.class), any(CorrelationData.class));
+        verify(rabbitTemplate, times(1)).invoke(any());
+    }
+
+    @Test
+    public void batch_size_보다_적어도_linger_가_지나면_발행한다() {
+        // given
+        start(100, 20L);
+        confirmWithNacks(0);
+
+        // when
+        publisher.publish("party.exchange", "party.create.서울.강남구", "1");
+
+        // then
+        verify(operations, timeout(1000))
+                .convertAndSend(eq("party.exchange"), eq("party.create.서울.강남구"), eq("1"), any(CorrelationData.class));
+    }
+
+    @Test
+    public void nack_된_메시지는_다시_발행한다() throws InterruptedException {
+        // given
+        start(100, 1L);
+        AtomicInteger sent = confirmWithNacks(1);
+
+        // when
+        publisher.publish("party.exchange", "party.create.서울.강남구", "1");
+        publisher.shutdown();
+
+        // then
+        assertEquals(2, sent.get());
+        assertEquals(1.0, meterRegistry.counter("notification.publish.nacked").count());
+        assertEquals(1.0, meterRegistry.counter("notification.publish.retried").count());
+        assertEquals(0.0, meterRegistry.counter("notification.publish.failed").count());
+        assertEquals(1, meterRegistry.get("notification.publish.latency").timer().count());
+    }
+
+    @Test
+    public void 최대_시도_횟수까지_확인받지_못하면_실패로_기록한다() throws InterruptedException {
+        // given
+        start(100, 1L);
+        AtomicInteger sent = confirmWithNacks(Integer.MAX_VALUE);
+
+        // when
+        publisher.publish("party.exchange", "party.create.서울.강남구", "1");
+        publisher.shutdown();
+
+        // then
+        assertEquals(3, sent.get());
+        assertEquals(3.0, meterRegistry.counter("notification.publish.nacked").count());
+        assertEquals(2.0, meterRegistry.counter("notification.publish.retried").count());
+        assertEquals(1.0, meterRegistry.counter("notification.publish.failed").count());
+    }
+
+}
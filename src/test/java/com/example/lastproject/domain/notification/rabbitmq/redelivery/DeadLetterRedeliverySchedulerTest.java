@@ -0,0 +1,168 @@
+package com.example.lastproject.domain.notification.rabbitmq.redelivery;
+
+import com.example.lastproject.domain.notification.rabbitmq.config.DeclaredTopologyRegistry;
+import com.example.lastproject.domain.notification.rabbitmq.config.RabbitMqProducerConfig;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class DeadLetterRedeliverySchedulerTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+    @Mock
+    private AmqpAdmin amqpAdmin;
+    @Mock
+    private DeclaredTopologyRegistry topologyRegistry;
+    @Mock
+    private DeadLetterSourceRegistry deadLetterSourceRegistry;
+    @Mock
+    private RabbitMqProducerConfig rabbitMqProducerConfig;
+    @Mock
+    private Channel channel;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DeadLetterRedeliveryScheduler scheduler;
+
+    private final String queueName = "party.create.서울.강남구";
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = new DeadLetterRedeliveryScheduler(rabbitTemplate, amqpAdmin, topologyRegistry,
+                deadLetterSourceRegistry, rabbitMqProducerConfig, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "maxAttempts", 3);
+        ReflectionTestUtils.setField(scheduler, "baseDelayMs", 1000L);
+        ReflectionTestUtils.setField(scheduler, "delayLevels", 2);
+        ReflectionTestUtils.setField(scheduler, "concurrency", 1);
+        ReflectionTestUtils.setField(scheduler, "batchSize", 10);
+        ReflectionTestUtils.setField(scheduler, "confirmTimeoutMs", 5000L);
+        scheduler.init();
+    }
+
+    @Test
+    public void 재시도_횟수에_따라_지연_큐로_재전달한다() throws Exception {
+        // given
+        givenDeadLetterQueue();
+        given(channel.basicGet(queueName + ".dlq", false))
+                .willReturn(deadLetter(1L, null))
+                .willReturn(null);
+
+        // when
+        scheduler.redeliver();
+
+        // then
+        ArgumentCaptor<AMQP.BasicProperties> properties = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(channel).basicPublish(eq(DeadLetterRedeliveryScheduler.RETRY_EXCHANGE), eq(queueName), properties.capture(), any());
+        verify(channel).confirmSelect();
+        verify(channel).waitForConfirmsOrDie(5000L);
+        verify(channel).basicAck(1L, true);
+        assertEquals(1, properties.getValue().getHeaders().get(DeadLetterRedeliveryScheduler.RETRY_COUNT_HEADER));
+        assertEquals("0", properties.getValue().getHeaders().get(DeadLetterRedeliveryScheduler.RETRY_LEVEL_HEADER));
+        assertEquals(1.0, meterRegistry.counter("notification.redelivery.retried", "level", "0").count());
+    }
+
+    @Test
+    public void 최대_재시도를_넘으면_parked_큐에_보관한다() throws Exception {
+        // given
+        givenDeadLetterQueue();
+        given(channel.basicGet(queueName + ".dlq", false))
+                .willReturn(deadLetter(7L, 3))
+                .willReturn(null);
+
+        // when
+        scheduler.redeliver();
+
+        // then
+        verify(channel).basicPublish(eq(""), eq(DeadLetterRedeliveryScheduler.PARKED_QUEUE), any(AMQP.BasicProperties.class), any());
+        verify(channel).waitForConfirmsOrDie(5000L);
+        verify(channel).basicAck(7L, true);
+        assertEquals(1.0, meterRegistry.counter("notification.redelivery.parked").count());
+    }
+
+    @Test
+    public void 재시작_이전에_기록된_큐의_DLQ_도_원래_큐를_보장한_뒤_재전달한다() throws Exception {
+        // given
+        given(topologyRegistry.getDeclaredQueues()).willReturn(Set.of());
+        given(deadLetterSourceRegistry.getSources()).willReturn(Set.of(queueName));
+        given(amqpAdmin.getQueueInfo(queueName + ".dlq")).willReturn(new QueueInformation(queueName + ".dlq", 1, 0));
+        givenChannel();
+        given(channel.basicGet(queueName + ".dlq", false))
+                .willReturn(deadLetter(3L, null))
+                .willReturn(null);
+
+        // when
+        scheduler.redeliver();
+
+        // then
+        verify(rabbitMqProducerConfig).ensureQueue(queueName);
+        verify(channel).basicAck(3L, true);
+    }
+
+    @Test
+    public void DLQ_가_사라진_큐는_기록에서_제거한다() {
+        // given
+        given(topologyRegistry.getDeclaredQueues()).willReturn(Set.of());
+        given(deadLetterSourceRegistry.getSources()).willReturn(Set.of(queueName));
+        given(topologyRegistry.isDeclared(queueName)).willReturn(false);
+
+        // when
+        scheduler.redeliver();
+
+        // then
+        verify(deadLetterSourceRegistry).remove(queueName);
+        verify(rabbitMqProducerConfig, never()).ensureQueue(any());
+    }
+
+    @Test
+    public void 지연_단계는_마지막_단계를_넘지_않는다() {
+        assertEquals(0, scheduler.getDelayLevel(1));
+        assertEquals(1, scheduler.getDelayLevel(2));
+        assertEquals(1, scheduler.getDelayLevel(5));
+        assertEquals(2000L, scheduler.getDelayMs(1));
+    }
+
+    private void givenDeadLetterQueue() {
+        given(topologyRegistry.getDeclaredQueues()).willReturn(Set.of(queueName));
+        given(amqpAdmin.getQueueInfo(queueName + ".dlq")).willReturn(new QueueInformation(queueName + ".dlq", 1, 0));
+        givenChannel();
+    }
+
+    private void givenChannel() {
+        given(rabbitTemplate.execute(any())).willAnswer(invocation -> {
+            ChannelCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(channel);
+        });
+    }
+
+    private GetResponse deadLetter(long deliveryTag, Integer retryCount) {
+        AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder()
+                .headers(retryCount == null ? null : Map.of(DeadLetterRedeliveryScheduler.RETRY_COUNT_HEADER, retryCount))
+                .build();
+        Envelope envelope = new Envelope(deliveryTag, false, "party.dlx", queueName + ".dlq");
+        return new GetResponse(envelope, properties, "{}".getBytes(), 0);
+    }
+
+}
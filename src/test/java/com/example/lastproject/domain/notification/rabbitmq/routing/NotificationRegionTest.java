@@ -0,0 +1,61 @@
+package com.example.lastproject.domain.notification.rabbitmq.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NotificationRegionTest {
+
+    @Test
+    public void 주소에서_시도와_시군구를_추출한다() {
+        // when
+        NotificationRegion region = NotificationRegion.from("서울 강남구 역삼동 123-4");
+
+        // then
+        assertEquals("서울", region.getSido());
+        assertEquals("강남구", region.getSigungu());
+        assertEquals("party.create.서울.강남구", region.toRoutingKey("party.create"));
+    }
+
+    @Test
+    public void 전체_시도_표기도_같은_지역으로_정규화한다() {
+        // when
+        NotificationRegion shortName = NotificationRegion.from("경기 수원시 영통구 매영로 1");
+        NotificationRegion fullName = NotificationRegion.from("경기도 수원시 영통구 매영로 1");
+
+        // then
+        assertEquals(shortName.toRoutingKey("party.cancel"), fullName.toRoutingKey("party.cancel"));
+    }
+
+    @Test
+    public void 알수없는_주소는_기타로_라우팅한다() {
+        // when
+        NotificationRegion unknown = NotificationRegion.from("어딘가 도로명 1");
+        NotificationRegion sejong = NotificationRegion.from("세종특별자치시 한누리대로 2130");
+
+        // then
+        assertEquals("chat.create.기타.기타", unknown.toRoutingKey("chat.create"));
+        assertEquals("세종", sejong.getSido());
+        assertEquals(NotificationRegion.UNKNOWN, sejong.getSigungu());
+    }
+
+    @Test
+    public void 모든_시도는_고정된_샤드에_배정된다() {
+        // given
+        int shardCount = 4;
+        Set<Integer> shards = new HashSet<>();
+
+        // when
+        for (String sido : NotificationRegion.SIDO_LIST) {
+            shards.add(NotificationRegion.shardOf(sido, shardCount));
+        }
+
+        // then
+        assertEquals(shardCount, shards.size());
+        assertTrue(shards.stream().allMatch(shard -> shard >= 0 && shard < shardCount));
+    }
+
+}
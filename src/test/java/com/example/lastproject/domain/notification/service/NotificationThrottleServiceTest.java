@@ -0,0 +1,107 @@
+package com.example.lastproject.domain.notification.service;
+
+import com.example.lastproject.domain.notification.entity.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationThrottleServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationThrottleService throttleService;
+
+    private final String content = "서울 강남구 역삼동 이마트 과일 품목의 파티가 생성되었습니다.";
+
+    @BeforeEach
+    public void setUp() {
+        throttleService = new NotificationThrottleService(redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(throttleService, "enabled", true);
+        ReflectionTestUtils.setField(throttleService, "dedupWindowMs", 600_000L);
+        ReflectionTestUtils.setField(throttleService, "capacity", 5);
+        ReflectionTestUtils.setField(throttleService, "refillPerMinute", 1.0);
+        throttleService.init();
+    }
+
+    @Test
+    public void Redis_판정에_따라_수신자를_걸러내고_억제_건수를_기록한다() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of(0L, 0L, 1L, 0L, 2L, 30_000L));
+
+        // when
+        Set<Long> allowed = throttleService.filterAllowed(List.of(1L, 2L, 3L), NotificationType.PARTY_CREATE, content);
+
+        // then
+        assertEquals(Set.of(1L), allowed);
+        assertEquals(1.0, meterRegistry.counter("notification.suppressed", "reason", "dedup").count());
+        assertEquals(1.0, meterRegistry.counter("notification.suppressed", "reason", "throttled").count());
+    }
+
+    @Test
+    public void 로컬에서_막힐_것이_확실한_요청은_Redis_에_묻지_않는다() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of(0L, 0L, 2L, 30_000L));
+        throttleService.filterAllowed(List.of(1L, 2L), NotificationType.PARTY_CREATE, content);
+
+        // when
+        Set<Long> allowed = throttleService.filterAllowed(List.of(1L, 2L), NotificationType.PARTY_CREATE, content);
+
+        // then
+        assertTrue(allowed.isEmpty());
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        assertEquals(2.0, meterRegistry.counter("notification.throttle.local.hit").count());
+    }
+
+    @Test
+    public void Redis_장애_시에는_알림을_막지_않는다() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        boolean allowed = throttleService.tryAcquire(1L, NotificationType.PARTY_CANCEL, content);
+
+        // then
+        assertTrue(allowed);
+    }
+
+    @Test
+    public void 저장에_실패해_판정을_되돌리면_같은_알림을_다시_Redis_에서_판정한다() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of(0L, 0L));
+        throttleService.tryAcquire(1L, NotificationType.PARTY_CREATE, content);
+
+        // when
+        throttleService.release(List.of(1L), NotificationType.PARTY_CREATE, content);
+        boolean allowed = throttleService.tryAcquire(1L, NotificationType.PARTY_CREATE, content);
+
+        // then
+        assertTrue(allowed);
+        assertEquals(0.0, meterRegistry.counter("notification.throttle.local.hit").count());
+        // 판정 2번 + 되돌리기 1번
+        verify(redisTemplate, times(3)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+}
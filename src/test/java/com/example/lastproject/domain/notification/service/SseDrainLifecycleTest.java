@@ -0,0 +1,101 @@
+package com.example.lastproject.domain.notification.service;
+
+import com.example.lastproject.domain.notification.repository.EmitterRepository;
+import com.example.lastproject.domain.notification.repository.NotificationReplayRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SseDrainLifecycleTest {
+
+    @Mock
+    private EmitterRepository emitterRepository;
+
+    @Mock
+    private NotificationReplayRepository notificationReplayRepository;
+
+    @InjectMocks
+    private SseDrainLifecycle sseDrainLifecycle;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(sseDrainLifecycle, "drainWindowMs", 30L);
+        ReflectionTestUtils.setField(sseDrainLifecycle, "drainBatchSize", 2);
+        ReflectionTestUtils.setField(sseDrainLifecycle, "minReconnectMs", 1000L);
+    }
+
+    @Test
+    public void 종료_시_이벤트를_옮기고_모든_연결을_묶음으로_나누어_종료한다() throws IOException {
+        // given
+        Map<String, SseEmitter> emitters = new HashMap<>();
+        for (int i = 1; i <= 5; i++) {
+            emitters.put("1_" + i, mock(SseEmitter.class));
+        }
+        Map<String, Object> eventCache = Map.of("1_1", "알림");
+        given(emitterRepository.findAllEventCache()).willReturn(eventCache);
+        given(emitterRepository.findAllEmitters()).willReturn(emitters);
+        sseDrainLifecycle.start();
+
+        // when
+        sseDrainLifecycle.stop();
+
+        // then
+        verify(notificationReplayRepository).saveAll(eventCache);
+        for (Map.Entry<String, SseEmitter> entry : emitters.entrySet()) {
+            verify(entry.getValue()).send(any(SseEmitter.SseEventBuilder.class));
+            verify(entry.getValue()).complete();
+            verify(emitterRepository).deleteById(entry.getKey());
+        }
+        assertTrue(sseDrainLifecycle.isDraining());
+        assertFalse(sseDrainLifecycle.isRunning());
+    }
+
+    @Test
+    public void 이벤트_저장에_실패해도_연결은_종료한다() {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        given(emitterRepository.findAllEventCache()).willReturn(Map.of("1_1", "알림"));
+        given(emitterRepository.findAllEmitters()).willReturn(Map.of("1_1", emitter));
+        willThrow(new RedisConnectionFailureException("connection refused"))
+                .given(notificationReplayRepository).saveAll(any());
+
+        // when
+        sseDrainLifecycle.stop();
+
+        // then
+        verify(emitter).complete();
+        verify(emitterRepository).deleteById("1_1");
+    }
+
+    @Test
+    public void 연결이_없으면_이벤트만_옮긴다() {
+        // given
+        given(emitterRepository.findAllEventCache()).willReturn(Map.of());
+        given(emitterRepository.findAllEmitters()).willReturn(Map.of());
+
+        // when
+        sseDrainLifecycle.stop();
+
+        // then
+        verify(notificationReplayRepository, never()).saveAll(any());
+        verify(emitterRepository, never()).deleteById(any());
+    }
+
+}
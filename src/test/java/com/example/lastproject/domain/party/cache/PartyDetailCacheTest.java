@@ -0,0 +1,201 @@
+package com.example.lastproject.domain.party.cache;
+
+import com.example.lastproject.common.enums.ErrorCode;
+import com.example.lastproject.common.exception.CustomException;
+import com.example.lastproject.domain.item.entity.Item;
+import com.example.lastproject.domain.party.dto.response.PartyDetailResponse;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+public class PartyDetailCacheTest {
+
+    private static final List<String> KEYS = List.of("party:detail:1", "party:detail:gen:1");
+
+    private PartyRepository partyRepository;
+    private ValueOperations<String, String> valueOperations;
+    private StringRedisTemplate stringRedisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private PartyDetailCache partyDetailCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        partyRepository = mock(PartyRepository.class);
+        valueOperations = mock(ValueOperations.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        meterRegistry = new SimpleMeterRegistry();
+
+        partyDetailCache = new PartyDetailCache(partyRepository, stringRedisTemplate,
+                mock(RedisMessageListenerContainer.class), meterRegistry);
+        ReflectionTestUtils.setField(partyDetailCache, "l1MaxSize", 100L);
+        ReflectionTestUtils.setField(partyDetailCache, "l1TtlMs", 60000L);
+        ReflectionTestUtils.setField(partyDetailCache, "l2TtlMs", 60000L);
+        partyDetailCache.init();
+    }
+
+    private Party party(Long id) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        LocalDateTime startTime = LocalDateTime.of(2024, 10, 1, 12, 0);
+        Party party = new Party("이마트", "서울 강남구 역삼동", new BigDecimal("37.5000000"), new BigDecimal("127.0300000"),
+                new Item("과일", "사과"), 1, "kg", startTime.format(formatter), startTime.plusHours(1).format(formatter),
+                4, 1L);
+        ReflectionTestUtils.setField(party, "id", id);
+        return party;
+    }
+
+    @Test
+    public void 처음_조회는_DB_에서_읽고_이후에는_로컬_캐시에서_반환한다() {
+        // given
+        given(partyRepository.findWithItemById(1L)).willReturn(Optional.of(party(1L)));
+
+        // when
+        PartyDetailResponse first = partyDetailCache.get(1L);
+        PartyDetailResponse second = partyDetailCache.get(1L);
+
+        // then
+        assertSame(first, second);
+        assertEquals("이마트", first.getMarketName());
+        assertEquals(1, first.getAcceptedCount());
+        verify(partyRepository, times(1)).findWithItemById(1L);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(KEYS), eq(""), anyString(), eq("60000"));
+        assertEquals(1, meterRegistry.counter("party.detail.l2", "result", "miss").count());
+    }
+
+    @Test
+    public void Redis_에_있으면_PartyDetailResponse_로_읽고_DB_를_읽지_않는다() throws Exception {
+        // given
+        PartyDetailResponse shared = new PartyDetailResponse(party(1L));
+        given(valueOperations.multiGet(KEYS))
+                .willReturn(Arrays.asList(new ObjectMapper().writeValueAsString(shared), "2"));
+
+        // when
+        PartyDetailResponse detail = partyDetailCache.get(1L);
+
+        // then
+        assertEquals(shared.toString(), detail.toString());
+        assertEquals(1, meterRegistry.counter("party.detail.l2", "result", "hit").count());
+        verifyNoInteractions(partyRepository);
+    }
+
+    @Test
+    public void DB_를_읽기_전의_세대와_함께_Redis_에_쓴다() {
+        // given
+        given(valueOperations.multiGet(KEYS)).willReturn(Arrays.asList(null, "3"));
+        given(partyRepository.findWithItemById(1L)).willReturn(Optional.of(party(1L)));
+
+        // when
+        partyDetailCache.get(1L);
+
+        // then
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("3"), json.capture(), eq("60000"));
+        assertTrue(json.getValue().contains("\"marketName\":\"이마트\""));
+    }
+
+    @Test
+    public void Redis_장애_시에도_DB_에서_조회한다() {
+        // given
+        given(valueOperations.multiGet(any())).willThrow(new RedisConnectionFailureException("connection refused"));
+        given(partyRepository.findWithItemById(1L)).willReturn(Optional.of(party(1L)));
+
+        // when
+        PartyDetailResponse detail = partyDetailCache.get(1L);
+
+        // then
+        assertEquals(1L, detail.getId());
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any());
+    }
+
+    @Test
+    public void 없는_파티는_캐시하지_않고_예외를_던진다() {
+        // given
+        given(partyRepository.findWithItemById(1L)).willReturn(Optional.empty());
+
+        // when
+        CustomException exception = assertThrows(CustomException.class, () -> partyDetailCache.get(1L));
+
+        // then
+        assertEquals(ErrorCode.PARTY_NOT_FOUND, exception.getErrorCode());
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any());
+    }
+
+    @Test
+    public void 동시에_조회해도_DB_는_한_번만_읽는다() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(partyRepository.findWithItemById(1L)).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(party(1L));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        Future<PartyDetailResponse> leader = executor.submit(() -> partyDetailCache.get(1L));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        List<Future<PartyDetailResponse>> followers = List.of(
+                executor.submit(() -> partyDetailCache.get(1L)),
+                executor.submit(() -> partyDetailCache.get(1L)),
+                executor.submit(() -> partyDetailCache.get(1L)));
+        Thread.sleep(50);
+        release.countDown();
+
+        // then
+        PartyDetailResponse detail = leader.get(5, TimeUnit.SECONDS);
+        for (Future<PartyDetailResponse> follower : followers) {
+            assertSame(detail, follower.get(5, TimeUnit.SECONDS));
+        }
+        verify(partyRepository, times(1)).findWithItemById(1L);
+        executor.shutdown();
+    }
+
+    @Test
+    public void 무효화하면_Redis_를_지우고_세대를_올린_뒤_다른_서버에_알린다() {
+        // given
+        given(partyRepository.findWithItemById(1L)).willReturn(Optional.of(party(1L)));
+        partyDetailCache.get(1L);
+
+        // when
+        partyDetailCache.evictAfterCommit(1L);
+        partyDetailCache.get(1L);
+
+        // then
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("60000"));
+        verify(stringRedisTemplate).convertAndSend("party:detail:invalidate", "1");
+        verify(partyRepository, times(2)).findWithItemById(1L);
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.example.lastproject.domain.party.ranking;
+
+import com.example.lastproject.domain.item.entity.Item;
+import com.example.lastproject.domain.item.repository.ItemRepository;
+import com.example.lastproject.domain.party.dto.response.TrendingItemResponse;
+import com.example.lastproject.domain.party.dto.response.TrendingMarketResponse;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.event.PartyCompletedEvent;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PartyRankingServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private PartyRepository partyRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @InjectMocks
+    private PartyRankingService partyRankingService;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(partyRankingService, "hourBucketTtlHours", 48L);
+        ReflectionTestUtils.setField(partyRankingService, "dayBucketTtlDays", 8L);
+    }
+
+    private Item item(Long id, String productName) {
+        Item item = new Item("과일", productName);
+        ReflectionTestUtils.setField(item, "id", id);
+        return item;
+    }
+
+    private Party party(Long id, Item item) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        LocalDateTime startTime = LocalDateTime.of(2024, 10, 1, 12, 0);
+        Party party = new Party("이마트", "서울 강남구 역삼동", new BigDecimal("37.5000000"), new BigDecimal("127.0300000"),
+                item, 1, "kg", startTime.format(formatter), startTime.plusHours(1).format(formatter), 4, 1L);
+        ReflectionTestUtils.setField(party, "id", id);
+        return party;
+    }
+
+    private Set<ZSetOperations.TypedTuple<String>> tuples(String... membersAndScores) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        for (int i = 0; i < membersAndScores.length; i += 2) {
+            tuples.add(new DefaultTypedTuple<>(membersAndScores[i], Double.valueOf(membersAndScores[i + 1])));
+        }
+        return tuples;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void 활동을_시간_버킷과_누적_랭킹에_한_번의_파이프라인으로_반영한다() {
+        // given
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+
+        // when
+        partyRankingService.record(List.of(new PartyRankingService.Signal(PartyRankingSignal.COMPLETED, party(1L, item(7L, "사과")))),
+                LocalDateTime.of(2024, 10, 1, 13, 30));
+        verify(redisTemplate).executePipelined(callback.capture());
+        callback.getValue().doInRedis(connection);
+
+        // then
+        verify(connection).sAdd("party:rank:regions", "서울:강남구");
+        verify(connection).zIncrBy("party:rank:item:서울:강남구:h:2024100113", 2, "7");
+        verify(connection).zIncrBy("party:rank:item:서울:강남구:24h", 2, "7");
+        verify(connection).zIncrBy("party:rank:item:서울:강남구:7d", 2, "7");
+        verify(connection).zIncrBy("party:rank:market:서울:강남구:h:2024100113", 2, "이마트|서울 강남구 역삼동");
+        verify(connection).expire("party:rank:item:서울:강남구:h:2024100113", 48 * 3600L);
+    }
+
+    @Test
+    public void 완료_이벤트의_파티를_한_번에_조회하여_반영한다() {
+        // given
+        given(partyRepository.findAllWithItemByIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(party(1L, item(7L, "사과")), party(2L, item(8L, "배"))));
+
+        // when
+        partyRankingService.onPartyCompleted(new PartyCompletedEvent(List.of(1L, 2L)));
+
+        // then
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    public void 인기_품목은_점수_순서대로_반환하고_삭제된_품목은_건너뛴다() {
+        // given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeWithScores("party:rank:item:서울:강남구:24h", 0, 2))
+                .willReturn(tuples("8", "5", "9", "4", "7", "3"));
+        given(itemRepository.findAllById(List.of(8L, 9L, 7L))).willReturn(List.of(item(7L, "사과"), item(8L, "배")));
+
+        // when
+        List<TrendingItemResponse> responses = partyRankingService.getTrendingItems("서울 강남구 역삼동", PartyRankingWindow.DAY, 3);
+
+        // then
+        assertEquals(2, responses.size());
+        assertEquals("배", responses.get(0).getProductName());
+        assertEquals(1, responses.get(0).getRank());
+        assertEquals(5, responses.get(0).getScore());
+        assertEquals("사과", responses.get(1).getProductName());
+        assertEquals(2, responses.get(1).getRank());
+    }
+
+    @Test
+    public void 인기_마켓은_마켓_이름과_주소로_나누어_반환한다() {
+        // given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeWithScores("party:rank:market:서울:강남구:7d", 0, 49))
+                .willReturn(tuples("이마트|서울 강남구 역삼동", "12"));
+
+        // when
+        List<TrendingMarketResponse> responses = partyRankingService.getTrendingMarkets("서울특별시 강남구", PartyRankingWindow.WEEK, 100);
+
+        // then
+        assertEquals(1, responses.size());
+        assertEquals("이마트", responses.get(0).getMarketName());
+        assertEquals("서울 강남구 역삼동", responses.get(0).getMarketAddress());
+        assertEquals(12, responses.get(0).getScore());
+    }
+
+    @Test
+    public void Redis_장애_시_빈_목록을_반환한다() {
+        // given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        List<TrendingItemResponse> responses = partyRankingService.getTrendingItems("서울 강남구", PartyRankingWindow.DAY, 10);
+
+        // then
+        assertTrue(responses.isEmpty());
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void 최근_24개_시간_버킷으로_24h_랭킹을_다시_계산한다() {
+        // given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.members("party:rank:regions")).willReturn(Set.of("서울:강남구"));
+        ArgumentCaptor<List<String>> otherKeys = ArgumentCaptor.forClass(List.class);
+
+        // when
+        partyRankingService.refreshDailyWindow(LocalDateTime.of(2024, 10, 2, 5, 1));
+
+        // then
+        verify(zSetOperations).unionAndStore(eq("party:rank:item:서울:강남구:h:2024100205"), otherKeys.capture(),
+                eq("party:rank:item:서울:강남구:24h"));
+        assertEquals(23, otherKeys.getValue().size());
+        assertEquals("party:rank:item:서울:강남구:h:2024100106", otherKeys.getValue().get(22));
+        verify(zSetOperations).unionAndStore(anyString(), anyList(), eq("party:rank:market:서울:강남구:24h"));
+    }
+
+    @Test
+    public void compaction_은_어제_버킷을_합치고_활동이_없는_지역을_뺀다() {
+        // given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(redisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.members("party:rank:regions")).willReturn(Set.of("서울:강남구", "부산:해운대구"));
+        given(zSetOperations.unionAndStore(anyString(), anyList(), anyString())).willReturn(0L);
+        given(zSetOperations.unionAndStore(eq("party:rank:item:서울:강남구:h:2024100100"), anyList(),
+                eq("party:rank:item:서울:강남구:d:20241001"))).willReturn(3L);
+        given(zSetOperations.unionAndStore(eq("party:rank:item:서울:강남구:d:20241001"), anyList(),
+                eq("party:rank:item:서울:강남구:7d"))).willReturn(3L);
+
+        // when
+        partyRankingService.compact(LocalDateTime.of(2024, 10, 2, 0, 10));
+
+        // then
+        verify(redisTemplate).expire(eq("party:rank:item:서울:강남구:d:20241001"), any());
+        verify(setOperations).remove("party:rank:regions", "부산:해운대구");
+        verify(setOperations, never()).remove("party:rank:regions", "서울:강남구");
+    }
+
+}
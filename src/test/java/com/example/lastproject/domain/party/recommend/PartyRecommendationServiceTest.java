@@ -0,0 +1,269 @@
+package com.example.lastproject.domain.party.recommend;
+
+import com.example.lastproject.domain.likeitem.dto.response.LikeItemResponse;
+import com.example.lastproject.domain.likeitem.repository.LikeItemRepository;
+import com.example.lastproject.domain.market.geo.MarketGeoIndex;
+import com.example.lastproject.domain.party.dto.response.PartyRecommendationResponse;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import com.example.lastproject.domain.user.entity.User;
+import com.example.lastproject.domain.user.enums.UserRole;
+import com.example.lastproject.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+public class PartyRecommendationServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 1, 12, 0);
+    private static final long NOW_EPOCH_SECOND = NOW.toEpochSecond(ZoneOffset.UTC);
+
+    private MarketGeoIndex marketGeoIndex;
+    private PartyRepository partyRepository;
+    private LikeItemRepository likeItemRepository;
+    private UserRepository userRepository;
+    private PartyRecommendationService partyRecommendationService;
+
+    @BeforeEach
+    public void setUp() {
+        marketGeoIndex = mock(MarketGeoIndex.class);
+        partyRepository = mock(PartyRepository.class);
+        likeItemRepository = mock(LikeItemRepository.class);
+        userRepository = mock(UserRepository.class);
+        partyRecommendationService = new PartyRecommendationService(marketGeoIndex, partyRepository, likeItemRepository,
+                userRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(partyRecommendationService, "candidateLimit", 200);
+        ReflectionTestUtils.setField(partyRecommendationService, "cacheTtlMs", 60000L);
+        ReflectionTestUtils.setField(partyRecommendationService, "cacheMaxSize", 100L);
+        partyRecommendationService.init();
+    }
+
+    private static final List<PartyStatus> ACTIVE_STATUSES = List.of(PartyStatus.OPEN, PartyStatus.JOINED);
+
+    private PartyCandidate candidate(Long partyId, Long itemId, LocalDateTime startTime, int membersCount,
+                                     int acceptedCount, PartyStatus partyStatus) {
+        return candidate(partyId, 1L, itemId, startTime, membersCount, acceptedCount, partyStatus);
+    }
+
+    private PartyCandidate candidate(Long partyId, Long marketId, Long itemId, LocalDateTime startTime, int membersCount,
+                                     int acceptedCount, PartyStatus partyStatus) {
+        return new PartyCandidate(partyId, marketId, itemId, "이마트", "서울 강남구 역삼동", startTime, membersCount,
+                acceptedCount, partyStatus);
+    }
+
+    private GeoResults<RedisGeoCommands.GeoLocation<String>> geoResults(Object... idsAndDistances) {
+        List<GeoResult<RedisGeoCommands.GeoLocation<String>>> results = new ArrayList<>();
+        for (int i = 0; i < idsAndDistances.length; i += 2) {
+            results.add(new GeoResult<>(
+                    new RedisGeoCommands.GeoLocation<>(String.valueOf(idsAndDistances[i]), new Point(127.03, 37.5)),
+                    new Distance((Double) idsAndDistances[i + 1], Metrics.KILOMETERS)));
+        }
+        return new GeoResults<>(results);
+    }
+
+    private void givenUser() {
+        User user = new User("user@test.com", "password", "user", "서울 강남구 역삼동",
+                new BigDecimal("37.5000000"), new BigDecimal("127.0300000"), UserRole.ROLE_USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+    }
+
+    @Test
+    public void 즐겨찾기_품목_파티를_더_먼_거리에서도_먼저_추천한다() {
+        // given
+        PartyCandidate[] candidates = {
+                candidate(1L, 10L, NOW.plusHours(2), 4, 1, PartyStatus.OPEN),
+                candidate(2L, 20L, NOW.plusHours(2), 4, 1, PartyStatus.OPEN)
+        };
+        double[] distances = {1.0, 5.0};
+
+        // when
+        List<PartyRecommendationResponse> responses =
+                PartyRecommendationService.rank(candidates, distances, new long[]{20L}, NOW_EPOCH_SECOND);
+
+        // then
+        assertEquals(2, responses.size());
+        assertEquals(2L, responses.get(0).getPartyId());
+        assertTrue(responses.get(0).isBookmarked());
+        assertEquals(1L, responses.get(1).getPartyId());
+    }
+
+    @Test
+    public void 모집_중이_아니거나_자리가_없는_파티는_추천하지_않는다() {
+        // given
+        PartyCandidate[] candidates = {
+                candidate(1L, 10L, NOW.plusHours(2), 4, 4, PartyStatus.OPEN),
+                candidate(2L, 10L, NOW.plusHours(2), 4, 4, PartyStatus.JOINED),
+                null,
+                candidate(4L, 10L, NOW.plusHours(2), 4, 2, PartyStatus.OPEN)
+        };
+        double[] distances = {1.0, 1.0, 1.0, 2.0};
+
+        // when
+        List<PartyRecommendationResponse> responses =
+                PartyRecommendationService.rank(candidates, distances, new long[0], NOW_EPOCH_SECOND);
+
+        // then
+        assertEquals(1, responses.size());
+        assertEquals(4L, responses.get(0).getPartyId());
+        assertEquals(2, responses.get(0).getRemainingSeats());
+    }
+
+    @Test
+    public void 후보가_많으면_점수가_높은_순서로_최대_개수만_반환한다() {
+        // given
+        int count = 100;
+        PartyCandidate[] candidates = new PartyCandidate[count];
+        double[] distances = new double[count];
+        for (int i = 0; i < count; i++) {
+            // 뒤로 갈수록 가까운 후보
+            candidates[i] = candidate((long) i, 10L, NOW.plusHours(2), 4, 1, PartyStatus.OPEN);
+            distances[i] = (count - i) * 0.09;
+        }
+
+        // when
+        List<PartyRecommendationResponse> responses =
+                PartyRecommendationService.rank(candidates, distances, new long[0], NOW_EPOCH_SECOND);
+
+        // then
+        assertEquals(PartyRecommendationService.MAX_SIZE, responses.size());
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals((long) (count - 1 - i), responses.get(i).getPartyId());
+        }
+    }
+
+    @Test
+    public void 점수가_같으면_가까운_파티를_먼저_추천한다() {
+        // given
+        PartyCandidate[] candidates = new PartyCandidate[30];
+        double[] distances = new double[30];
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = candidate((long) i, 10L, NOW.plusHours(2), 4, 1, PartyStatus.OPEN);
+            distances[i] = 1.0;
+        }
+
+        // when
+        List<PartyRecommendationResponse> responses =
+                PartyRecommendationService.rank(candidates, distances, new long[0], NOW_EPOCH_SECOND);
+
+        // then
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals((long) i, responses.get(i).getPartyId());
+        }
+    }
+
+    @Test
+    public void 추천_결과는_사용자별로_캐시한다() {
+        // given
+        givenUser();
+        given(marketGeoIndex.search(any(), any(), anyDouble(), anyInt())).willReturn(geoResults(1L, 1.0));
+        given(partyRepository.findCandidatesByMarketIdIn(List.of(1L), ACTIVE_STATUSES))
+                .willReturn(List.of(candidate(1L, 10L, LocalDateTime.now().plusHours(2), 4, 1, PartyStatus.OPEN)));
+        given(likeItemRepository.getBookmarkedItems(1L)).willReturn(List.of(new LikeItemResponse(10L, "과일", "사과")));
+
+        // when
+        List<PartyRecommendationResponse> first = partyRecommendationService.recommend(1L, 10);
+        List<PartyRecommendationResponse> second = partyRecommendationService.recommend(1L, 10);
+
+        // then
+        assertEquals(1, first.size());
+        assertEquals(first, second);
+        verify(marketGeoIndex, times(1)).search(any(), any(), anyDouble(), anyInt());
+        verify(partyRepository, times(1)).findCandidatesByMarketIdIn(any(), any());
+    }
+
+    @Test
+    public void 가까운_마켓의_파티를_마켓_거리로_추천한다() {
+        // given
+        givenUser();
+        given(marketGeoIndex.search(any(), any(), anyDouble(), anyInt())).willReturn(geoResults(1L, 1.0, 2L, 4.0));
+        given(partyRepository.findCandidatesByMarketIdIn(List.of(1L, 2L), ACTIVE_STATUSES)).willReturn(List.of(
+                candidate(3L, 2L, 10L, LocalDateTime.now().plusHours(2), 4, 1, PartyStatus.OPEN),
+                candidate(1L, 1L, 10L, LocalDateTime.now().plusHours(2), 4, 1, PartyStatus.OPEN),
+                candidate(2L, 1L, 10L, LocalDateTime.now().plusHours(2), 4, 4, PartyStatus.JOINED)));
+
+        // when
+        List<PartyRecommendationResponse> responses = partyRecommendationService.recommend(1L, 10);
+
+        // then
+        assertEquals(2, responses.size());
+        assertEquals(1L, responses.get(0).getPartyId());
+        assertEquals("1.0km", responses.get(0).getLocationRange());
+        assertEquals(3L, responses.get(1).getPartyId());
+        assertEquals("4.0km", responses.get(1).getLocationRange());
+        verify(marketGeoIndex, never()).remove(any(), anyLong());
+    }
+
+    @Test
+    public void 진행_중인_파티가_없는_마켓은_확인_시각_이전에_추가된_경우에만_지운다() {
+        // given
+        givenUser();
+        given(marketGeoIndex.now()).willReturn(1000L);
+        given(marketGeoIndex.search(any(), any(), anyDouble(), anyInt())).willReturn(geoResults(1L, 1.0, 2L, 2.0, 3L, 3.0));
+        given(partyRepository.findCandidatesByMarketIdIn(List.of(1L, 2L, 3L), ACTIVE_STATUSES)).willReturn(List.of(
+                candidate(1L, 1L, 10L, LocalDateTime.now().plusHours(2), 4, 4, PartyStatus.JOINED),
+                candidate(3L, 3L, 10L, LocalDateTime.now().plusHours(2), 4, 1, PartyStatus.OPEN)));
+
+        // when
+        List<PartyRecommendationResponse> responses = partyRecommendationService.recommend(1L, 10);
+
+        // then
+        assertEquals(1, responses.size());
+        assertEquals(3L, responses.get(0).getPartyId());
+        verify(marketGeoIndex).remove(List.of(2L), 1000L);
+    }
+
+    @Test
+    public void 확인_시각을_구하지_못하면_공간_인덱스에서_지우지_않는다() {
+        // given
+        givenUser();
+        given(marketGeoIndex.search(any(), any(), anyDouble(), anyInt())).willReturn(geoResults(1L, 1.0));
+        given(marketGeoIndex.now()).willReturn(null);
+        given(partyRepository.findCandidatesByMarketIdIn(List.of(1L), ACTIVE_STATUSES)).willReturn(List.of());
+
+        // when
+        List<PartyRecommendationResponse> responses = partyRecommendationService.recommend(1L, 10);
+
+        // then
+        assertTrue(responses.isEmpty());
+        verify(marketGeoIndex, never()).remove(any(), anyLong());
+    }
+
+    @Test
+    public void 공간_인덱스_장애_시_빈_목록을_반환하고_캐시하지_않는다() {
+        // given
+        givenUser();
+        given(marketGeoIndex.search(any(), any(), anyDouble(), anyInt())).willReturn(null);
+
+        // when
+        List<PartyRecommendationResponse> first = partyRecommendationService.recommend(1L, 10);
+        partyRecommendationService.recommend(1L, 10);
+
+        // then
+        assertTrue(first.isEmpty());
+        verify(marketGeoIndex, times(2)).search(any(), any(), anyDouble(), anyInt());
+        verifyNoInteractions(partyRepository);
+    }
+
+}
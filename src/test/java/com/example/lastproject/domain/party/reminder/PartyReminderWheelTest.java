@@ -0,0 +1,79 @@
+package com.example.lastproject.domain.party.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PartyReminderWheelTest {
+
+    private static final long TICK_MS = 1000L;
+
+    @Test
+    public void 발송_시각이_지난_tick_에서만_예약을_꺼낸다() {
+        // given
+        PartyReminderWheel wheel = new PartyReminderWheel(TICK_MS, 60);
+        long now = System.currentTimeMillis();
+        wheel.schedule(1L, now + 2_000);
+        wheel.schedule(2L, now + 5_000);
+
+        // when
+        List<Long> early = wheel.advance(now + 1_000);
+        List<Long> due = wheel.advance(now + 3_500);
+
+        // then
+        assertTrue(early.isEmpty());
+        assertEquals(List.of(1L), due);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void 휠_한_바퀴보다_먼_예약은_다음_바퀴까지_남겨둔다() {
+        // given
+        PartyReminderWheel wheel = new PartyReminderWheel(TICK_MS, 10);
+        long now = System.currentTimeMillis();
+        wheel.schedule(1L, now + 15_000);
+
+        // when
+        List<Long> firstRound = wheel.advance(now + 9_000);
+        List<Long> secondRound = wheel.advance(now + 17_000);
+
+        // then
+        assertTrue(firstRound.isEmpty());
+        assertEquals(List.of(1L), secondRound);
+    }
+
+    @Test
+    public void 다시_예약하거나_취소하면_이전_예약은_발송되지_않는다() {
+        // given
+        PartyReminderWheel wheel = new PartyReminderWheel(TICK_MS, 60);
+        long now = System.currentTimeMillis();
+        wheel.schedule(1L, now + 2_000);
+        wheel.schedule(1L, now + 20_000);
+        wheel.schedule(2L, now + 2_000);
+        wheel.cancel(2L);
+
+        // when
+        List<Long> due = wheel.advance(now + 5_000);
+
+        // then
+        assertTrue(due.isEmpty());
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void 이미_지난_예약은_다음_tick_에_발송한다() {
+        // given
+        PartyReminderWheel wheel = new PartyReminderWheel(TICK_MS, 60);
+        long now = System.currentTimeMillis();
+        wheel.schedule(1L, now - 60_000);
+
+        // when
+        List<Long> due = wheel.advance(now + TICK_MS);
+
+        // then
+        assertEquals(List.of(1L), due);
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.example.lastproject.domain.party.repository;
+
+import com.example.lastproject.config.PersistenceConfig;
+import com.example.lastproject.config.QueryDslConfig;
+import com.example.lastproject.domain.item.entity.Item;
+import com.example.lastproject.domain.item.repository.ItemRepository;
+import com.example.lastproject.domain.party.dto.response.PartyResponse;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.partymember.entity.PartyMember;
+import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
+import com.example.lastproject.domain.partymember.enums.PartyMemberRole;
+import com.example.lastproject.domain.partymember.repository.PartyMemberRepository;
+import com.example.lastproject.domain.user.entity.User;
+import com.example.lastproject.domain.user.enums.UserRole;
+import com.example.lastproject.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+public class PartyQueryRepositoryImplTest {
+
+    @Autowired
+    private PartyRepository partyRepository;
+
+    @Autowired
+    private PartyMemberRepository partyMemberRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User leader;
+    private User member;
+    private Item item;
+
+    @BeforeEach
+    public void setUp() {
+        leader = userRepository.save(new User("leader@test.com", "password", "leader", "서울 강남구",
+                new BigDecimal("37.5"), new BigDecimal("127.0"), UserRole.ROLE_USER));
+        member = userRepository.save(new User("member@test.com", "password", "member", "서울 강남구",
+                new BigDecimal("37.5"), new BigDecimal("127.0"), UserRole.ROLE_USER));
+        item = itemRepository.save(new Item("과일", "사과"));
+    }
+
+    private Party saveParty(User creator) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        Party party = partyRepository.save(new Party(
+                "이마트", "서울 강남구 역삼동", new BigDecimal("37.5"), new BigDecimal("127.0"),
+                item, 1, "kg", startTime.format(formatter), startTime.plusHours(1).format(formatter),
+                3, creator.getId()));
+        partyMemberRepository.save(new PartyMember(creator, party, PartyMemberRole.LEADER, PartyMemberInviteStatus.ACCEPTED));
+        return party;
+    }
+
+    @Test
+    public void 생성한_파티와_신청한_파티를_역할과_함께_한_번씩만_조회한다() {
+        // given
+        Party created = saveParty(member);
+        Party joined = saveParty(leader);
+        partyMemberRepository.save(new PartyMember(member, joined, PartyMemberRole.MEMBER));
+        saveParty(leader);
+
+        // when
+        List<PartyResponse> parties = partyRepository.findMyParties(member.getId(), null, 10);
+
+        // then
+        assertEquals(2, parties.size());
+        assertEquals(joined.getId(), parties.get(0).getId());
+        assertEquals("Member", parties.get(0).getRole());
+        assertEquals(created.getId(), parties.get(1).getId());
+        assertEquals("Leader", parties.get(1).getRole());
+        assertEquals("과일", parties.get(1).getCategory());
+    }
+
+    @Test
+    public void 마지막_파티_ID_이후의_파티를_페이지_크기만큼_조회한다() {
+        // given
+        Party first = saveParty(member);
+        Party second = saveParty(member);
+        Party third = saveParty(member);
+
+        // when
+        List<PartyResponse> firstPage = partyRepository.findMyParties(member.getId(), null, 2);
+        List<PartyResponse> secondPage = partyRepository.findMyParties(member.getId(), firstPage.get(1).getId(), 2);
+
+        // then
+        assertEquals(List.of(third.getId(), second.getId()), firstPage.stream().map(PartyResponse::getId).toList());
+        assertEquals(List.of(first.getId()), secondPage.stream().map(PartyResponse::getId).toList());
+    }
+
+}
@@ -0,0 +1,220 @@
+package com.example.lastproject.domain.party.repository;
+
+import com.example.lastproject.config.PersistenceConfig;
+import com.example.lastproject.config.QueryDslConfig;
+import com.example.lastproject.domain.item.entity.Item;
+import com.example.lastproject.domain.item.repository.ItemRepository;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.partymember.entity.PartyMember;
+import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
+import com.example.lastproject.domain.partymember.enums.PartyMemberRole;
+import com.example.lastproject.domain.partymember.repository.PartyMemberRepository;
+import com.example.lastproject.domain.user.entity.User;
+import com.example.lastproject.domain.user.enums.UserRole;
+import com.example.lastproject.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PartySeatConcurrencyTest {
+
+    @Autowired
+    private PartyRepository partyRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PartyMemberRepository partyMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    public void tearDown() {
+        partyMemberRepository.deleteAll();
+        userRepository.deleteAll();
+        partyRepository.deleteAll();
+        itemRepository.deleteAll();
+    }
+
+    private Party saveParty(int membersCount) {
+        Item item = itemRepository.save(new Item("과일", "사과"));
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        return partyRepository.save(new Party(
+                "이마트", "서울 강남구 역삼동", new BigDecimal("37.5000000"), new BigDecimal("127.0300000"),
+                item, 1, "kg", startTime.format(formatter), startTime.plusHours(1).format(formatter),
+                membersCount, 1L));
+    }
+
+    @Test
+    public void 동시에_승인해도_정원을_넘지_않고_마지막_좌석에서_모집이_완료된다() throws InterruptedException {
+        // given
+        int membersCount = 5;
+        int requests = 30;
+        Long partyId = saveParty(membersCount).getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicInteger reserved = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < requests; i++) {
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    Integer updated = transactionTemplate.execute(status -> partyRepository.reserveSeat(partyId));
+                    if (updated != null && updated == 1) {
+                        reserved.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        Party party = partyRepository.findById(partyId).orElseThrow();
+        assertEquals(membersCount - 1, reserved.get());
+        assertEquals(membersCount, party.getAcceptedCount());
+        assertEquals(PartyStatus.JOINED, party.getPartyStatus());
+    }
+
+    @Test
+    public void 좌석을_반납하면_다시_모집_중이_되고_파티장_좌석은_반납되지_않는다() {
+        // given
+        Long partyId = saveParty(2).getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.execute(status -> partyRepository.reserveSeat(partyId));
+
+        // when
+        Integer firstRelease = transactionTemplate.execute(status -> partyRepository.releaseSeat(partyId));
+        Integer secondRelease = transactionTemplate.execute(status -> partyRepository.releaseSeat(partyId));
+
+        // then
+        Party party = partyRepository.findById(partyId).orElseThrow();
+        assertEquals(1, firstRelease);
+        assertEquals(0, secondRelease);
+        assertEquals(1, party.getAcceptedCount());
+        assertEquals(PartyStatus.OPEN, party.getPartyStatus());
+    }
+
+    @Test
+    public void 여러_승인을_한_번에_반영하면_정원을_넘는_요청은_전부_거절된다() {
+        // given
+        Long partyId = saveParty(4).getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        Integer overCapacity = transactionTemplate.execute(status -> partyRepository.adjustSeats(partyId, 4));
+        Integer fill = transactionTemplate.execute(status -> partyRepository.adjustSeats(partyId, 3));
+        Party joined = partyRepository.findById(partyId).orElseThrow();
+        Integer release = transactionTemplate.execute(status -> partyRepository.adjustSeats(partyId, -2));
+
+        // then
+        Party party = partyRepository.findById(partyId).orElseThrow();
+        assertEquals(0, overCapacity);
+        assertEquals(1, fill);
+        assertEquals(PartyStatus.JOINED, joined.getPartyStatus());
+        assertEquals(1, release);
+        assertEquals(2, party.getAcceptedCount());
+        assertEquals(PartyStatus.OPEN, party.getPartyStatus());
+    }
+
+    @Test
+    public void 정원을_바꾸면_승인_인원에_맞춰_모집_상태를_다시_계산한다() {
+        // given
+        Long partyId = saveParty(2).getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.execute(status -> partyRepository.reserveSeat(partyId));
+
+        // when : 모집 완료된 파티의 정원을 늘림
+        transactionTemplate.executeWithoutResult(status -> updateMembersCount(partyId, 4));
+        PartyStatus raised = partyRepository.findById(partyId).orElseThrow().getPartyStatus();
+        Integer reserved = transactionTemplate.execute(status -> partyRepository.reserveSeat(partyId));
+
+        // when : 정원을 승인 인원까지 줄임
+        transactionTemplate.executeWithoutResult(status -> updateMembersCount(partyId, 3));
+
+        // then
+        Party party = partyRepository.findById(partyId).orElseThrow();
+        assertEquals(PartyStatus.OPEN, raised);
+        assertEquals(1, reserved);
+        assertEquals(3, party.getAcceptedCount());
+        assertEquals(PartyStatus.JOINED, party.getPartyStatus());
+    }
+
+    @Test
+    public void 승인_인원_컬럼_도입_이전_파티는_승인된_파티_멤버_수로_채우고_모집_상태를_다시_계산한다() {
+        // given : 컬럼 기본값 1 로 시작한 파티
+        Party full = saveParty(3);
+        Party open = saveParty(5);
+        saveMember(full, 1, PartyMemberRole.LEADER, PartyMemberInviteStatus.ACCEPTED);
+        saveMember(full, 2, PartyMemberRole.MEMBER, PartyMemberInviteStatus.ACCEPTED);
+        saveMember(full, 3, PartyMemberRole.MEMBER, PartyMemberInviteStatus.ACCEPTED);
+        saveMember(full, 4, PartyMemberRole.MEMBER, PartyMemberInviteStatus.PENDING);
+        saveMember(open, 5, PartyMemberRole.LEADER, PartyMemberInviteStatus.ACCEPTED);
+        saveMember(open, 6, PartyMemberRole.MEMBER, PartyMemberInviteStatus.ACCEPTED);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        Integer updated = transactionTemplate.execute(status -> partyRepository.backfillAcceptedCount(0L, partyRepository.findMaxId()));
+        Integer again = transactionTemplate.execute(status -> partyRepository.backfillAcceptedCount(0L, partyRepository.findMaxId()));
+
+        // then
+        Party backfilledFull = partyRepository.findById(full.getId()).orElseThrow();
+        Party backfilledOpen = partyRepository.findById(open.getId()).orElseThrow();
+        assertEquals(2, updated);
+        assertEquals(0, again);
+        assertEquals(3, backfilledFull.getAcceptedCount());
+        assertEquals(PartyStatus.JOINED, backfilledFull.getPartyStatus());
+        assertEquals(2, backfilledOpen.getAcceptedCount());
+        assertEquals(PartyStatus.OPEN, backfilledOpen.getPartyStatus());
+        assertEquals(0, transactionTemplate.execute(status -> partyRepository.reserveSeat(full.getId())));
+    }
+
+    private void saveMember(Party party, int index, PartyMemberRole role, PartyMemberInviteStatus inviteStatus) {
+        User user = userRepository.save(new User("user" + index + "@test.com", "password", "user" + index,
+                "서울 강남구 역삼동", new BigDecimal("37.5000000"), new BigDecimal("127.0300000"), UserRole.ROLE_USER));
+        partyMemberRepository.save(new PartyMember(user, party, role, inviteStatus));
+    }
+
+    private void updateMembersCount(Long partyId, int membersCount) {
+        Party party = partyRepository.findById(partyId).orElseThrow();
+        party.updateDetails(party.getItem(), party.getItemCount(), party.getItemUnit(),
+                party.getStartTime(), party.getEndTime(), membersCount);
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.example.lastproject.domain.party.service;
+
+import com.example.lastproject.domain.party.cache.PartyDetailCache;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.enums.PartyReminderStatus;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.party.repository.PartyReminderRepository;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class PartyExpiryServiceTest {
+
+    @Mock
+    private PartyRepository partyRepository;
+
+    @Mock
+    private PartyReminderRepository partyReminderRepository;
+
+    @Mock
+    private PartyDetailCache partyDetailCache;
+
+    @InjectMocks
+    private PartyExpiryService partyExpiryService;
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 10, 1, 12, 0);
+
+    private Party party(Long id, LocalDateTime endTime) {
+        Party party = new Party();
+        ReflectionTestUtils.setField(party, "id", id);
+        ReflectionTestUtils.setField(party, "endTime", endTime);
+        return party;
+    }
+
+    @Test
+    public void 모집_중에_끝난_파티를_한_번에_취소하고_알림_예약도_취소한다() {
+        // given
+        List<Party> parties = List.of(party(1L, now.minusHours(2)), party(2L, now.minusHours(1)));
+        given(partyRepository.findExpiredChunk(eq(PartyStatus.OPEN), eq(now), any(), eq(0L), any(Pageable.class)))
+                .willReturn(parties);
+        given(partyRepository.updateExpiredStatus(List.of(1L, 2L), PartyStatus.OPEN, PartyStatus.CANCELED, now))
+                .willReturn(2);
+
+        // when
+        PartyExpiryService.Chunk chunk = partyExpiryService.expireChunk(
+                PartyStatus.OPEN, PartyStatus.CANCELED, now, PartyExpiryService.FIRST_END_TIME, 0L, 2);
+
+        // then
+        assertEquals(parties, chunk.getParties());
+        assertEquals(2L, chunk.getLastId());
+        assertEquals(now.minusHours(1), chunk.getLastEndTime());
+        assertTrue(chunk.isHasNext());
+        verify(partyReminderRepository).updateScheduledStatus(List.of(1L, 2L), PartyReminderStatus.CANCELED);
+    }
+
+    @Test
+    public void 조회_이후_상태가_바뀐_파티는_결과에서_제외한다() {
+        // given
+        List<Party> parties = List.of(party(1L, now.minusHours(2)), party(2L, now.minusHours(1)));
+        given(partyRepository.findExpiredChunk(eq(PartyStatus.JOINED), eq(now), any(), eq(0L), any(Pageable.class)))
+                .willReturn(parties);
+        given(partyRepository.updateExpiredStatus(List.of(1L, 2L), PartyStatus.JOINED, PartyStatus.DONE, now))
+                .willReturn(1);
+        given(partyRepository.findIdsByIdInAndPartyStatus(List.of(1L, 2L), PartyStatus.DONE)).willReturn(List.of(2L));
+
+        // when
+        PartyExpiryService.Chunk chunk = partyExpiryService.expireChunk(
+                PartyStatus.JOINED, PartyStatus.DONE, now, PartyExpiryService.FIRST_END_TIME, 0L, 10);
+
+        // then
+        assertEquals(1, chunk.getParties().size());
+        assertEquals(2L, chunk.getParties().get(0).getId());
+        assertFalse(chunk.isHasNext());
+        verify(partyDetailCache).evictAfterCommit(List.of(2L));
+        verify(partyReminderRepository, never()).updateScheduledStatus(anyList(), any());
+    }
+
+    @Test
+    public void 더_이상_끝난_파티가_없으면_빈_chunk_를_반환한다() {
+        // given
+        given(partyRepository.findExpiredChunk(any(), any(), any(), any(), any(Pageable.class))).willReturn(List.of());
+
+        // when
+        PartyExpiryService.Chunk chunk = partyExpiryService.expireChunk(
+                PartyStatus.OPEN, PartyStatus.CANCELED, now, PartyExpiryService.FIRST_END_TIME, 0L, 10);
+
+        // then
+        assertTrue(chunk.getParties().isEmpty());
+        assertFalse(chunk.isHasNext());
+        verify(partyRepository, never()).updateExpiredStatus(anyList(), any(), any(), any());
+    }
+
+}
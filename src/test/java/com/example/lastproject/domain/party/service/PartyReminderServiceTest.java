@@ -0,0 +1,113 @@
+package com.example.lastproject.domain.party.service;
+
+import com.example.lastproject.config.PersistenceConfig;
+import com.example.lastproject.config.QueryDslConfig;
+import com.example.lastproject.domain.item.entity.Item;
+import com.example.lastproject.domain.item.repository.ItemRepository;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.entity.PartyReminder;
+import com.example.lastproject.domain.party.enums.PartyReminderStatus;
+import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.party.reminder.PartyReminderWheel;
+import com.example.lastproject.domain.party.repository.PartyReminderRepository;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, PersistenceConfig.class, PartyReminderService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PartyReminderServiceTest {
+
+    @Autowired
+    private PartyReminderService partyReminderService;
+
+    @Autowired
+    private PartyRepository partyRepository;
+
+    @Autowired
+    private PartyReminderRepository partyReminderRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private PartyReminderWheel partyReminderWheel;
+
+    @AfterEach
+    public void tearDown() {
+        partyReminderRepository.deleteAll();
+        partyRepository.deleteAll();
+        itemRepository.deleteAll();
+    }
+
+    private Party saveParty() {
+        Item item = itemRepository.save(new Item("과일", "사과"));
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        LocalDateTime startTime = LocalDateTime.now().plusHours(2);
+        return partyRepository.save(new Party(
+                "이마트", "서울 강남구 역삼동", new BigDecimal("37.5000000"), new BigDecimal("127.0300000"),
+                item, 1, "kg", startTime.format(formatter), startTime.plusHours(1).format(formatter),
+                4, 1L));
+    }
+
+    @Test
+    public void 파티_취소와_알림_예약_취소를_한_트랜잭션에서_하면_둘_다_반영된다() {
+        // given
+        Party saved = saveParty();
+        Long partyId = saved.getId();
+        partyReminderRepository.save(new PartyReminder(partyId, saved.getStartTime().minusMinutes(30)));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when (PartyService.cancelParty 와 같은 순서)
+        transactionTemplate.executeWithoutResult(status -> {
+            Party party = partyRepository.findById(partyId).orElseThrow();
+            party.cancelParty();
+            partyReminderService.cancel(partyId);
+        });
+
+        // then
+        assertEquals(PartyStatus.CANCELED, partyRepository.findById(partyId).orElseThrow().getPartyStatus());
+        assertEquals(PartyReminderStatus.CANCELED, partyReminderRepository.findByPartyId(partyId).orElseThrow().getStatus());
+        verify(partyReminderWheel).cancel(partyId);
+    }
+
+    @Test
+    public void 트랜잭션이_롤백되면_휠의_예약은_그대로_둔다() {
+        // given
+        Party saved = saveParty();
+        Long partyId = saved.getId();
+        partyReminderRepository.save(new PartyReminder(partyId, saved.getStartTime().minusMinutes(30)));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            partyReminderService.cancel(partyId);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertEquals(PartyReminderStatus.SCHEDULED, partyReminderRepository.findByPartyId(partyId).orElseThrow().getStatus());
+        verifyNoInteractions(partyReminderWheel);
+    }
+
+}
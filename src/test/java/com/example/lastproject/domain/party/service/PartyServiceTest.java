@@ -1,20 +1,30 @@
 package com.example.lastproject.domain.party.service;
 
 import com.example.lastproject.common.dto.AuthUser;
+import com.example.lastproject.common.enums.ErrorCode;
 import com.example.lastproject.common.exception.CustomException;
 import com.example.lastproject.domain.item.entity.Item;
 import com.example.lastproject.domain.item.repository.ItemRepository;
+import com.example.lastproject.domain.market.entity.Market;
+import com.example.lastproject.domain.market.geo.MarketGeoIndex;
+import com.example.lastproject.domain.market.service.MarketService;
 import com.example.lastproject.domain.party.dto.request.PartyCreateRequest;
 import com.example.lastproject.domain.party.dto.request.PartyUpdateRequest;
 import com.example.lastproject.domain.party.dto.response.PartyResponse;
+import com.example.lastproject.domain.party.cache.PartyDetailCache;
 import com.example.lastproject.domain.party.entity.Party;
 import com.example.lastproject.domain.party.enums.PartyStatus;
+import com.example.lastproject.domain.party.ranking.PartyRankingService;
+import com.example.lastproject.domain.party.recommend.PartyRecommendationService;
 import com.example.lastproject.domain.party.repository.PartyRepository;
+import com.example.lastproject.domain.partymember.dto.request.PartyMemberUpdateRequest;
 import com.example.lastproject.domain.partymember.dto.response.PartyMemberResponse;
 import com.example.lastproject.domain.partymember.entity.PartyMember;
 import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
 import com.example.lastproject.domain.partymember.enums.PartyMemberRole;
 import com.example.lastproject.domain.partymember.repository.PartyMemberRepository;
+import com.example.lastproject.domain.partymember.service.PartyMembershipCache;
+import com.example.lastproject.domain.partymember.service.PartyWaitlistService;
 import com.example.lastproject.domain.user.entity.User;
 import com.example.lastproject.domain.user.enums.UserRole;
 import com.example.lastproject.domain.user.repository.UserRepository;
@@ -25,6 +35,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -36,6 +50,9 @@ import java.util.Optional;
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,6 +73,33 @@ class PartyServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PartyReminderService partyReminderService;
+
+    @Mock
+    private PartyMembershipCache partyMembershipCache;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private PartyDetailCache partyDetailCache;
+
+    @Mock
+    private PartyWaitlistService partyWaitlistService;
+
+    @Mock
+    private PartyRankingService partyRankingService;
+
+    @Mock
+    private MarketService marketService;
+
+    @Mock
+    private MarketGeoIndex marketGeoIndex;
+
+    @Mock
+    private PartyRecommendationService partyRecommendationService;
+
     private AuthUser authUser;
     private PartyCreateRequest partyCreateRequest;
     private PartyUpdateRequest partyUpdateRequest;
@@ -100,6 +144,8 @@ class PartyServiceTest {
     // 파티 생성 성공
     @Test
     void createParty_success() {
+        Market market = new Market("이마트", "마켓 주소", new BigDecimal("37.5665"), new BigDecimal("126.9780"));
+        when(marketService.findOrCreate(any(), any(), any(), any())).thenReturn(market);
         when(partyRepository.save(any())).thenReturn(party);
 
         PartyResponse response = partyService.createParty(partyCreateRequest, authUser);
@@ -108,6 +154,7 @@ class PartyServiceTest {
         assertEquals("이마트", response.getMarketName());
         verify(partyRepository).save(any());
         verify(partyMemberRepository).save(any());
+        verify(marketGeoIndex).addAfterCommit(market);
     }
 
     // 파티 수정 성공
@@ -178,21 +225,31 @@ class PartyServiceTest {
 
         // Mocking repository 호출
         when(partyRepository.findByIdAndCreatorId(1L, user.getId())).thenReturn(Optional.of(party));
-        when(partyMemberRepository.findByPartyId(1L)).thenReturn(Collections.singletonList(
-                new PartyMember(user, party, PartyMemberRole.MEMBER, PartyMemberInviteStatus.ACCEPTED)));
+        when(partyMemberRepository.findPartyMembers(1L, PartyMemberInviteStatus.ACCEPTED, null, 50)).thenReturn(Collections.singletonList(
+                new PartyMemberResponse(new PartyMember(user, party, PartyMemberRole.MEMBER, PartyMemberInviteStatus.ACCEPTED))));
 
         // 파티 멤버 목록 가져오기
-        List<PartyMemberResponse> members = partyService.getMembersAfterPartyClosed(1L, authUser);
+        List<PartyMemberResponse> members = partyService.getMembersAfterPartyClosed(1L, authUser, null, 50);
 
         // 결과 확인
         assertEquals(1, members.size());
     }
 
+    // 내 파티 목록 조회 시 페이지 크기는 MAX_SIZE 로 제한
+    @Test
+    void getMyParties_clampsSize() {
+        when(partyRepository.findMyParties(authUser.getUserId(), null, PartyService.MAX_SIZE)).thenReturn(Collections.emptyList());
+
+        List<PartyResponse> parties = partyService.getMyParties(authUser, null, 10_000);
+
+        assertTrue(parties.isEmpty());
+        verify(partyRepository).findMyParties(authUser.getUserId(), null, PartyService.MAX_SIZE);
+    }
+
     // 유저가 파티에 참여 중인지 확인 성공
     @Test
     void isUserInParty_success() {
-        when(partyRepository.findById(1L)).thenReturn(Optional.of(party));
-        when(partyMemberRepository.findByPartyIdAndUserId(1L, user.getId())).thenReturn(Optional.of(new PartyMember()));
+        when(partyMembershipCache.isMember(1L, authUser.getUserId())).thenReturn(true);
 
         boolean result = partyService.isUserInParty(1L, authUser);
 
@@ -219,4 +276,117 @@ class PartyServiceTest {
         assertThrows(CustomException.class, () -> partyService.cancelParty(1L));
     }
 
+    // 참가 신청 처리 중 다른 요청이 신청 상태를 먼저 바꾼 경우 충돌 예외로 재시도
+    @Test
+    void handleJoinRequest_concurrentChange() {
+        PartyMember applicant = partyMember(10L, 2L, PartyMemberInviteStatus.WAITLISTED);
+        when(partyRepository.findByIdAndCreatorId(1L, authUser.getUserId())).thenReturn(Optional.of(party));
+        when(partyMembershipCache.isMember(1L, 2L)).thenReturn(true);
+        when(partyMemberRepository.findByPartyIdAndUserId(1L, 2L)).thenReturn(Optional.of(applicant));
+        when(partyMemberRepository.updateInviteStatus(10L, PartyMemberInviteStatus.WAITLISTED, PartyMemberInviteStatus.REJECTED))
+                .thenReturn(0);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> partyService.handleJoinRequest(
+                1L, authUser, new PartyMemberUpdateRequest(2L, PartyMemberInviteStatus.REJECTED)));
+        verify(partyMembershipCache, never()).putAfterCommit(any(), any(), any());
+        verify(partyWaitlistService, never()).removeAfterCommit(any(), any());
+    }
+
+    // 여러 참가 신청 처리 시 같은 사용자의 요청은 마지막 결정만 반영
+    @Test
+    void handleJoinRequests_duplicateUserKeepsLastDecision() {
+        PartyMember applicant = partyMember(10L, 2L, PartyMemberInviteStatus.PENDING);
+        when(partyRepository.findByIdAndCreatorId(1L, authUser.getUserId())).thenReturn(Optional.of(party));
+        when(partyMemberRepository.findByPartyIdAndUserIdInAndRole(eq(1L), any(), eq(PartyMemberRole.MEMBER)))
+                .thenReturn(List.of(applicant));
+        when(partyMemberRepository.updateInviteStatuses(List.of(10L), PartyMemberInviteStatus.PENDING, PartyMemberInviteStatus.REJECTED))
+                .thenReturn(1);
+        when(partyRepository.adjustSeats(1L, 0)).thenReturn(1);
+
+        partyService.handleJoinRequests(1L, authUser, List.of(
+                new PartyMemberUpdateRequest(2L, PartyMemberInviteStatus.ACCEPTED),
+                new PartyMemberUpdateRequest(2L, PartyMemberInviteStatus.REJECTED)));
+
+        verify(partyMemberRepository).updateInviteStatuses(List.of(10L), PartyMemberInviteStatus.PENDING, PartyMemberInviteStatus.REJECTED);
+        verify(partyMemberRepository, never()).updateInviteStatuses(any(), any(), eq(PartyMemberInviteStatus.ACCEPTED));
+        verify(partyMembershipCache).putAfterCommit(1L, 2L, PartyMemberInviteStatus.REJECTED);
+    }
+
+    // 파티장 본인은 신청한 파티원으로 조회되지 않으므로 파티 멤버를 찾을 수 없음
+    @Test
+    void handleJoinRequests_leaderItself() {
+        when(partyRepository.findByIdAndCreatorId(1L, authUser.getUserId())).thenReturn(Optional.of(party));
+        when(partyMemberRepository.findByPartyIdAndUserIdInAndRole(eq(1L), any(), eq(PartyMemberRole.MEMBER)))
+                .thenReturn(Collections.emptyList());
+
+        CustomException exception = assertThrows(CustomException.class, () -> partyService.handleJoinRequests(
+                1L, authUser, List.of(new PartyMemberUpdateRequest(authUser.getUserId(), PartyMemberInviteStatus.REJECTED))));
+
+        assertEquals(ErrorCode.PARTY_MEMBER_NOT_FOUND, exception.getErrorCode());
+        verify(partyMemberRepository, never()).updateInviteStatuses(any(), any(), any());
+    }
+
+    // 다른 요청이 먼저 신청 상태를 바꿨으면 충돌 예외로 전체를 재시도
+    @Test
+    void handleJoinRequests_concurrentChange() {
+        PartyMember applicant = partyMember(10L, 2L, PartyMemberInviteStatus.PENDING);
+        when(partyRepository.findByIdAndCreatorId(1L, authUser.getUserId())).thenReturn(Optional.of(party));
+        when(partyMemberRepository.findByPartyIdAndUserIdInAndRole(eq(1L), any(), eq(PartyMemberRole.MEMBER)))
+                .thenReturn(List.of(applicant));
+        when(partyMemberRepository.updateInviteStatuses(List.of(10L), PartyMemberInviteStatus.PENDING, PartyMemberInviteStatus.ACCEPTED))
+                .thenReturn(0);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> partyService.handleJoinRequests(
+                1L, authUser, List.of(new PartyMemberUpdateRequest(2L, PartyMemberInviteStatus.ACCEPTED))));
+
+        verify(partyRepository, never()).adjustSeats(any(), anyInt());
+        verify(partyMembershipCache, never()).putAfterCommit(any(), any(), any());
+    }
+
+    // 늘어나는 승인 인원이 정원을 넘으면 전체 요청을 롤백
+    @Test
+    void handleJoinRequests_overCapacity() {
+        PartyMember first = partyMember(10L, 2L, PartyMemberInviteStatus.PENDING);
+        PartyMember second = partyMember(11L, 3L, PartyMemberInviteStatus.PENDING);
+        when(partyRepository.findByIdAndCreatorId(1L, authUser.getUserId())).thenReturn(Optional.of(party));
+        when(partyMemberRepository.findByPartyIdAndUserIdInAndRole(eq(1L), any(), eq(PartyMemberRole.MEMBER)))
+                .thenReturn(List.of(first, second));
+        when(partyMemberRepository.updateInviteStatuses(List.of(10L, 11L), PartyMemberInviteStatus.PENDING, PartyMemberInviteStatus.ACCEPTED))
+                .thenReturn(2);
+        when(partyRepository.adjustSeats(1L, 2)).thenReturn(0);
+
+        CustomException exception = assertThrows(CustomException.class, () -> partyService.handleJoinRequests(1L, authUser, List.of(
+                new PartyMemberUpdateRequest(2L, PartyMemberInviteStatus.ACCEPTED),
+                new PartyMemberUpdateRequest(3L, PartyMemberInviteStatus.ACCEPTED))));
+
+        assertEquals(ErrorCode.PARTY_FULL, exception.getErrorCode());
+        verify(partyDetailCache, never()).evictAfterCommit(any(Long.class));
+        verify(partyMembershipCache, never()).putAfterCommit(any(), any(), any());
+    }
+
+    // 승인을 취소해 빈 자리는 대기자로 채움
+    @Test
+    void handleJoinRequests_releasedSeatsPromoteWaitlist() {
+        PartyMember accepted = partyMember(10L, 2L, PartyMemberInviteStatus.ACCEPTED);
+        when(partyRepository.findByIdAndCreatorId(1L, authUser.getUserId())).thenReturn(Optional.of(party));
+        when(partyMemberRepository.findByPartyIdAndUserIdInAndRole(eq(1L), any(), eq(PartyMemberRole.MEMBER)))
+                .thenReturn(List.of(accepted));
+        when(partyMemberRepository.updateInviteStatuses(List.of(10L), PartyMemberInviteStatus.ACCEPTED, PartyMemberInviteStatus.REJECTED))
+                .thenReturn(1);
+        when(partyRepository.adjustSeats(1L, -1)).thenReturn(1);
+
+        partyService.handleJoinRequests(1L, authUser, List.of(new PartyMemberUpdateRequest(2L, PartyMemberInviteStatus.REJECTED)));
+
+        verify(partyWaitlistService).promote(1L, 1);
+        verify(partyDetailCache).evictAfterCommit(1L);
+    }
+
+    private PartyMember partyMember(Long partyMemberId, Long userId, PartyMemberInviteStatus inviteStatus) {
+        User member = new User();
+        ReflectionTestUtils.setField(member, "id", userId);
+        PartyMember partyMember = new PartyMember(member, party, PartyMemberRole.MEMBER, inviteStatus);
+        ReflectionTestUtils.setField(partyMember, "id", partyMemberId);
+        return partyMember;
+    }
+
 }
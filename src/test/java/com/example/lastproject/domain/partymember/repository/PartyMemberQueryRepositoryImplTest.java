@@ -0,0 +1,103 @@
+package com.example.lastproject.domain.partymember.repository;
+
+import com.example.lastproject.config.PersistenceConfig;
+import com.example.lastproject.config.QueryDslConfig;
+import com.example.lastproject.domain.item.entity.Item;
+import com.example.lastproject.domain.item.repository.ItemRepository;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import com.example.lastproject.domain.partymember.dto.response.JoinRequestResponse;
+import com.example.lastproject.domain.partymember.dto.response.PartyMemberResponse;
+import com.example.lastproject.domain.partymember.entity.PartyMember;
+import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
+import com.example.lastproject.domain.partymember.enums.PartyMemberRole;
+import com.example.lastproject.domain.user.entity.User;
+import com.example.lastproject.domain.user.enums.UserRole;
+import com.example.lastproject.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({QueryDslConfig.class, PersistenceConfig.class})
+public class PartyMemberQueryRepositoryImplTest {
+
+    @Autowired
+    private PartyMemberRepository partyMemberRepository;
+
+    @Autowired
+    private PartyRepository partyRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Party party;
+
+    @BeforeEach
+    public void setUp() {
+        Item item = itemRepository.save(new Item("과일", "사과"));
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        party = partyRepository.save(new Party(
+                "이마트", "서울 강남구 역삼동", new BigDecimal("37.5"), new BigDecimal("127.0"),
+                item, 1, "kg", startTime.format(formatter), startTime.plusHours(1).format(formatter),
+                10, 1L));
+    }
+
+    private PartyMember saveMember(String nickname, PartyMemberInviteStatus inviteStatus) {
+        User user = userRepository.save(new User(nickname + "@test.com", "password", nickname, "서울 강남구",
+                new BigDecimal("37.5"), new BigDecimal("127.0"), UserRole.ROLE_USER));
+        return partyMemberRepository.save(new PartyMember(user, party, PartyMemberRole.MEMBER, inviteStatus));
+    }
+
+    @Test
+    public void 승인_대기_중인_신청만_신청_순으로_페이지를_나누어_조회한다() {
+        // given
+        PartyMember first = saveMember("first", PartyMemberInviteStatus.PENDING);
+        saveMember("accepted", PartyMemberInviteStatus.ACCEPTED);
+        PartyMember second = saveMember("second", PartyMemberInviteStatus.PENDING);
+        PartyMember third = saveMember("third", PartyMemberInviteStatus.PENDING);
+
+        // when
+        List<JoinRequestResponse> firstPage = partyMemberRepository.findJoinRequests(
+                party.getId(), PartyMemberInviteStatus.PENDING, null, 2);
+        List<JoinRequestResponse> secondPage = partyMemberRepository.findJoinRequests(
+                party.getId(), PartyMemberInviteStatus.PENDING, firstPage.get(1).getPartyMemberId(), 2);
+
+        // then
+        assertEquals(List.of(first.getId(), second.getId()), firstPage.stream().map(JoinRequestResponse::getPartyMemberId).toList());
+        assertEquals("first", firstPage.get(0).getNickname());
+        assertEquals(first.getUser().getId(), firstPage.get(0).getUserId());
+        assertEquals(List.of(third.getId()), secondPage.stream().map(JoinRequestResponse::getPartyMemberId).toList());
+    }
+
+    @Test
+    public void 승인된_파티원만_조회한다() {
+        // given
+        saveMember("pending", PartyMemberInviteStatus.PENDING);
+        PartyMember accepted = saveMember("accepted", PartyMemberInviteStatus.ACCEPTED);
+        saveMember("rejected", PartyMemberInviteStatus.REJECTED);
+
+        // when
+        List<PartyMemberResponse> members = partyMemberRepository.findPartyMembers(
+                party.getId(), PartyMemberInviteStatus.ACCEPTED, null, 10);
+
+        // then
+        assertEquals(1, members.size());
+        assertEquals(accepted.getId(), members.get(0).getId());
+        assertEquals(PartyMemberRole.MEMBER, members.get(0).getRole());
+    }
+
+}
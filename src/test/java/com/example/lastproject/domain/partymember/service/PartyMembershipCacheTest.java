@@ -0,0 +1,147 @@
+package com.example.lastproject.domain.partymember.service;
+
+import com.example.lastproject.domain.partymember.entity.PartyMember;
+import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
+import com.example.lastproject.domain.partymember.enums.PartyMemberRole;
+import com.example.lastproject.domain.partymember.repository.PartyMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PartyMembershipCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private PartyMemberRepository partyMemberRepository;
+
+    @InjectMocks
+    private PartyMembershipCache partyMembershipCache;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(partyMembershipCache, "ttlMs", 600000L);
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    public void 캐시에_불러온_파티는_DB_를_조회하지_않는다() {
+        // given
+        given(hashOperations.multiGet(eq("party:members:1"), any())).willReturn(Arrays.asList("ACCEPTED", "1"));
+
+        // when
+        boolean accepted = partyMembershipCache.isAccepted(1L, 2L);
+
+        // then
+        assertTrue(accepted);
+        verifyNoInteractions(partyMemberRepository);
+    }
+
+    @Test
+    public void 불러온_파티에_없는_사용자는_파티원이_아니다() {
+        // given
+        given(hashOperations.multiGet(eq("party:members:1"), any())).willReturn(Arrays.asList(null, "1"));
+
+        // when
+        boolean member = partyMembershipCache.isMember(1L, 2L);
+
+        // then
+        assertFalse(member);
+        verifyNoInteractions(partyMemberRepository);
+    }
+
+    @Test
+    public void 처음_조회하면_파티의_신청_상태를_비어_있는_필드에만_불러온다() {
+        // given
+        given(hashOperations.multiGet(eq("party:members:1"), any())).willReturn(Arrays.asList(null, null));
+        given(partyMemberRepository.findInviteStatuses(1L)).willReturn(Map.of(2L, PartyMemberInviteStatus.PENDING));
+
+        // when
+        Optional<PartyMemberInviteStatus> status = partyMembershipCache.getInviteStatus(1L, 2L);
+
+        // then
+        assertEquals(Optional.of(PartyMemberInviteStatus.PENDING), status);
+        verify(redisTemplate).execute(argThat((RedisScript<?> script) -> script.getScriptAsString().contains("HSETNX")),
+                eq(List.of("party:members:1")), eq("600000"), eq("_loaded"), eq("2"), eq("PENDING"));
+        verify(hashOperations, never()).putAll(any(), anyMap());
+    }
+
+    @Test
+    public void 나간_사용자로_표시된_필드는_파티원이_아니다() {
+        // given
+        given(hashOperations.multiGet(eq("party:members:1"), any())).willReturn(Arrays.asList("_removed", "1"));
+
+        // when
+        boolean member = partyMembershipCache.isMember(1L, 2L);
+
+        // then
+        assertFalse(member);
+        verifyNoInteractions(partyMemberRepository);
+    }
+
+    @Test
+    public void Redis_장애_시에는_DB_로_확인한다() {
+        // given
+        given(hashOperations.multiGet(eq("party:members:1"), any()))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+        given(partyMemberRepository.findByPartyIdAndUserId(1L, 2L)).willReturn(Optional.of(
+                new PartyMember(null, null, PartyMemberRole.MEMBER, PartyMemberInviteStatus.REJECTED)));
+
+        // when
+        boolean member = partyMembershipCache.isMember(1L, 2L);
+        boolean accepted = partyMembershipCache.isAccepted(1L, 2L);
+
+        // then
+        assertTrue(member);
+        assertFalse(accepted);
+    }
+
+    @Test
+    public void 상태_변경은_불러오기_여부와_관계없이_캐시에_쓴다() {
+        // when
+        partyMembershipCache.putAfterCommit(1L, 2L, PartyMemberInviteStatus.ACCEPTED);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("party:members:1")),
+                eq("2"), eq("ACCEPTED"), eq("600000"));
+        verify(hashOperations, never()).hasKey(any(), any());
+    }
+
+    @Test
+    public void 나간_사용자는_삭제_대신_나감으로_표시한다() {
+        // when
+        partyMembershipCache.removeAfterCommit(1L, 2L);
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("party:members:1")),
+                eq("2"), eq("_removed"), eq("600000"));
+        verify(hashOperations, never()).delete(any(), any());
+    }
+
+}
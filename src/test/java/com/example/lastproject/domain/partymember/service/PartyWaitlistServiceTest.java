@@ -0,0 +1,232 @@
+package com.example.lastproject.domain.partymember.service;
+
+import com.example.lastproject.domain.notification.dto.NotificationEvent;
+import com.example.lastproject.domain.notification.rabbitmq.config.RabbitMqProducerConfig;
+import com.example.lastproject.domain.notification.rabbitmq.producer.NotificationEventPublisher;
+import com.example.lastproject.domain.party.cache.PartyDetailCache;
+import com.example.lastproject.domain.party.entity.Party;
+import com.example.lastproject.domain.party.repository.PartyRepository;
+import com.example.lastproject.domain.partymember.entity.PartyMember;
+import com.example.lastproject.domain.partymember.enums.PartyMemberInviteStatus;
+import com.example.lastproject.domain.partymember.enums.PartyMemberRole;
+import com.example.lastproject.domain.partymember.repository.PartyMemberRepository;
+import com.example.lastproject.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PartyWaitlistServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private PartyRepository partyRepository;
+
+    @Mock
+    private PartyMemberRepository partyMemberRepository;
+
+    @Mock
+    private PartyMembershipCache partyMembershipCache;
+
+    @Mock
+    private PartyDetailCache partyDetailCache;
+
+    @Mock
+    private RabbitMqProducerConfig rabbitMqConfig;
+
+    @Mock
+    private NotificationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private PartyWaitlistService partyWaitlistService;
+
+    @BeforeEach
+    public void setUp() {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+    }
+
+    private PartyMember waitlisted(Long partyMemberId, Long userId) {
+        User user = new User();
+        ReflectionTestUtils.setField(user, "id", userId);
+        PartyMember partyMember = new PartyMember(user, null, PartyMemberRole.MEMBER, PartyMemberInviteStatus.WAITLISTED);
+        ReflectionTestUtils.setField(partyMember, "id", partyMemberId);
+        return partyMember;
+    }
+
+    @Test
+    public void 가장_먼저_신청한_대기자를_승인하고_좌석을_예약한다() {
+        // given
+        given(zSetOperations.popMin("party:waitlist:1")).willReturn(new DefaultTypedTuple<>("10", 10.0));
+        given(partyMemberRepository.updateInviteStatus(10L, PartyMemberInviteStatus.WAITLISTED, PartyMemberInviteStatus.ACCEPTED))
+                .willReturn(1);
+        given(partyRepository.reserveSeat(1L)).willReturn(1);
+        given(partyMemberRepository.findById(10L)).willReturn(Optional.of(waitlisted(10L, 2L)));
+        given(partyRepository.findWithItemById(1L)).willReturn(Optional.empty());
+
+        // when
+        int promoted = partyWaitlistService.promote(1L, 1);
+
+        // then
+        assertEquals(1, promoted);
+        verify(partyMembershipCache).putAfterCommit(1L, 2L, PartyMemberInviteStatus.ACCEPTED);
+        verify(partyDetailCache).evictAfterCommit(1L);
+    }
+
+    @Test
+    public void 이미_처리된_대기자는_건너뛰고_다음_대기자를_승인한다() {
+        // given
+        given(zSetOperations.popMin("party:waitlist:1"))
+                .willReturn(new DefaultTypedTuple<>("10", 10.0))
+                .willReturn(new DefaultTypedTuple<>("11", 11.0));
+        given(partyMemberRepository.updateInviteStatus(10L, PartyMemberInviteStatus.WAITLISTED, PartyMemberInviteStatus.ACCEPTED))
+                .willReturn(0);
+        given(partyMemberRepository.updateInviteStatus(11L, PartyMemberInviteStatus.WAITLISTED, PartyMemberInviteStatus.ACCEPTED))
+                .willReturn(1);
+        given(partyRepository.reserveSeat(1L)).willReturn(1);
+        given(partyMemberRepository.findById(11L)).willReturn(Optional.of(waitlisted(11L, 3L)));
+        given(partyRepository.findWithItemById(1L)).willReturn(Optional.empty());
+
+        // when
+        int promoted = partyWaitlistService.promote(1L, 1);
+
+        // then
+        assertEquals(1, promoted);
+        verify(partyRepository, times(1)).reserveSeat(1L);
+        verify(partyMembershipCache).putAfterCommit(1L, 3L, PartyMemberInviteStatus.ACCEPTED);
+    }
+
+    @Test
+    public void 좌석을_예약하지_못하면_대기_상태로_되돌리고_대기열에_다시_넣는다() {
+        // given
+        given(zSetOperations.popMin("party:waitlist:1")).willReturn(new DefaultTypedTuple<>("10", 10.0));
+        given(partyMemberRepository.updateInviteStatus(10L, PartyMemberInviteStatus.WAITLISTED, PartyMemberInviteStatus.ACCEPTED))
+                .willReturn(1);
+        given(partyRepository.reserveSeat(1L)).willReturn(0);
+
+        // when
+        int promoted = partyWaitlistService.promote(1L, 1);
+
+        // then
+        assertEquals(0, promoted);
+        verify(partyMemberRepository).updateInviteStatus(10L, PartyMemberInviteStatus.ACCEPTED, PartyMemberInviteStatus.WAITLISTED);
+        verify(zSetOperations).add("party:waitlist:1", "10", 10.0);
+        verifyNoInteractions(partyMembershipCache, partyDetailCache, eventPublisher);
+    }
+
+    @Test
+    public void Redis_장애_시_DB_에서_가장_먼저_신청한_대기자를_찾는다() {
+        // given
+        given(zSetOperations.popMin(anyString())).willThrow(new RedisConnectionFailureException("connection refused"));
+        given(partyMemberRepository.findFirstByPartyIdAndInviteStatusOrderByIdAsc(1L, PartyMemberInviteStatus.WAITLISTED))
+                .willReturn(Optional.of(waitlisted(10L, 2L)));
+        given(partyMemberRepository.updateInviteStatus(10L, PartyMemberInviteStatus.WAITLISTED, PartyMemberInviteStatus.ACCEPTED))
+                .willReturn(1);
+        given(partyRepository.reserveSeat(1L)).willReturn(1);
+        given(partyMemberRepository.findById(10L)).willReturn(Optional.of(waitlisted(10L, 2L)));
+        given(partyRepository.findWithItemById(1L)).willReturn(Optional.empty());
+
+        // when
+        int promoted = partyWaitlistService.promote(1L, 1);
+
+        // then
+        assertEquals(1, promoted);
+    }
+
+    @Test
+    public void 대기자가_없으면_아무것도_승인하지_않는다() {
+        // given
+        given(zSetOperations.popMin("party:waitlist:1")).willReturn(null);
+        given(partyMemberRepository.findFirstByPartyIdAndInviteStatusOrderByIdAsc(1L, PartyMemberInviteStatus.WAITLISTED))
+                .willReturn(Optional.empty());
+
+        // when
+        int promoted = partyWaitlistService.promote(1L, 2);
+
+        // then
+        assertEquals(0, promoted);
+        verify(partyRepository, never()).reserveSeat(any());
+        verify(eventPublisher, never()).publish(anyString(), anyString(), any(NotificationEvent.class));
+    }
+
+    @Test
+    public void 대기열에_넣은_뒤_자리가_남아_있으면_바로_승인을_시도한다() {
+        // given
+        given(partyRepository.findById(1L)).willReturn(Optional.of(party(4, 3)));
+        given(zSetOperations.popMin("party:waitlist:1")).willReturn(null);
+        given(partyMemberRepository.findFirstByPartyIdAndInviteStatusOrderByIdAsc(1L, PartyMemberInviteStatus.WAITLISTED))
+                .willReturn(Optional.empty());
+
+        // when
+        partyWaitlistService.enqueueAfterCommit(1L, 10L);
+
+        // then
+        verify(zSetOperations).add("party:waitlist:1", "10", 10.0);
+        verify(zSetOperations).popMin("party:waitlist:1");
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void 대기열에_넣은_뒤_바로_승인되면_파티_상세_캐시를_비운다() {
+        // given
+        given(partyRepository.findById(1L)).willReturn(Optional.of(party(4, 3)));
+        given(zSetOperations.popMin("party:waitlist:1")).willReturn(new DefaultTypedTuple<>("10", 10.0));
+        given(partyMemberRepository.updateInviteStatus(10L, PartyMemberInviteStatus.WAITLISTED, PartyMemberInviteStatus.ACCEPTED))
+                .willReturn(1);
+        given(partyRepository.reserveSeat(1L)).willReturn(1);
+        given(partyMemberRepository.findById(10L)).willReturn(Optional.of(waitlisted(10L, 2L)));
+        given(partyRepository.findWithItemById(1L)).willReturn(Optional.empty());
+
+        // when
+        partyWaitlistService.enqueueAfterCommit(1L, 10L);
+
+        // then
+        verify(partyDetailCache).evictAfterCommit(1L);
+        verify(partyMembershipCache).putAfterCommit(1L, 2L, PartyMemberInviteStatus.ACCEPTED);
+    }
+
+    @Test
+    public void 대기열에_넣은_뒤에도_정원이_차_있으면_승인하지_않는다() {
+        // given
+        given(partyRepository.findById(1L)).willReturn(Optional.of(party(4, 4)));
+
+        // when
+        partyWaitlistService.enqueueAfterCommit(1L, 10L);
+
+        // then
+        verify(zSetOperations).add("party:waitlist:1", "10", 10.0);
+        verify(zSetOperations, never()).popMin(anyString());
+    }
+
+    private Party party(int membersCount, int acceptedCount) {
+        Party party = new Party("이마트", "서울 강남구 역삼동", null, null, null, 1, "kg",
+                "2024-10-01 12:00:00", "2024-10-01 13:00:00", membersCount, 1L);
+        ReflectionTestUtils.setField(party, "acceptedCount", acceptedCount);
+        return party;
+    }
+
+}